@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.benchmarks;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+
+/**
+ * The entities used in the benchmarks: a flat entity with simple properties, an entity with nested objects and an
+ * entity with many collection values.
+ */
+public final class BenchmarkEntities {
+
+	private BenchmarkEntities() {}
+
+	/**
+	 * @return a converter that has the mapping of the benchmark entities initialized.
+	 */
+	public static MappingElasticsearchConverter converter() {
+
+		SimpleElasticsearchMappingContext mappingContext = new SimpleElasticsearchMappingContext();
+		mappingContext.setInitialEntitySet(Set.of(FlatEntity.class, NestedEntity.class, CollectionEntity.class));
+		mappingContext.afterPropertiesSet();
+
+		MappingElasticsearchConverter converter = new MappingElasticsearchConverter(mappingContext);
+		converter.afterPropertiesSet();
+		return converter;
+	}
+
+	public static FlatEntity flatEntity(int id) {
+
+		FlatEntity entity = new FlatEntity();
+		entity.id = String.valueOf(id);
+		entity.name = "name of entity " + id;
+		entity.category = "category-" + (id % 10);
+		entity.count = id;
+		entity.price = id * 1.5;
+		entity.active = id % 2 == 0;
+		entity.created = LocalDate.of(2026, 1, 1).plusDays(id % 365);
+		entity.status = Status.values()[id % Status.values().length];
+		return entity;
+	}
+
+	public static NestedEntity nestedEntity(int id) {
+
+		NestedEntity entity = new NestedEntity();
+		entity.id = String.valueOf(id);
+		entity.name = "order " + id;
+
+		Address address = new Address();
+		address.street = "Main Street " + id;
+		address.city = "Springfield";
+		address.zipCode = "12345";
+		entity.address = address;
+
+		entity.lines = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			Line line = new Line();
+			line.product = "product-" + i;
+			line.quantity = i + 1;
+			line.price = (i + 1) * 9.99;
+			entity.lines.add(line);
+		}
+		return entity;
+	}
+
+	public static CollectionEntity collectionEntity(int id) {
+
+		CollectionEntity entity = new CollectionEntity();
+		entity.id = String.valueOf(id);
+		entity.tags = new ArrayList<>();
+		entity.numbers = new ArrayList<>();
+		entity.dates = new ArrayList<>();
+		entity.attributes = new LinkedHashMap<>();
+
+		for (int i = 0; i < 50; i++) {
+			entity.tags.add("tag-" + i);
+			entity.numbers.add((long) id * i);
+			entity.dates.add(LocalDate.of(2026, 1, 1).plusDays(i));
+			entity.attributes.put("attribute-" + i, "value-" + i);
+		}
+		return entity;
+	}
+
+	public enum Status {
+		NEW, ACTIVE, ARCHIVED
+	}
+
+	@Document(indexName = "benchmark-flat")
+	public static class FlatEntity {
+		@Id
+		@Nullable public String id;
+		@Field(type = FieldType.Text) @Nullable public String name;
+		@Field(type = FieldType.Keyword) @Nullable public String category;
+		@Field(type = FieldType.Integer) @Nullable public Integer count;
+		@Field(type = FieldType.Double) @Nullable public Double price;
+		@Field(type = FieldType.Boolean) public boolean active;
+		@Field(type = FieldType.Date, format = DateFormat.date) @Nullable public LocalDate created;
+		@Field(type = FieldType.Keyword) @Nullable public Status status;
+	}
+
+	@Document(indexName = "benchmark-nested")
+	public static class NestedEntity {
+		@Id
+		@Nullable public String id;
+		@Field(type = FieldType.Text) @Nullable public String name;
+		@Field(type = FieldType.Object) @Nullable public Address address;
+		@Field(type = FieldType.Nested) @Nullable public List<Line> lines;
+	}
+
+	public static class Address {
+		@Field(type = FieldType.Text) @Nullable public String street;
+		@Field(type = FieldType.Keyword) @Nullable public String city;
+		@Field(type = FieldType.Keyword, name = "zip-code") @Nullable public String zipCode;
+	}
+
+	public static class Line {
+		@Field(type = FieldType.Keyword) @Nullable public String product;
+		@Field(type = FieldType.Integer) @Nullable public Integer quantity;
+		@Field(type = FieldType.Double) @Nullable public Double price;
+	}
+
+	@Document(indexName = "benchmark-collection")
+	public static class CollectionEntity {
+		@Id
+		@Nullable public String id;
+		@Field(type = FieldType.Keyword) @Nullable public List<String> tags;
+		@Field(type = FieldType.Long) @Nullable public List<Long> numbers;
+		@Field(type = FieldType.Date, format = DateFormat.date) @Nullable public List<LocalDate> dates;
+		@Field(type = FieldType.Object) @Nullable public Map<String, String> attributes;
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.elasticsearch.benchmarks.BenchmarkEntities;
+import org.springframework.data.elasticsearch.benchmarks.BenchmarkEntities.NestedEntity;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.SearchDocument;
+
+/**
+ * Benchmarks for the adaptation of returned search hits to {@link SearchDocument}s and for reading entities from them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DocumentAdaptersBenchmark {
+
+	private MappingElasticsearchConverter converter;
+	private JsonpMapper jsonpMapper;
+	private Hit<EntityAsMap> hit;
+
+	@Setup
+	public void setup() {
+
+		converter = BenchmarkEntities.converter();
+		jsonpMapper = new JacksonJsonpMapper();
+
+		EntityAsMap source = new EntityAsMap();
+		source.putAll(converter.mapObject(BenchmarkEntities.nestedEntity(42)));
+
+		hit = new Hit.Builder<EntityAsMap>() //
+				.index("benchmark-nested") //
+				.id("42") //
+				.score(1.0) //
+				.seqNo(7L) //
+				.primaryTerm(1L) //
+				.source(source) //
+				.build();
+	}
+
+	@Benchmark
+	public SearchDocument adaptHit() {
+		return DocumentAdapters.from(hit, jsonpMapper);
+	}
+
+	@Benchmark
+	public NestedEntity adaptHitAndReadEntity() {
+		return converter.read(NestedEntity.class, DocumentAdapters.from(hit, jsonpMapper));
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.json.NdJsonpSerializable;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import jakarta.json.stream.JsonGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.elasticsearch.benchmarks.BenchmarkEntities;
+import org.springframework.data.elasticsearch.benchmarks.BenchmarkEntities.FlatEntity;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+
+/**
+ * Benchmarks for the translation of criteria queries and the creation of search and bulk requests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RequestConverterBenchmark {
+
+	private static final IndexCoordinates INDEX = IndexCoordinates.of("benchmark-flat");
+
+	@Param({ "100", "1000" }) public int bulkSize;
+
+	private JsonpMapper jsonpMapper;
+	private RequestConverter requestConverter;
+	private Criteria criteria;
+	private List<IndexQuery> indexQueries;
+
+	@Setup
+	public void setup() {
+
+		MappingElasticsearchConverter converter = BenchmarkEntities.converter();
+		jsonpMapper = new JacksonJsonpMapper();
+		requestConverter = new RequestConverter(converter, jsonpMapper);
+
+		criteria = new Criteria("name").contains("entity") //
+				.and(new Criteria("category").in("category-1", "category-2", "category-3")) //
+				.and(new Criteria("count").between(10, 100)) //
+				.subCriteria(new Criteria("active").is(true).or("status").is("NEW"));
+
+		indexQueries = new ArrayList<>(bulkSize);
+		for (int i = 0; i < bulkSize; i++) {
+			FlatEntity entity = BenchmarkEntities.flatEntity(i);
+			indexQueries.add(new IndexQueryBuilder().withId(entity.id).withObject(entity).build());
+		}
+	}
+
+	@Benchmark
+	public co.elastic.clients.elasticsearch._types.query_dsl.Query translateCriteria() {
+		return CriteriaQueryProcessor.createQuery(criteria);
+	}
+
+	@Benchmark
+	public SearchRequest buildSearchRequest() {
+		return requestConverter.searchRequest(new CriteriaQuery(criteria), null, FlatEntity.class, INDEX, false);
+	}
+
+	@Benchmark
+	public BulkRequest buildBulkRequest() {
+		return requestConverter.documentBulkRequest(indexQueries, BulkOptions.defaultOptions(), INDEX, null);
+	}
+
+	/**
+	 * builds the bulk request and writes its body, the entities are converted while the body is written.
+	 */
+	@Benchmark
+	public byte[] buildAndWriteBulkRequest() {
+
+		BulkRequest bulkRequest = requestConverter.documentBulkRequest(indexQueries, BulkOptions.defaultOptions(), INDEX,
+				null);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		writeNdJson(bulkRequest, out);
+		return out.toByteArray();
+	}
+
+	/**
+	 * writes the lines of a newline delimited request body like the transport of the client does.
+	 */
+	private void writeNdJson(NdJsonpSerializable value, ByteArrayOutputStream out) {
+
+		Iterator<?> values = value._serializables();
+		while (values.hasNext()) {
+			Object item = values.next();
+			if (item instanceof NdJsonpSerializable ndJsonpSerializable && item != value) {
+				writeNdJson(ndJsonpSerializable, out);
+			} else {
+				JsonGenerator generator = jsonpMapper.jsonProvider().createGenerator(out);
+				jsonpMapper.serialize(item, generator);
+				generator.close();
+				out.write('\n');
+			}
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.convert;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.elasticsearch.benchmarks.BenchmarkEntities;
+import org.springframework.data.elasticsearch.benchmarks.BenchmarkEntities.CollectionEntity;
+import org.springframework.data.elasticsearch.benchmarks.BenchmarkEntities.FlatEntity;
+import org.springframework.data.elasticsearch.benchmarks.BenchmarkEntities.NestedEntity;
+import org.springframework.data.elasticsearch.core.document.Document;
+
+/**
+ * Benchmarks for reading and writing entities with the {@link MappingElasticsearchConverter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MappingElasticsearchConverterBenchmark {
+
+	private MappingElasticsearchConverter converter;
+
+	private FlatEntity flatEntity;
+	private NestedEntity nestedEntity;
+	private CollectionEntity collectionEntity;
+
+	private Document flatDocument;
+	private Document nestedDocument;
+	private Document collectionDocument;
+
+	@Setup
+	public void setup() {
+
+		converter = BenchmarkEntities.converter();
+
+		flatEntity = BenchmarkEntities.flatEntity(42);
+		nestedEntity = BenchmarkEntities.nestedEntity(42);
+		collectionEntity = BenchmarkEntities.collectionEntity(42);
+
+		// round trip through JSON so that the documents contain what is returned from Elasticsearch
+		flatDocument = Document.parse(converter.mapObject(flatEntity).toJson());
+		nestedDocument = Document.parse(converter.mapObject(nestedEntity).toJson());
+		collectionDocument = Document.parse(converter.mapObject(collectionEntity).toJson());
+	}
+
+	@Benchmark
+	public Document writeFlatEntity() {
+		return converter.mapObject(flatEntity);
+	}
+
+	@Benchmark
+	public Document writeNestedEntity() {
+		return converter.mapObject(nestedEntity);
+	}
+
+	@Benchmark
+	public Document writeCollectionEntity() {
+		return converter.mapObject(collectionEntity);
+	}
+
+	@Benchmark
+	public FlatEntity readFlatEntity() {
+		return converter.read(FlatEntity.class, flatDocument);
+	}
+
+	@Benchmark
+	public NestedEntity readNestedEntity() {
+		return converter.read(NestedEntity.class, nestedDocument);
+	}
+
+	@Benchmark
+	public CollectionEntity readCollectionEntity() {
+		return converter.read(CollectionEntity.class, collectionDocument);
+	}
+}
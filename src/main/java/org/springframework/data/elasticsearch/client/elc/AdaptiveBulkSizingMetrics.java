@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.data.elasticsearch.core.query.AdaptiveBulkSizing;
+import org.springframework.util.Assert;
+
+/**
+ * {@link MeterBinder} exposing the state of an {@link AdaptiveBulkSizing} as gauges. The gauges use the same prefix as
+ * the {@link ElasticsearchObservation} metrics:
+ * <ul>
+ * <li>{@code spring.data.elasticsearch.bulk.batch.size}: the current number of operations per bulk request</li>
+ * <li>{@code spring.data.elasticsearch.bulk.throughput}: the operations per second of the last bulk request</li>
+ * </ul>
+ * Requires {@code io.micrometer:micrometer-core} on the classpath.
+ *
+ * @since 6.2
+ */
+public class AdaptiveBulkSizingMetrics implements MeterBinder {
+
+	public static final String BATCH_SIZE_METRIC_NAME = "spring.data.elasticsearch.bulk.batch.size";
+	public static final String THROUGHPUT_METRIC_NAME = "spring.data.elasticsearch.bulk.throughput";
+
+	private final AdaptiveBulkSizing adaptiveBulkSizing;
+	private final Iterable<Tag> tags;
+
+	public AdaptiveBulkSizingMetrics(AdaptiveBulkSizing adaptiveBulkSizing) {
+		this(adaptiveBulkSizing, Tags.empty());
+	}
+
+	public AdaptiveBulkSizingMetrics(AdaptiveBulkSizing adaptiveBulkSizing, Iterable<Tag> tags) {
+
+		Assert.notNull(adaptiveBulkSizing, "adaptiveBulkSizing must not be null");
+		Assert.notNull(tags, "tags must not be null");
+
+		this.adaptiveBulkSizing = adaptiveBulkSizing;
+		this.tags = tags;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+
+		Gauge.builder(BATCH_SIZE_METRIC_NAME, adaptiveBulkSizing, AdaptiveBulkSizing::getCurrentBatchSize) //
+				.description("The current number of operations per bulk request") //
+				.baseUnit("operations") //
+				.tags(tags) //
+				.register(registry);
+
+		Gauge.builder(THROUGHPUT_METRIC_NAME, adaptiveBulkSizing, AdaptiveBulkSizing::getThroughput) //
+				.description("The number of operations per second of the last bulk request") //
+				.baseUnit("operations/s") //
+				.tags(tags) //
+				.register(registry);
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.BeansException;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.data.elasticsearch.core.AsyncElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.ReactiveElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.SearchPage;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.util.Assert;
+
+/**
+ * Implementation of {@link AsyncElasticsearchOperations} on top of a {@link ReactiveElasticsearchOperations}. The
+ * reactive operations send the requests with the asynchronous transport and use the same request and response
+ * conversion, entity callbacks and observations as the reactive template; the results are returned as
+ * {@link CompletableFuture}s so that no Reactor types are needed in the calling code.
+ *
+ * @since 6.2
+ */
+public class AsyncElasticsearchTemplate implements AsyncElasticsearchOperations, ApplicationContextAware {
+
+	private final ReactiveElasticsearchOperations reactiveOperations;
+
+	public AsyncElasticsearchTemplate(ReactiveElasticsearchClient client, ElasticsearchConverter converter) {
+		this(new ReactiveElasticsearchTemplate(client, converter));
+	}
+
+	public AsyncElasticsearchTemplate(ReactiveElasticsearchOperations reactiveOperations) {
+
+		Assert.notNull(reactiveOperations, "reactiveOperations must not be null");
+
+		this.reactiveOperations = reactiveOperations;
+	}
+
+	@Override
+	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+
+		if (reactiveOperations instanceof ApplicationContextAware applicationContextAware) {
+			applicationContextAware.setApplicationContext(applicationContext);
+		}
+	}
+
+	/**
+	 * @return the reactive operations that execute the requests
+	 */
+	public ReactiveElasticsearchOperations getReactiveOperations() {
+		return reactiveOperations;
+	}
+
+	@Override
+	public ElasticsearchConverter getElasticsearchConverter() {
+		return reactiveOperations.getElasticsearchConverter();
+	}
+
+	@Override
+	public IndexCoordinates getIndexCoordinatesFor(Class<?> clazz) {
+		return reactiveOperations.getIndexCoordinatesFor(clazz);
+	}
+
+	// region document operations
+	@Override
+	public <T> CompletableFuture<T> save(T entity) {
+		return reactiveOperations.save(entity).toFuture();
+	}
+
+	@Override
+	public <T> CompletableFuture<T> save(T entity, IndexCoordinates index) {
+		return reactiveOperations.save(entity, index).toFuture();
+	}
+
+	@Override
+	public <T> CompletableFuture<List<T>> saveAll(Iterable<T> entities, Class<T> clazz) {
+		return reactiveOperations.saveAll(entities, clazz).collectList().toFuture();
+	}
+
+	@Override
+	public <T> CompletableFuture<List<T>> saveAll(Iterable<T> entities, IndexCoordinates index) {
+		return reactiveOperations.saveAll(entities, index).collectList().toFuture();
+	}
+
+	@Override
+	public <T> CompletableFuture<T> get(String id, Class<T> clazz) {
+		return reactiveOperations.get(id, clazz).toFuture();
+	}
+
+	@Override
+	public <T> CompletableFuture<T> get(String id, Class<T> clazz, IndexCoordinates index) {
+		return reactiveOperations.get(id, clazz, index).toFuture();
+	}
+
+	@Override
+	public <T> CompletableFuture<List<MultiGetItem<T>>> multiGet(Query query, Class<T> clazz) {
+		return reactiveOperations.multiGet(query, clazz).collectList().toFuture();
+	}
+
+	@Override
+	public <T> CompletableFuture<List<MultiGetItem<T>>> multiGet(Query query, Class<T> clazz, IndexCoordinates index) {
+		return reactiveOperations.multiGet(query, clazz, index).collectList().toFuture();
+	}
+	// endregion
+
+	// region search operations
+	@Override
+	public <T> CompletableFuture<SearchHits<T>> search(Query query, Class<T> clazz) {
+		return search(query, clazz, getIndexCoordinatesFor(clazz));
+	}
+
+	@Override
+	public <T> CompletableFuture<SearchHits<T>> search(Query query, Class<T> clazz, IndexCoordinates index) {
+		return reactiveOperations.searchForPage(query, clazz, index).map(SearchPage::getSearchHits).toFuture();
+	}
+
+	@Override
+	public CompletableFuture<Long> count(Query query, Class<?> clazz) {
+		return reactiveOperations.count(query, clazz).toFuture();
+	}
+
+	@Override
+	public CompletableFuture<Long> count(Query query, Class<?> clazz, IndexCoordinates index) {
+		return reactiveOperations.count(query, clazz, index).toFuture();
+	}
+	// endregion
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.BulkIngester;
+import org.springframework.data.elasticsearch.core.BulkIngesterListener;
+import org.springframework.data.elasticsearch.core.IndexedObjectInformation;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.BulkIngesterOptions;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.util.Assert;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkListener;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+
+/**
+ * {@link BulkIngester} implementation based on the {@link co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester}
+ * of the Elasticsearch client. The queries added to the ingester are used as context of the bulk operations, so that
+ * the results from the bulk responses can be assigned to them.
+ *
+ * @since 6.2
+ */
+final class ElasticsearchBulkIngester implements BulkIngester {
+
+	private static final Log LOGGER = LogFactory.getLog(ElasticsearchBulkIngester.class);
+
+	private final RequestConverter requestConverter;
+	private final IndexCoordinates index;
+	@Nullable private final RefreshPolicy refreshPolicy;
+	private final Callbacks callbacks;
+	@Nullable private final BulkIngesterListener listener;
+	private final co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester<Object> delegate;
+
+	ElasticsearchBulkIngester(ElasticsearchClient client, RequestConverter requestConverter, IndexCoordinates index,
+			BulkIngesterOptions options, @Nullable RefreshPolicy refreshPolicy, Callbacks callbacks) {
+
+		Assert.notNull(client, "client must not be null");
+		Assert.notNull(requestConverter, "requestConverter must not be null");
+		Assert.notNull(index, "index must not be null");
+		Assert.notNull(options, "options must not be null");
+		Assert.notNull(callbacks, "callbacks must not be null");
+
+		this.requestConverter = requestConverter;
+		this.index = index;
+		this.refreshPolicy = refreshPolicy;
+		this.callbacks = callbacks;
+		this.listener = options.getListener();
+
+		this.delegate = co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester.of(b -> {
+			b.client(client) //
+					.maxOperations(options.getMaxOperations() > 0 ? options.getMaxOperations() : -1) //
+					.maxSize(options.getMaxSizeInBytes() > 0 ? options.getMaxSizeInBytes() : -1) //
+					.maxConcurrentRequests(options.getMaxConcurrentRequests()) //
+					.globalSettings(gs -> requestConverter.documentBulkRequestSettings(gs, options.getBulkOptions(),
+							refreshPolicy)) //
+					.listener(new Listener());
+
+			if (options.getFlushInterval() != null) {
+				b.flushInterval(options.getFlushInterval().toMillis(), TimeUnit.MILLISECONDS);
+			}
+			return b;
+		});
+	}
+
+	@Override
+	public void add(Object entity) {
+
+		Assert.notNull(entity, "entity must not be null");
+
+		if (entity instanceof IndexQuery indexQuery) {
+			add(indexQuery);
+		} else if (entity instanceof UpdateQuery updateQuery) {
+			add(updateQuery);
+		} else {
+			add(callbacks.indexQueryFor(entity));
+		}
+	}
+
+	@Override
+	public void add(IndexQuery indexQuery) {
+
+		Assert.notNull(indexQuery, "indexQuery must not be null");
+
+		doAdd(indexQuery);
+	}
+
+	@Override
+	public void add(UpdateQuery updateQuery) {
+
+		Assert.notNull(updateQuery, "updateQuery must not be null");
+
+		doAdd(updateQuery);
+	}
+
+	private void doAdd(Object query) {
+
+		callbacks.beforeAdd(query);
+		delegate.add(requestConverter.documentBulkOperation(query, index, refreshPolicy), query);
+	}
+
+	@Override
+	public void flush() {
+		delegate.flush();
+	}
+
+	@Override
+	public long pendingOperations() {
+		return delegate.pendingOperations();
+	}
+
+	@Override
+	public long pendingRequests() {
+		return delegate.pendingRequests();
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+
+	/**
+	 * The template specific functions that are needed by the ingester to run the entity callbacks and to update the
+	 * indexed objects.
+	 */
+	interface Callbacks {
+
+		/**
+		 * creates the {@link IndexQuery} for an entity.
+		 */
+		IndexQuery indexQueryFor(Object entity);
+
+		/**
+		 * called before the operation for the query is added to the bulk request.
+		 */
+		void beforeAdd(Object query);
+
+		/**
+		 * called after the operation for the query was executed successfully.
+		 */
+		void afterSuccess(Object query, IndexedObjectInformation indexedObjectInformation);
+	}
+
+	private class Listener implements BulkListener<Object> {
+
+		@Override
+		public void beforeBulk(long executionId, BulkRequest request, List<Object> contexts) {}
+
+		@Override
+		public void afterBulk(long executionId, BulkRequest request, List<Object> contexts, BulkResponse response) {
+
+			Iterator<Object> queries = contexts.iterator();
+
+			for (BulkResponseItem item : response.items()) {
+				Object query = queries.next();
+
+				if (item.error() != null) {
+					BulkFailureException.FailureDetails failureDetails = new BulkFailureException.FailureDetails(item.status(),
+							item.error().reason());
+
+					if (listener != null) {
+						listener.onFailure(query, failureDetails);
+					} else if (LOGGER.isWarnEnabled()) {
+						LOGGER.warn(String.format("bulk operation for document %s failed: %s", item.id(), failureDetails));
+					}
+				} else {
+					IndexedObjectInformation indexedObjectInformation = new IndexedObjectInformation(item.id(), item.index(),
+							item.seqNo(), item.primaryTerm(), item.version());
+					callbacks.afterSuccess(query, indexedObjectInformation);
+
+					if (listener != null) {
+						listener.onSuccess(query, indexedObjectInformation);
+					}
+				}
+			}
+		}
+
+		@Override
+		public void afterBulk(long executionId, BulkRequest request, List<Object> contexts, Throwable failure) {
+
+			if (listener != null) {
+				listener.onBulkFailure(contexts, failure);
+			} else if (LOGGER.isWarnEnabled()) {
+				LOGGER.warn(String.format("bulk request with %d operations failed", contexts.size()), failure);
+			}
+		}
+	}
+}
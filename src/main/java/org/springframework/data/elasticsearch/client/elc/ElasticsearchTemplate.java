@@ -22,9 +22,14 @@ import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.NoSuchIndexException;
+import org.springframework.data.elasticsearch.ResourceNotFoundException;
+import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
 import org.springframework.data.elasticsearch.client.UnsupportedBackendOperation;
 import org.springframework.data.elasticsearch.core.AbstractElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.BulkIngester;
 import org.springframework.data.elasticsearch.core.IndexOperations;
 import org.springframework.data.elasticsearch.core.IndexedObjectInformation;
 import org.springframework.data.elasticsearch.core.MultiGetItem;
@@ -41,22 +46,38 @@ import org.springframework.data.elasticsearch.core.reindex.ReindexRequest;
 import org.springframework.data.elasticsearch.core.reindex.ReindexResponse;
 import org.springframework.data.elasticsearch.core.script.Script;
 import org.springframework.data.elasticsearch.core.sql.SqlResponse;
+import org.springframework.lang.Contract;
 import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
 
 import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.Time;
 import co.elastic.clients.elasticsearch.core.*;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
 import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
 import co.elastic.clients.elasticsearch.core.msearch.MultiSearchResponseItem;
 import co.elastic.clients.elasticsearch.core.search.ResponseBody;
@@ -90,6 +111,12 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 	private final ResponseConverter responseConverter;
 	private final JsonpMapper jsonpMapper;
 	private final ElasticsearchExceptionTranslator exceptionTranslator;
+	private final Map<GetRequestKey, CompletableFuture<GetResponse<EntityAsMap>>> runningGetRequests = //
+			new ConcurrentHashMap<>();
+	private final SearchBatcher searchBatcher = new SearchBatcher();
+	@Nullable private SearchResultCache searchResultCache;
+	@Nullable private EntityCache entityCache;
+	@Nullable private EntitySnapshots entitySnapshots;
 
 	// region _initialization
 	public ElasticsearchTemplate(ElasticsearchClient client) {
@@ -127,6 +154,9 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 
 		if (copy instanceof ElasticsearchTemplate elasticsearchTemplate) {
 			elasticsearchTemplate.observationConvention = this.observationConvention;
+			elasticsearchTemplate.searchResultCache = this.searchResultCache;
+			elasticsearchTemplate.entityCache = this.entityCache;
+			elasticsearchTemplate.entitySnapshots = this.entitySnapshots;
 		}
 	}
 
@@ -155,6 +185,109 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 		this.observationConvention = observationConvention;
 	}
 
+	/**
+	 * Set a cache for the responses of searches, the entries of an index are invalidated when this template writes to
+	 * it. See {@link SearchResultCache} for the details.
+	 *
+	 * @param searchResultCache the cache to use, {@literal null} to not cache search results, which is the default.
+	 * @since 6.2
+	 */
+	public void setSearchResultCache(@Nullable SearchResultCache searchResultCache) {
+		this.searchResultCache = searchResultCache;
+	}
+
+	@Nullable
+	public SearchResultCache getSearchResultCache() {
+		return searchResultCache;
+	}
+
+	/**
+	 * Set a cache for the documents read by id with {@code get} and {@code multiGet}, the entries of a document are
+	 * removed when this template writes it. A cache hit saves the request, the cached document is still converted to a
+	 * new entity on every hit. See {@link EntityCache} for the details.
+	 *
+	 * @param entityCache the cache to use, {@literal null} to not cache documents, which is the default.
+	 * @since 6.2
+	 */
+	public void setEntityCache(@Nullable EntityCache entityCache) {
+		this.entityCache = entityCache;
+	}
+
+	@Nullable
+	public EntityCache getEntityCache() {
+		return entityCache;
+	}
+
+	/**
+	 * Set the snapshots of the documents read by id by this template to save entities with partial updates of their
+	 * changed fields. See {@link EntitySnapshots} for the details.
+	 *
+	 * @param entitySnapshots the snapshots to use, {@literal null} to always index saved entities, which is the default.
+	 * @since 6.2
+	 */
+	public void setEntitySnapshots(@Nullable EntitySnapshots entitySnapshots) {
+		this.entitySnapshots = entitySnapshots;
+	}
+
+	@Nullable
+	public EntitySnapshots getEntitySnapshots() {
+		return entitySnapshots;
+	}
+
+	/**
+	 * takes the snapshot of a document read by id before the callbacks can change it. Documents of search hits are not
+	 * kept, as a search may return many documents that are not saved again.
+	 */
+	@Contract("null -> null; !null -> !null")
+	@Nullable
+	private Document snapshot(@Nullable Document document) {
+
+		if (document != null && entitySnapshots != null) {
+			entitySnapshots.put(document);
+		}
+		return document;
+	}
+
+	private void invalidateSearchResults(IndexCoordinates index) {
+
+		if (searchResultCache != null) {
+			searchResultCache.invalidate(index);
+		}
+	}
+
+	/**
+	 * invalidates the cached search results, entities and snapshots of an index that was written by a query.
+	 */
+	private void invalidateCaches(IndexCoordinates index) {
+
+		invalidateSearchResults(index);
+
+		if (entityCache != null) {
+			entityCache.invalidate(index);
+		}
+
+		if (entitySnapshots != null) {
+			entitySnapshots.invalidate(index);
+		}
+	}
+
+	/**
+	 * invalidates the cached search results of the index and the cached entity of the written document. A document
+	 * without id is new and cannot be cached.
+	 */
+	private void invalidateCaches(String index, @Nullable String id) {
+
+		invalidateSearchResults(IndexCoordinates.of(index));
+
+		if (entityCache != null) {
+			entityCache.evict(index, id);
+		}
+
+		if (entitySnapshots != null) {
+			entitySnapshots.evict(index, id);
+		}
+	}
+
 	private <T> T observe(ElasticsearchOperationName operationName, @Nullable IndexCoordinates index,
 			Supplier<T> action) {
 		Observation observation = createObservation(operationName, index, null);
@@ -181,12 +314,39 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 	// region child templates
 	@Override
 	public IndexOperations indexOps(Class<?> clazz) {
-		return new IndicesTemplate(client.indices(), getClusterTemplate(), elasticsearchConverter, clazz);
+		return new SearchResultsRefreshingIndicesTemplate(clazz);
 	}
 
 	@Override
 	public IndexOperations indexOps(IndexCoordinates index) {
-		return new IndicesTemplate(client.indices(), getClusterTemplate(), elasticsearchConverter, index);
+		return new SearchResultsRefreshingIndicesTemplate(index);
+	}
+
+	/**
+	 * {@link IndicesTemplate} that invalidates the cached search results of the refreshed index after a refresh, the
+	 * searches of the index may have been cached before the writes were visible.
+	 */
+	private class SearchResultsRefreshingIndicesTemplate extends IndicesTemplate {
+
+		SearchResultsRefreshingIndicesTemplate(Class<?> boundClass) {
+			super(client.indices(), getClusterTemplate(), elasticsearchConverter, boundClass);
+		}
+
+		SearchResultsRefreshingIndicesTemplate(IndexCoordinates boundIndex) {
+			super(client.indices(), getClusterTemplate(), elasticsearchConverter, boundIndex);
+		}
+
+		@Override
+		public void refresh() {
+
+			long refreshStartedAt = System.nanoTime();
+			super.refresh();
+
+			SearchResultCache cache = searchResultCache;
+			if (cache != null) {
+				cache.refreshed(getIndexCoordinates(), refreshStartedAt);
+			}
+		}
 	}
 
 	@Override
@@ -234,13 +394,56 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 		return observe(ElasticsearchOperationName.GET, index, () -> {
 			GetRequest getRequest = requestConverter.documentGetRequest(elasticsearchConverter.convertId(id),
 					routingResolver.getRouting(), index);
-			GetResponse<EntityAsMap> getResponse = execute(client -> client.get(getRequest, EntityAsMap.class));
-
 			ReadDocumentCallback<T> callback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
-			return callback.doWith(DocumentAdapters.from(getResponse));
+
+			if (entityCache != null) {
+				return entityCache.get(getRequest, this::executeGet, document -> callback.doWith(snapshot(document)));
+			}
+
+			return callback.doWith(snapshot(DocumentAdapters.from(executeGet(getRequest))));
 		});
 	}
 
+	private GetResponse<EntityAsMap> executeGet(GetRequest getRequest) {
+
+		// requests without source are sent by the entity cache and must not be coalesced with requests for the source
+		return getCoalescing && getRequest.source() == null ? executeCoalesced(getRequest)
+				: execute(client -> client.get(getRequest, EntityAsMap.class));
+	}
+
+	/**
+	 * executes the get request unless a get request for the same document is already running, in that case the response
+	 * of the running request is returned.
+	 */
+	private GetResponse<EntityAsMap> executeCoalesced(GetRequest getRequest) {
+
+		GetRequestKey key = GetRequestKey.of(getRequest);
+		CompletableFuture<GetResponse<EntityAsMap>> future = new CompletableFuture<>();
+		CompletableFuture<GetResponse<EntityAsMap>> runningRequest = runningGetRequests.putIfAbsent(key, future);
+
+		if (runningRequest != null) {
+			try {
+				return runningRequest.join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				throw e;
+			}
+		}
+
+		try {
+			GetResponse<EntityAsMap> getResponse = execute(client -> client.get(getRequest, EntityAsMap.class));
+			future.complete(getResponse);
+			return getResponse;
+		} catch (RuntimeException e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			runningGetRequests.remove(key, future);
+		}
+	}
+
 	@Override
 	public <T> List<MultiGetItem<T>> multiGet(Query query, Class<T> clazz, IndexCoordinates index) {
 
@@ -248,18 +451,165 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 		Assert.notNull(clazz, "clazz must not be null");
 
 		return observe(ElasticsearchOperationName.MULTI_GET, index, () -> {
-			MgetRequest request = requestConverter.documentMgetRequest(query, clazz, index);
-			MgetResponse<EntityAsMap> result = execute(client -> client.mget(request, EntityAsMap.class));
-
 			ReadDocumentCallback<T> callback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
 
-			return DocumentAdapters.from(result).stream() //
+			if (entityCache != null && readsWholeEntities(query) && !query.getIdsWithRouting().isEmpty()) {
+				return doCachedMultiGet(entityCache, query, clazz, index, callback);
+			}
+
+			return doMultiGet(query, clazz, index).stream() //
 					.map(multiGetItem -> MultiGetItem.of( //
-							multiGetItem.isFailed() ? null : callback.doWith(multiGetItem.getItem()), multiGetItem.getFailure())) //
+							multiGetItem.isFailed() ? null : callback.doWith(snapshot(multiGetItem.getItem())),
+							multiGetItem.getFailure())) //
 					.collect(Collectors.toList());
 		});
 	}
 
+	private List<MultiGetItem<Document>> doMultiGet(Query query, Class<?> clazz, IndexCoordinates index) {
+
+		List<MgetRequest> requests = requestConverter.documentMgetRequests(query, clazz, index, multiGetChunkSize);
+		List<MgetResponse<EntityAsMap>> responses = executeMgetRequests(requests);
+
+		return responses.stream() //
+				.flatMap(response -> DocumentAdapters.from(response).stream()) //
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * @return {@literal true} if the query reads the whole entities, only then the cached entities can be returned.
+	 */
+	private static boolean readsWholeEntities(Query query) {
+		return query.getSourceFilter() == null && query.getFields().isEmpty()
+				&& CollectionUtils.isEmpty(query.getStoredFields());
+	}
+
+	/**
+	 * reads the entities from the cached documents and gets the missing ones with mget requests. In revalidating mode
+	 * the cached documents are not used, but the cache is filled with the returned ones.
+	 */
+	private <T> List<MultiGetItem<T>> doCachedMultiGet(EntityCache cache, Query query, Class<T> clazz,
+			IndexCoordinates index, ReadDocumentCallback<T> callback) {
+
+		List<Query.IdWithRouting> idsWithRouting = query.getIdsWithRouting();
+		List<@Nullable Document> cachedDocuments = new ArrayList<>(idsWithRouting.size());
+		List<Query.IdWithRouting> missingIds = new ArrayList<>();
+
+		for (Query.IdWithRouting idWithRouting : idsWithRouting) {
+			Document document = cache.isRevalidating() ? null
+					: cache.getIfPresent(index.getIndexName(), idWithRouting.id(), idWithRouting.routing());
+			cachedDocuments.add(document);
+
+			if (document == null) {
+				missingIds.add(idWithRouting);
+			}
+		}
+
+		List<MultiGetItem<T>> result = new ArrayList<>(idsWithRouting.size());
+
+		if (missingIds.isEmpty()) {
+			cachedDocuments.forEach(document -> result.add(MultiGetItem.of(callback.doWith(snapshot(document)), null)));
+			return result;
+		}
+
+		long startGeneration = cache.currentGeneration();
+		Iterator<MultiGetItem<Document>> documents = doMultiGet(Query.multiGetQueryWithRouting(missingIds), clazz,
+				index).iterator();
+		Iterator<Query.IdWithRouting> missing = missingIds.iterator();
+
+		for (Document cachedDocument : cachedDocuments) {
+
+			if (cachedDocument != null) {
+				result.add(MultiGetItem.of(callback.doWith(snapshot(cachedDocument)), null));
+				continue;
+			}
+
+			MultiGetItem<Document> multiGetItem = documents.next();
+			Query.IdWithRouting idWithRouting = missing.next();
+			Document document = multiGetItem.isFailed() ? null : multiGetItem.getItem();
+
+			// the document is cached before the callbacks can change it
+			if (document != null) {
+				cache.put(index.getIndexName(), idWithRouting.routing(), document, startGeneration);
+			}
+
+			result.add(MultiGetItem.of(callback.doWith(snapshot(document)), multiGetItem.getFailure()));
+		}
+
+		return result;
+	}
+
+	/**
+	 * executes the mget requests with up to {@link #getMultiGetConcurrency()} requests running at the same time. The
+	 * calling thread executes requests as well and the other ones run on the {@link #getTaskExecutor() task executor},
+	 * so a single request is executed without using the executor and a busy executor only reduces the concurrency.
+	 *
+	 * @return the responses in the order of the requests
+	 */
+	private List<MgetResponse<EntityAsMap>> executeMgetRequests(List<MgetRequest> requests) {
+
+		int workers = Math.min(multiGetConcurrency, requests.size());
+
+		if (workers <= 1) {
+			List<MgetResponse<EntityAsMap>> responses = new ArrayList<>(requests.size());
+			for (MgetRequest request : requests) {
+				responses.add(execute(client -> client.mget(request, EntityAsMap.class)));
+			}
+			return responses;
+		}
+
+		AtomicReferenceArray<MgetResponse<EntityAsMap>> responses = new AtomicReferenceArray<>(requests.size());
+		AtomicInteger nextRequest = new AtomicInteger();
+		AtomicReference<RuntimeException> failure = new AtomicReference<>();
+		CountDownLatch finishedRequests = new CountDownLatch(requests.size());
+
+		// every request is taken by exactly one worker, after a failure the remaining ones are only counted
+		Runnable worker = () -> {
+			int i;
+			while ((i = nextRequest.getAndIncrement()) < requests.size()) {
+				MgetRequest request = requests.get(i);
+				try {
+					if (failure.get() == null) {
+						responses.set(i, execute(client -> client.mget(request, EntityAsMap.class)));
+					}
+				} catch (RuntimeException e) {
+					failure.compareAndSet(null, e);
+				} finally {
+					finishedRequests.countDown();
+				}
+			}
+		};
+
+		for (int i = 1; i < workers; i++) {
+			try {
+				taskExecutor.execute(worker);
+			} catch (RejectedExecutionException e) {
+				// the calling thread takes the requests that are not taken by the helpers
+				break;
+			}
+		}
+
+		worker.run();
+
+		// only waits for requests that are running, not for helpers that are still queued in the executor
+		try {
+			finishedRequests.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			failure.compareAndSet(null, new UncategorizedElasticsearchException("interrupted while waiting for mget", e));
+		}
+
+		RuntimeException exception = failure.get();
+		if (exception != null) {
+			throw exception;
+		}
+
+		List<MgetResponse<EntityAsMap>> result = new ArrayList<>(requests.size());
+		for (int i = 0; i < requests.size(); i++) {
+			result.add(responses.get(i));
+		}
+		return result;
+	}
+
 	@Override
 	public void bulkUpdate(List<UpdateQuery> queries, BulkOptions bulkOptions, IndexCoordinates index) {
 
@@ -267,7 +617,7 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 		Assert.notNull(bulkOptions, "bulkOptions must not be null");
 		Assert.notNull(index, "index must not be null");
 
-		doBulkOperation(queries, bulkOptions, index);
+		doBulkOperationInBatches(queries, bulkOptions, index);
 	}
 
 	@Override
@@ -283,7 +633,12 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 			DeleteByQueryRequest request = requestConverter.documentDeleteByQueryRequest(query, routingResolver.getRouting(),
 					clazz, index, getRefreshPolicy());
 
-			DeleteByQueryResponse response = execute(client -> client.deleteByQuery(request));
+			DeleteByQueryResponse response;
+			try {
+				response = execute(client -> client.deleteByQuery(request));
+			} finally {
+				invalidateCaches(index);
+			}
 
 			return responseConverter.byQueryResponse(response);
 		});
@@ -295,8 +650,12 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 		return observe(ElasticsearchOperationName.UPDATE, index, () -> {
 			UpdateRequest<Document, ?> request = requestConverter.documentUpdateRequest(updateQuery, index,
 					getRefreshPolicy(), routingResolver.getRouting());
-			co.elastic.clients.elasticsearch.core.UpdateResponse<Document> response = execute(
-					client -> client.update(request, Document.class));
+			co.elastic.clients.elasticsearch.core.UpdateResponse<Document> response;
+			try {
+				response = execute(client -> client.update(request, Document.class));
+			} finally {
+				invalidateCaches(request.index(), request.id());
+			}
 			return UpdateResponse.of(result(response.result()));
 		});
 	}
@@ -311,7 +670,12 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 			UpdateByQueryRequest request = requestConverter.documentUpdateByQueryRequest(updateQuery, index,
 					getRefreshPolicy());
 
-			UpdateByQueryResponse byQueryResponse = execute(client -> client.updateByQuery(request));
+			UpdateByQueryResponse byQueryResponse;
+			try {
+				byQueryResponse = execute(client -> client.updateByQuery(request));
+			} finally {
+				invalidateCaches(index);
+			}
 			return responseConverter.byQueryResponse(byQueryResponse);
 		});
 	}
@@ -322,9 +686,27 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 		Assert.notNull(query, "query must not be null");
 		Assert.notNull(indexCoordinates, "indexCoordinates must not be null");
 
-		IndexRequest<?> indexRequest = requestConverter.documentIndexRequest(query, indexCoordinates, refreshPolicy);
+		Document document = null;
 
-		IndexResponse indexResponse = execute(client -> client.index(indexRequest));
+		if (entitySnapshots != null && query.getObject() != null) {
+			document = elasticsearchConverter.mapObject(query.getObject());
+			String id = doPartialUpdate(entitySnapshots, query, document, indexCoordinates);
+
+			if (id != null) {
+				return id;
+			}
+		}
+
+		// the entity that could not be sent as partial update is not converted again
+		IndexRequest<?> indexRequest = requestConverter.documentIndexRequest(query, document, indexCoordinates,
+				refreshPolicy);
+
+		IndexResponse indexResponse;
+		try {
+			indexResponse = execute(client -> client.index(indexRequest));
+		} finally {
+			invalidateCaches(indexRequest.index(), indexRequest.id());
+		}
 
 		Object queryObject = query.getObject();
 
@@ -344,6 +726,54 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 		return indexResponse.id();
 	}
 
+	/**
+	 * sends the changed fields of the entity of an index query as partial update if there is a snapshot of its document.
+	 *
+	 * @param document the converted entity
+	 * @return the id of the updated document or {@literal null} if the entity must be indexed
+	 */
+	@Nullable
+	private String doPartialUpdate(EntitySnapshots entitySnapshots, IndexQuery query, Document document,
+			IndexCoordinates index) {
+
+		Object entity = Objects.requireNonNull(query.getObject());
+		String indexName = query.getIndexName() != null ? query.getIndexName() : index.getIndexName();
+		UpdateQuery updateQuery = entitySnapshots.partialUpdate(query, indexName, document);
+
+		if (updateQuery == null) {
+			return null;
+		}
+
+		UpdateRequest<Document, ?> request = requestConverter.documentUpdateRequest(updateQuery, index, refreshPolicy,
+				null);
+		co.elastic.clients.elasticsearch.core.UpdateResponse<Document> response;
+		try {
+			response = execute(client -> client.update(request, Document.class));
+		} catch (OptimisticLockingFailureException | ResourceNotFoundException | NoSuchIndexException e) {
+			// the document was changed or deleted after the snapshot was taken
+			return null;
+		} finally {
+			invalidateCaches(request.index(), request.id());
+		}
+
+		query.setObject(entityOperations.updateIndexedObject(
+				entity,
+				new IndexedObjectInformation(
+						response.id(),
+						response.index(),
+						response.seqNo(),
+						response.primaryTerm(),
+						response.version()),
+				elasticsearchConverter,
+				routingResolver));
+
+		if (response.seqNo() != null && response.primaryTerm() != null) {
+			entitySnapshots.put(response.index(), response.id(), document, response.seqNo(), response.primaryTerm());
+		}
+
+		return response.id();
+	}
+
 	@Override
 	protected boolean doExists(String id, IndexCoordinates index) {
 
@@ -363,7 +793,11 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 
 		DeleteRequest request = requestConverter.documentDeleteRequest(elasticsearchConverter.convertId(id), routing, index,
 				getRefreshPolicy());
-		return execute(client -> client.delete(request)).id();
+		try {
+			return execute(client -> client.delete(request)).id();
+		} finally {
+			invalidateCaches(request.index(), request.id());
+		}
 	}
 
 	@Override
@@ -397,13 +831,201 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 	public List<IndexedObjectInformation> doBulkOperation(List<?> queries, BulkOptions bulkOptions,
 			IndexCoordinates index) {
 
-		BulkRequest bulkRequest = requestConverter.documentBulkRequest(queries, bulkOptions, index, refreshPolicy);
-		BulkResponse bulkResponse = execute(client -> client.bulk(bulkRequest));
-		List<IndexedObjectInformation> indexedObjectInformationList = checkForBulkOperationFailure(bulkResponse);
+		List<IndexedObjectInformation> indexedObjectInformationList;
+		List<Object> requestQueries = new ArrayList<>(queries);
+		Map<Integer, IndexQuery> fallbackQueries = new HashMap<>();
+		Map<Integer, Document> convertedObjects = new HashMap<>();
+
+		if (entitySnapshots != null) {
+			replaceWithPartialUpdates(entitySnapshots, requestQueries, index, fallbackQueries, convertedObjects);
+		}
+
+		try {
+			if (bulkOptions.getRetryPolicy() == null && fallbackQueries.isEmpty()) {
+				BulkRequest bulkRequest = requestConverter
+						.documentBulkRequestSettings(new BulkRequest.Builder(), bulkOptions, refreshPolicy) //
+						.operations(documentBulkOperations(requestQueries, convertedObjects, index)) //
+						.build();
+				BulkResponse bulkResponse = execute(client -> client.bulk(bulkRequest));
+				indexedObjectInformationList = checkForBulkOperationFailure(bulkResponse);
+			} else {
+				indexedObjectInformationList = doBulkOperationWithRetry(requestQueries, bulkOptions,
+						bulkOptions.getRetryPolicy(), index, fallbackQueries, convertedObjects);
+			}
+		} finally {
+			if (searchResultCache != null) {
+				searchResultCache.invalidate(index, queries);
+			}
+			if (entityCache != null) {
+				entityCache.evict(index, queries);
+			}
+			if (entitySnapshots != null) {
+				entitySnapshots.evict(index, queries);
+			}
+		}
+
 		updateIndexedObjectsWithQueries(queries, indexedObjectInformationList);
+
+		if (entitySnapshots != null) {
+			for (Map.Entry<Integer, Document> entry : convertedObjects.entrySet()) {
+				IndexedObjectInformation information = indexedObjectInformationList.get(entry.getKey());
+
+				if (requestQueries.get(entry.getKey()) instanceof UpdateQuery && information.index() != null
+						&& information.id() != null && information.seqNo() != null && information.primaryTerm() != null) {
+					entitySnapshots.put(information.index(), information.id(), entry.getValue(), information.seqNo(),
+							information.primaryTerm());
+				}
+			}
+		}
+
 		return indexedObjectInformationList;
 	}
 
+	/**
+	 * replaces the index queries of entities that have a snapshot of their document with partial updates. The replaced
+	 * index queries are kept to be sent instead if the document was changed or deleted after the snapshot was taken.
+	 * The documents the entities of all index queries are converted to are kept by their position, so they are not
+	 * converted again when the bulk operations are created.
+	 */
+	private void replaceWithPartialUpdates(EntitySnapshots entitySnapshots, List<Object> requestQueries,
+			IndexCoordinates index, Map<Integer, IndexQuery> fallbackQueries, Map<Integer, Document> convertedObjects) {
+
+		for (int i = 0; i < requestQueries.size(); i++) {
+
+			if (requestQueries.get(i) instanceof IndexQuery indexQuery && indexQuery.getObject() != null) {
+				String indexName = indexQuery.getIndexName() != null ? indexQuery.getIndexName() : index.getIndexName();
+				Document document = elasticsearchConverter.mapObject(indexQuery.getObject());
+				UpdateQuery updateQuery = entitySnapshots.partialUpdate(indexQuery, indexName, document);
+				convertedObjects.put(i, document);
+
+				if (updateQuery != null) {
+					requestQueries.set(i, updateQuery);
+					fallbackQueries.put(i, indexQuery);
+				}
+			}
+		}
+	}
+
+	/**
+	 * executes the bulk request and resends the items that failed with a retryable error as defined by the
+	 * {@link BulkOptions.RetryPolicy}. Partial updates that failed because the document was changed or deleted are
+	 * resent right away with the index query they replaced, using the entity that was converted for the partial update.
+	 * The operations are created once from the already converted entities, so the entities are not converted again for a
+	 * retry.
+	 */
+	private List<IndexedObjectInformation> doBulkOperationWithRetry(List<Object> queries, BulkOptions bulkOptions,
+			BulkOptions.@Nullable RetryPolicy retryPolicy, IndexCoordinates index, Map<Integer, IndexQuery> fallbackQueries,
+			Map<Integer, Document> convertedObjects) {
+
+		BulkResponseItem[] items = new BulkResponseItem[queries.size()];
+		BulkOperation[] operations = documentBulkOperations(queries, convertedObjects, index)
+				.toArray(new BulkOperation[0]);
+		List<Integer> pendingPositions = new ArrayList<>(queries.size());
+		for (int i = 0; i < queries.size(); i++) {
+			pendingPositions.add(i);
+		}
+
+		int attempt = 0;
+		while (!pendingPositions.isEmpty()) {
+			List<BulkOperation> pendingOperations = pendingPositions.stream().map(position -> operations[position])
+					.toList();
+			BulkRequest bulkRequest = requestConverter
+					.documentBulkRequestSettings(new BulkRequest.Builder(), bulkOptions, refreshPolicy) //
+					.operations(pendingOperations) //
+					.build();
+			BulkResponse bulkResponse = execute(client -> client.bulk(bulkRequest));
+
+			List<Integer> retryPositions = new ArrayList<>();
+			List<Integer> fallbackPositions = new ArrayList<>();
+			Iterator<Integer> positions = pendingPositions.iterator();
+			for (BulkResponseItem item : bulkResponse.items()) {
+				int position = positions.next();
+				items[position] = item;
+
+				if (item.error() != null) {
+					IndexQuery fallbackQuery = fallbackQueries.remove(position);
+
+					if (fallbackQuery != null && (item.status() == 409 || item.status() == 404)) {
+						queries.set(position, fallbackQuery);
+						operations[position] = requestConverter.documentBulkOperation(fallbackQuery,
+								convertedObjects.get(position), index, refreshPolicy);
+						fallbackPositions.add(position);
+					} else if (retryPolicy != null && attempt < retryPolicy.maxRetries()
+							&& retryPolicy.isRetryable(item.status(), item.error().type())) {
+						retryPositions.add(position);
+					}
+				}
+			}
+
+			if (!retryPositions.isEmpty() && retryPolicy != null) {
+				Duration backoff = retryPolicy.backoff(attempt++);
+
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug(String.format("retrying %d failed bulk items in %d ms", retryPositions.size(),
+							backoff.toMillis()));
+				}
+
+				try {
+					Thread.sleep(backoff.toMillis());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new UncategorizedElasticsearchException("interrupted while waiting to retry bulk items", e);
+				}
+			}
+
+			retryPositions.addAll(fallbackPositions);
+			Collections.sort(retryPositions);
+			pendingPositions = retryPositions;
+		}
+
+		return checkForBulkOperationFailure(Arrays.asList(items));
+	}
+
+	/**
+	 * creates the bulk operations of the queries, the entities of index queries with a document in the converted objects
+	 * at their position are not converted again.
+	 */
+	private List<BulkOperation> documentBulkOperations(List<Object> queries, Map<Integer, Document> convertedObjects,
+			IndexCoordinates index) {
+
+		List<BulkOperation> operations = new ArrayList<>(queries.size());
+		for (int i = 0; i < queries.size(); i++) {
+			operations.add(requestConverter.documentBulkOperation(queries.get(i), convertedObjects.get(i), index,
+					refreshPolicy));
+		}
+		return operations;
+	}
+
+	@Override
+	public BulkIngester bulkIngester(BulkIngesterOptions bulkIngesterOptions, IndexCoordinates index) {
+
+		Assert.notNull(bulkIngesterOptions, "bulkIngesterOptions must not be null");
+		Assert.notNull(index, "index must not be null");
+
+		return new ElasticsearchBulkIngester(client, requestConverter, index, bulkIngesterOptions, refreshPolicy,
+				new ElasticsearchBulkIngester.Callbacks() {
+					@Override
+					public IndexQuery indexQueryFor(Object entity) {
+						return getIndexQuery(entity);
+					}
+
+					@Override
+					public void beforeAdd(Object query) {
+						maybeCallbackBeforeConvertWithQuery(query, index);
+					}
+
+					@Override
+					public void afterSuccess(Object query, IndexedObjectInformation indexedObjectInformation) {
+
+						if (query instanceof IndexQuery indexQuery && indexQuery.getObject() != null) {
+							indexQuery.setObject(entityOperations.updateIndexedObject(indexQuery.getObject(),
+									indexedObjectInformation, elasticsearchConverter, routingResolver));
+						}
+						maybeCallbackAfterSaveWithQuery(query, index);
+					}
+				});
+	}
+
 	// endregion
 
 	@Override
@@ -438,6 +1060,22 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 		});
 	}
 
+	@Override
+	public boolean exists(Query query, @Nullable Class<?> clazz, IndexCoordinates index) {
+
+		Assert.notNull(query, "query must not be null");
+		Assert.notNull(index, "index must not be null");
+
+		return observe(ElasticsearchOperationName.EXISTS, index, () -> {
+			SearchRequest searchRequest = requestConverter.existsSearchRequest(query, routingResolver.getRouting(), clazz,
+					index);
+
+			SearchResponse<EntityAsMap> searchResponse = execute(client -> client.search(searchRequest, EntityAsMap.class));
+
+			return !searchResponse.hits().hits().isEmpty();
+		});
+	}
+
 	@Override
 	public <T> SearchHits<T> search(Query query, Class<T> clazz, IndexCoordinates index) {
 
@@ -455,9 +1093,19 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 	}
 
 	protected <T> SearchHits<T> doSearch(Query query, Class<T> clazz, IndexCoordinates index) {
-		SearchRequest searchRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index,
-				false);
-		SearchResponse<EntityAsMap> searchResponse = execute(client -> client.search(searchRequest, EntityAsMap.class));
+
+		ResponseBody<EntityAsMap> searchResponse;
+		SearchResultCache cache = searchResultCache;
+		if (cache != null) {
+			SearchRequest searchRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index,
+					false);
+			searchResponse = SearchResultCache.canBeCached(searchRequest)
+					? cache.get(SearchResultCache.Key.of(searchRequest, jsonpMapper),
+							() -> executeSearch(query, clazz, index, searchRequest))
+					: executeSearch(query, clazz, index, searchRequest);
+		} else {
+			searchResponse = executeSearch(query, clazz, index, null);
+		}
 
 		// noinspection DuplicatedCode
 		ReadDocumentCallback<T> readDocumentCallback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
@@ -467,6 +1115,66 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 		return callback.doWith(SearchDocumentResponseBuilder.from(searchResponse, entityCreator, jsonpMapper));
 	}
 
+	/**
+	 * executes the search, batched with other searches if search batching is enabled.
+	 *
+	 * @param searchRequest the request for the query if it is already created
+	 */
+	private ResponseBody<EntityAsMap> executeSearch(Query query, Class<?> clazz, IndexCoordinates index,
+			@Nullable SearchRequest searchRequest) {
+
+		if (searchBatchingWindow != null && SearchBatcher.canBeBatched(query)) {
+			return doBatchedSearch(new MultiSearchQueryParameter(query, clazz, index), searchBatchingWindow);
+		}
+
+		SearchRequest request = searchRequest != null ? searchRequest
+				: requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index, false);
+		return execute(client -> client.search(request, EntityAsMap.class));
+	}
+
+	/**
+	 * adds the search to the current batch of searches. When the search opens the batch, it waits until the window has
+	 * passed or the batch is full and then executes all the searches of the batch in one msearch request.
+	 *
+	 * @return the response item of the search
+	 */
+	private ResponseBody<EntityAsMap> doBatchedSearch(MultiSearchQueryParameter parameter, Duration window) {
+
+		SearchBatcher.BatchedSearch search = searchBatcher.add(parameter, maxSearchBatchSize);
+
+		if (search.opensBatch()) {
+			try {
+				search.batch().full().get(window.toNanos(), TimeUnit.NANOSECONDS);
+			} catch (TimeoutException e) {
+				// the window has passed
+			} catch (InterruptedException e) {
+				// execute the batch anyway, the other searches are waiting for it
+				Thread.currentThread().interrupt();
+			} catch (ExecutionException e) {
+				// the future is never completed exceptionally
+			}
+
+			List<SearchBatcher.BatchedSearch> searches = searchBatcher.close(search.batch());
+			try {
+				MsearchRequest request = requestConverter.searchMsearchRequest(
+						searches.stream().map(SearchBatcher.BatchedSearch::parameter).toList(), routingResolver.getRouting());
+				SearchBatcher.complete(searches, execute(client -> client.msearch(request, EntityAsMap.class)),
+						exceptionTranslator);
+			} catch (RuntimeException e) {
+				SearchBatcher.fail(searches, e);
+			}
+		}
+
+		try {
+			return search.result().join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw e;
+		}
+	}
+
 	protected <T> SearchHits<T> doSearch(SearchTemplateQuery query, Class<T> clazz, IndexCoordinates index) {
 		var searchTemplateRequest = requestConverter.searchTemplate(query, routingResolver.getRouting(), index);
 		var searchTemplateResponse = execute(client -> client.searchTemplate(searchTemplateRequest, EntityAsMap.class));
@@ -492,6 +1200,34 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 				.build(), clazz, index);
 	}
 
+	@Override
+	protected <T> SearchHits<T> searchPointInTimePage(Query query, Class<T> clazz, IndexCoordinates index) {
+
+		return observe(ElasticsearchOperationName.SEARCH, index, () -> {
+			// sized like the batches of a scroll, neither cached nor batched
+			SearchRequest searchRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index,
+					false, true);
+			SearchResponse<EntityAsMap> searchResponse = execute(client -> client.search(searchRequest, EntityAsMap.class));
+
+			// noinspection DuplicatedCode
+			ReadDocumentCallback<T> readDocumentCallback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
+			SearchDocumentResponse.EntityCreator<T> entityCreator = getEntityCreator(readDocumentCallback);
+			SearchDocumentResponseCallback<SearchHits<T>> callback = new ReadSearchDocumentResponseCallback<>(clazz, index);
+
+			return callback.doWith(SearchDocumentResponseBuilder.from(searchResponse, entityCreator, jsonpMapper));
+		});
+	}
+
+	@Override
+	protected boolean addShardDocSort(Query query) {
+		return RequestConverter.addShardDocSort(query);
+	}
+
+	@Override
+	protected boolean hasSort(Query query) {
+		return super.hasSort(query) || (query instanceof NativeQuery nativeQuery && !nativeQuery.getSortOptions().isEmpty());
+	}
+
 	@Override
 	public <T> SearchScrollHits<T> searchScrollStart(long scrollTimeInMillis, Query query, Class<T> clazz,
 			IndexCoordinates index) {
@@ -506,6 +1242,21 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 		return getSearchScrollHits(clazz, index, response);
 	}
 
+	@Override
+	public <T> SearchScrollHits<T> searchScrollStart(long scrollTimeInMillis, Query query, Query.SearchSlice searchSlice,
+			Class<T> clazz, IndexCoordinates index) {
+
+		Assert.notNull(query, "query must not be null");
+		Assert.notNull(query.getPageable(), "pageable of query must not be null.");
+		Assert.notNull(searchSlice, "searchSlice must not be null");
+
+		SearchRequest request = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index, false,
+				true, scrollTimeInMillis, searchSlice);
+		SearchResponse<EntityAsMap> response = execute(client -> client.search(request, EntityAsMap.class));
+
+		return getSearchScrollHits(clazz, index, response);
+	}
+
 	@Override
 	public <T> SearchScrollHits<T> searchScrollContinue(String scrollId, long scrollTimeInMillis, Class<T> clazz,
 			IndexCoordinates index) {
@@ -714,6 +1465,14 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 		return execute(client -> client.openPointInTime(request)).id();
 	}
 
+	@Override
+	protected String openPointInTimeForStream(Query query, IndexCoordinates index, Duration keepAlive) {
+
+		var request = requestConverter.searchOpenPointInTimeRequest(index, keepAlive, true,
+				requestConverter.getRouting(query.getRoute(), routingResolver.getRouting()).orElse(null));
+		return execute(client -> client.openPointInTime(request)).id();
+	}
+
 	@Override
 	public Boolean closePointInTime(String pit) {
 
@@ -820,10 +1579,21 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 	 * @return the list of the {@link IndexedObjectInformation}s
 	 */
 	protected List<IndexedObjectInformation> checkForBulkOperationFailure(BulkResponse bulkResponse) {
+		return checkForBulkOperationFailure(bulkResponse.items());
+	}
 
-		if (bulkResponse.errors()) {
+	/**
+	 * extract the list of {@link IndexedObjectInformation} from the items of one or more bulk responses.
+	 *
+	 * @param bulkResponseItems the items to evaluate
+	 * @return the list of the {@link IndexedObjectInformation}s
+	 * @since 6.2
+	 */
+	protected List<IndexedObjectInformation> checkForBulkOperationFailure(List<BulkResponseItem> bulkResponseItems) {
+
+		if (bulkResponseItems.stream().anyMatch(item -> item.error() != null)) {
 			Map<String, BulkFailureException.FailureDetails> failedDocuments = new HashMap<>();
-			for (BulkResponseItem item : bulkResponse.items()) {
+			for (BulkResponseItem item : bulkResponseItems) {
 
 				if (item.error() != null) {
 					failedDocuments.put(item.id(), new BulkFailureException.FailureDetails(item.status(), item.error().reason()));
@@ -835,8 +1605,9 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 					failedDocuments);
 		}
 
-		return bulkResponse.items().stream().map(
-				item -> new IndexedObjectInformation(item.id(), item.index(), item.seqNo(), item.primaryTerm(), item.version()))
+		return bulkResponseItems.stream().map(
+				item -> new IndexedObjectInformation(item.id(), item.index(), item.seqNo(), item.primaryTerm(), item.version(),
+						item.result()))
 				.collect(Collectors.toList());
 
 	}
@@ -0,0 +1,400 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.elasticsearch.core.GetRequest;
+import co.elastic.clients.elasticsearch.core.GetResponse;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.DeleteByIdQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.util.Assert;
+import org.springframework.util.PatternMatchUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Cache for documents read by id, set on an {@link ElasticsearchTemplate} with
+ * {@link ElasticsearchTemplate#setEntityCache(EntityCache)}. It is used by the {@code get} and {@code multiGet}
+ * operations of the template and so by {@code findById} and {@code findAllById} of the repositories. The documents are
+ * stored together with their {@code _seq_no} and {@code _primary_term}, so a cache hit needs no request. The cache
+ * only saves the request, not the conversion: the converted entities are not cached, every hit copies the cached
+ * document and runs the full conversion to a new entity instance, and the after load and after convert callbacks are
+ * invoked as for a document that was read from Elasticsearch.
+ * <p>
+ * The documents are kept by the concrete index they were read from. When a document is read through an alias, the
+ * index the alias points to is taken from the response and used for the following reads through the alias, so writes
+ * to the concrete index remove the documents read through the alias as well. If an alias is switched to another index,
+ * the previous documents are returned until they are evicted.
+ * <p>
+ * Entries are evicted when they are older than the time to live or, least recently used first, when the maximum size
+ * is exceeded. Writes done by the template the cache is set on remove the entries of the written documents: save,
+ * bulk, update and delete, delete by query and update by query remove all entries of the index. Writes through other
+ * clients are not seen; for data that is changed this way, the cache can be created in revalidating mode: a cache hit
+ * then sends a get request without the source and only returns the cached document if the {@code _seq_no} and
+ * {@code _primary_term} of the document are unchanged. {@code multiGet} does not use the cached documents in this mode.
+ * The cache is meant for read-mostly reference data.
+ *
+ * @since 6.2
+ */
+public class EntityCache {
+
+	public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+	public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(10);
+
+	private final int maximumSize;
+	private final long timeToLiveNanos;
+	private final boolean revalidating;
+	private final Map<DocumentKey, Entry> entries;
+	private final Map<String, String> concreteIndexNames = new HashMap<>();
+	private long generation = 0;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder revalidationCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+	private final LongAdder invalidationCount = new LongAdder();
+
+	public EntityCache() {
+		this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE, false);
+	}
+
+	/**
+	 * @param maximumSize the maximum number of cached documents, must be greater than 0
+	 * @param timeToLive the time after which a cached document is evicted, must be positive
+	 * @param revalidating if {@literal true}, the {@code _seq_no} and {@code _primary_term} of a document are checked
+	 *          with a get request without the source before the cached document is used
+	 */
+	public EntityCache(int maximumSize, Duration timeToLive, boolean revalidating) {
+
+		Assert.isTrue(maximumSize > 0, "maximumSize must be greater than 0");
+		Assert.notNull(timeToLive, "timeToLive must not be null");
+		Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "timeToLive must be positive");
+
+		this.maximumSize = maximumSize;
+		this.timeToLiveNanos = timeToLive.toNanos();
+		this.revalidating = revalidating;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<DocumentKey, Entry> eldest) {
+
+				if (size() > EntityCache.this.maximumSize) {
+					evictionCount.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	public boolean isRevalidating() {
+		return revalidating;
+	}
+
+	/**
+	 * reads the entity from the cached document of the request or executes the get request and caches the returned
+	 * document. In revalidating mode, a cached document is only used when the get request without the source returns
+	 * the same {@code _seq_no} and {@code _primary_term}.
+	 *
+	 * @param getRequest the request for the document
+	 * @param executor executes a get request
+	 * @param reader reads the entity from a document, it is called with a copy of a cached document
+	 * @return the entity, {@literal null} if the document does not exist
+	 */
+	@Nullable
+	<T> T get(GetRequest getRequest, Function<GetRequest, GetResponse<EntityAsMap>> executor,
+			Function<@Nullable Document, @Nullable T> reader) {
+
+		Entry entry = lookup(getRequest.index(), getRequest.id(), getRequest.routing());
+
+		if (entry != null) {
+
+			if (!revalidating) {
+				hitCount.increment();
+				return reader.apply(copy(entry.document()));
+			}
+
+			GetResponse<EntityAsMap> current = executor.apply(withoutSource(getRequest));
+
+			if (current.found() && entry.hasSeqNoPrimaryTerm(current.seqNo(), current.primaryTerm())) {
+				revalidationCount.increment();
+				return reader.apply(copy(entry.document()));
+			}
+		}
+
+		missCount.increment();
+
+		long startGeneration = currentGeneration();
+		Document document = DocumentAdapters.from(executor.apply(getRequest));
+
+		if (document != null) {
+			put(getRequest.index(), getRequest.routing(), document, startGeneration);
+		} else if (entry != null) {
+			evict(getRequest.index(), getRequest.id());
+		}
+
+		return reader.apply(document);
+	}
+
+	/**
+	 * returns a copy of the cached document without revalidating it.
+	 *
+	 * @param index the requested index name, an alias is resolved to the index the document was read from
+	 * @return the document or {@literal null} if it is not cached
+	 */
+	@Nullable
+	Document getIfPresent(String index, String id, @Nullable String routing) {
+
+		Entry entry = lookup(index, id, routing);
+
+		if (entry == null) {
+			missCount.increment();
+			return null;
+		}
+
+		hitCount.increment();
+		return copy(entry.document());
+	}
+
+	@Nullable
+	private synchronized Entry lookup(String index, String id, @Nullable String routing) {
+
+		DocumentKey key = new DocumentKey(concreteIndexName(index), id);
+		Entry entry = entries.get(key);
+
+		if (entry != null && entry.expiresAt() - System.nanoTime() <= 0) {
+			entries.remove(key);
+			evictionCount.increment();
+			return null;
+		}
+
+		if (entry == null || !Objects.equals(entry.routing(), normalize(routing))) {
+			return null;
+		}
+
+		return entry;
+	}
+
+	synchronized long currentGeneration() {
+		return generation;
+	}
+
+	/**
+	 * caches a copy of the document unless an invalidation happened since it was requested, the document might then not
+	 * contain the changes of the write. Documents without index, id, {@code _seq_no} or {@code _primary_term} are not
+	 * cached.
+	 *
+	 * @param index the requested index name, it may be an alias of the index of the document
+	 */
+	synchronized void put(String index, @Nullable String routing, Document document, long startGeneration) {
+
+		String concreteIndexName = document.getIndex();
+
+		if (generation != startGeneration || concreteIndexName == null || !document.hasId() || !document.hasSeqNo()
+				|| !document.hasPrimaryTerm()) {
+			return;
+		}
+
+		if (!index.equals(concreteIndexName)) {
+			concreteIndexNames.put(index, concreteIndexName);
+		}
+
+		entries.put(new DocumentKey(concreteIndexName, document.getId()), new Entry(copy(document), normalize(routing),
+				document.getSeqNo(), document.getPrimaryTerm(), System.nanoTime() + timeToLiveNanos));
+	}
+
+	/**
+	 * removes the cached document of a written document.
+	 *
+	 * @param index the written index, an alias is resolved to the index the document was read from
+	 */
+	synchronized void evict(String index, @Nullable String id) {
+
+		generation++;
+
+		if (id != null && entries.remove(new DocumentKey(concreteIndexName(index), id)) != null) {
+			invalidationCount.increment();
+		}
+	}
+
+	/**
+	 * removes the cached documents written by the given queries of a bulk request. The queries may name an index that
+	 * overrides the index of the request.
+	 */
+	synchronized void evict(IndexCoordinates index, List<?> queries) {
+
+		for (Object query : queries) {
+			if (query instanceof IndexQuery indexQuery) {
+				evict(indexQuery.getIndexName() != null ? indexQuery.getIndexName() : index.getIndexName(),
+						indexQuery.getId());
+			} else if (query instanceof UpdateQuery updateQuery) {
+				evict(updateQuery.getIndexName() != null ? updateQuery.getIndexName() : index.getIndexName(),
+						updateQuery.getId());
+			} else if (query instanceof DeleteByIdQuery deleteByIdQuery) {
+				evict(index.getIndexName(), deleteByIdQuery.getId());
+			}
+		}
+	}
+
+	/**
+	 * removes the cached documents of the given index, including the documents read through an alias that matches one
+	 * of the index names.
+	 *
+	 * @param index the written index, must not be {@literal null}
+	 */
+	public synchronized void invalidate(IndexCoordinates index) {
+
+		Assert.notNull(index, "index must not be null");
+
+		generation++;
+
+		Set<String> matchedConcreteIndexNames = new HashSet<>();
+		concreteIndexNames.forEach((alias, concreteIndexName) -> {
+			if (matches(index, alias)) {
+				matchedConcreteIndexNames.add(concreteIndexName);
+			}
+		});
+
+		Iterator<DocumentKey> keys = entries.keySet().iterator();
+		while (keys.hasNext()) {
+			String cachedIndex = keys.next().index();
+			if (matchedConcreteIndexNames.contains(cachedIndex) || matches(index, cachedIndex)) {
+				keys.remove();
+				invalidationCount.increment();
+			}
+		}
+	}
+
+	/**
+	 * removes all cached documents.
+	 */
+	public synchronized void clear() {
+
+		generation++;
+		invalidationCount.add(entries.size());
+		entries.clear();
+		concreteIndexNames.clear();
+	}
+
+	public Statistics getStatistics() {
+
+		int size;
+		synchronized (this) {
+			size = entries.size();
+		}
+
+		return new Statistics(hitCount.sum(), revalidationCount.sum(), missCount.sum(), evictionCount.sum(),
+				invalidationCount.sum(), size);
+	}
+
+	private String concreteIndexName(String index) {
+		return concreteIndexNames.getOrDefault(index, index);
+	}
+
+	private static boolean matches(IndexCoordinates index, String indexName) {
+
+		for (String pattern : index.getIndexNames()) {
+			if (PatternMatchUtils.simpleMatch(pattern, indexName)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * copies the document with its metadata, so that the cached document is not changed by the callbacks or the caller.
+	 * Nested objects of the source are not copied, they are not changed when an entity is read.
+	 */
+	private static Document copy(Document document) {
+
+		Document copy = Document.from(document);
+		copy.setIndex(document.getIndex());
+
+		if (document.hasId()) {
+			copy.setId(document.getId());
+		}
+
+		if (document.hasVersion()) {
+			copy.setVersion(document.getVersion());
+		}
+
+		if (document.hasSeqNo()) {
+			copy.setSeqNo(document.getSeqNo());
+		}
+
+		if (document.hasPrimaryTerm()) {
+			copy.setPrimaryTerm(document.getPrimaryTerm());
+		}
+
+		return copy;
+	}
+
+	private static GetRequest withoutSource(GetRequest getRequest) {
+
+		return GetRequest.of(grb -> {
+			GetRequest.Builder builder = grb //
+					.index(getRequest.index()) //
+					.id(getRequest.id()) //
+					.source(sc -> sc.fetch(false));
+
+			if (getRequest.routing() != null) {
+				builder.routing(getRequest.routing());
+			}
+			return builder;
+		});
+	}
+
+	@Nullable
+	private static String normalize(@Nullable String routing) {
+		return StringUtils.hasText(routing) ? routing : null;
+	}
+
+	/**
+	 * @param hitCount the number of documents returned from the cache without a request
+	 * @param revalidationCount the number of documents returned from the cache after a get request without the source
+	 * @param missCount the number of documents that were read from Elasticsearch
+	 * @param evictionCount the number of documents removed because they expired or the maximum size was exceeded
+	 * @param invalidationCount the number of documents removed because they were written or the cache was cleared
+	 * @param size the number of currently cached documents
+	 */
+	public record Statistics(long hitCount, long revalidationCount, long missCount, long evictionCount,
+			long invalidationCount, int size) {
+	}
+
+	private record DocumentKey(String index, String id) {
+	}
+
+	private record Entry(Document document, @Nullable String routing, long seqNo, long primaryTerm, long expiresAt) {
+
+		boolean hasSeqNoPrimaryTerm(@Nullable Long seqNo, @Nullable Long primaryTerm) {
+			return seqNo != null && primaryTerm != null && this.seqNo == seqNo && this.primaryTerm == primaryTerm;
+		}
+	}
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.DeleteByIdQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.util.Assert;
+import org.springframework.util.PatternMatchUtils;
+
+/**
+ * Snapshots of the documents that entities were read from by id with a get or multi get request, set on an
+ * {@link ElasticsearchTemplate} with {@link ElasticsearchTemplate#setEntitySnapshots(EntitySnapshots)}. Documents of
+ * search hits are not kept. When an entity whose document has a snapshot is
+ * saved, the template compares the converted entity with the snapshot and sends an update with only the changed
+ * top-level fields instead of indexing the whole document. The update is guarded by the {@code _seq_no} and
+ * {@code _primary_term} of the snapshot; if the document was changed or deleted in the meantime, the entity is indexed
+ * as before. A save of several entities sends the updates in the bulk request.
+ * <p>
+ * Snapshots are only taken from documents that were returned with their {@code _seq_no} and {@code _primary_term} and
+ * are kept by the index name the document was read from, so entities that are saved to an alias are indexed. Entities
+ * with a version property, entities saved with op type create and saves that would remove a field or a property of an
+ * object are indexed as well. Unlike indexing, a partial update keeps fields of the stored document that are not
+ * written by the entity; fields that were not read because of a source filter are therefore not removed.
+ * <p>
+ * Entries are evicted least recently used first when the maximum size is exceeded and when the template writes the
+ * document by other operations.
+ *
+ * @since 6.2
+ */
+public class EntitySnapshots {
+
+	public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+	private final int maximumSize;
+	private final Map<DocumentKey, Snapshot> snapshots;
+
+	private final LongAdder partialUpdateCount = new LongAdder();
+	private final LongAdder fullIndexCount = new LongAdder();
+
+	public EntitySnapshots() {
+		this(DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * @param maximumSize the maximum number of snapshots, must be greater than 0
+	 */
+	public EntitySnapshots(int maximumSize) {
+
+		Assert.isTrue(maximumSize > 0, "maximumSize must be greater than 0");
+
+		this.maximumSize = maximumSize;
+		this.snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<DocumentKey, Snapshot> eldest) {
+				return size() > EntitySnapshots.this.maximumSize;
+			}
+		};
+	}
+
+	/**
+	 * stores the snapshot of a read or written document. The map is copied, the values are not.
+	 */
+	void put(String index, String id, Map<String, Object> source, long seqNo, long primaryTerm) {
+
+		Snapshot snapshot = new Snapshot(new LinkedHashMap<>(source), seqNo, primaryTerm);
+
+		synchronized (this) {
+			snapshots.put(new DocumentKey(index, id), snapshot);
+		}
+	}
+
+	/**
+	 * stores the snapshot of a document read by the template if it has an id, an index, a {@code _seq_no} and a
+	 * {@code _primary_term}.
+	 */
+	void put(Document document) {
+
+		if (document.hasId() && document.getIndex() != null && document.hasSeqNo() && document.hasPrimaryTerm()) {
+			put(document.getIndex(), document.getId(), document, document.getSeqNo(), document.getPrimaryTerm());
+		}
+	}
+
+	synchronized void evict(String index, @Nullable String id) {
+
+		if (id != null) {
+			snapshots.remove(new DocumentKey(index, id));
+		}
+	}
+
+	/**
+	 * removes the snapshots of the documents written by the given queries of a bulk request. The queries may name an
+	 * index that overrides the index of the request.
+	 */
+	synchronized void evict(IndexCoordinates index, List<?> queries) {
+
+		for (Object query : queries) {
+			if (query instanceof IndexQuery indexQuery) {
+				evict(indexQuery.getIndexName() != null ? indexQuery.getIndexName() : index.getIndexName(),
+						indexQuery.getId());
+			} else if (query instanceof UpdateQuery updateQuery) {
+				evict(updateQuery.getIndexName() != null ? updateQuery.getIndexName() : index.getIndexName(),
+						updateQuery.getId());
+			} else if (query instanceof DeleteByIdQuery deleteByIdQuery) {
+				evict(index.getIndexName(), deleteByIdQuery.getId());
+			}
+		}
+	}
+
+	/**
+	 * removes the snapshots of all documents of the given index.
+	 *
+	 * @param index the written index, must not be {@literal null}
+	 */
+	public synchronized void invalidate(IndexCoordinates index) {
+
+		Assert.notNull(index, "index must not be null");
+
+		Iterator<DocumentKey> keys = snapshots.keySet().iterator();
+		while (keys.hasNext()) {
+			String snapshotIndex = keys.next().index();
+			for (String indexName : index.getIndexNames()) {
+				if (PatternMatchUtils.simpleMatch(indexName, snapshotIndex)) {
+					keys.remove();
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * removes all snapshots.
+	 */
+	public synchronized void clear() {
+		snapshots.clear();
+	}
+
+	/**
+	 * returns an {@link UpdateQuery} with the fields of the converted entity that differ from the snapshot of its
+	 * document.
+	 *
+	 * @param query the query to index the entity
+	 * @param indexName the name of the index the entity is written to
+	 * @param document the converted entity
+	 * @return the update query or {@literal null} if the entity must be indexed
+	 */
+	@Nullable
+	UpdateQuery partialUpdate(IndexQuery query, String indexName, Document document) {
+
+		UpdateQuery updateQuery = createPartialUpdate(query, indexName, document);
+
+		if (updateQuery != null) {
+			partialUpdateCount.increment();
+		} else {
+			fullIndexCount.increment();
+		}
+
+		return updateQuery;
+	}
+
+	@Nullable
+	private UpdateQuery createPartialUpdate(IndexQuery query, String indexName, Document document) {
+
+		String id = query.getId();
+
+		if (id == null || query.getVersion() != null || query.getOpType() == IndexQuery.OpType.CREATE) {
+			return null;
+		}
+
+		Snapshot snapshot;
+		synchronized (this) {
+			snapshot = snapshots.get(new DocumentKey(indexName, id));
+		}
+
+		if (snapshot == null || (query.getSeqNo() != null && (query.getSeqNo() != snapshot.seqNo()
+				|| !Objects.equals(query.getPrimaryTerm(), snapshot.primaryTerm())))) {
+			return null;
+		}
+
+		for (String field : snapshot.source().keySet()) {
+			if (!document.containsKey(field)) {
+				return null;
+			}
+		}
+
+		Document changedFields = Document.create();
+
+		for (Map.Entry<String, Object> entry : document.entrySet()) {
+			Object previous = snapshot.source().get(entry.getKey());
+			Object current = entry.getValue();
+
+			if (!valueEquals(previous, current)) {
+
+				if (!canBeMerged(previous, current)) {
+					return null;
+				}
+				changedFields.put(entry.getKey(), current);
+			}
+		}
+
+		UpdateQuery.Builder builder = UpdateQuery.builder(id) //
+				.withIndex(indexName) //
+				.withDocument(changedFields) //
+				.withIfSeqNo(snapshot.seqNo()) //
+				.withIfPrimaryTerm(snapshot.primaryTerm());
+
+		if (query.getRouting() != null) {
+			builder.withRouting(query.getRouting());
+		}
+
+		return builder.build();
+	}
+
+	public Statistics getStatistics() {
+
+		int size;
+		synchronized (this) {
+			size = snapshots.size();
+		}
+
+		return new Statistics(partialUpdateCount.sum(), fullIndexCount.sum(), size);
+	}
+
+	/**
+	 * compares the values of a snapshot and a converted entity. Numbers are compared by their value, as a number read
+	 * from a document may have a different type than the property it is converted to.
+	 */
+	static boolean valueEquals(@Nullable Object previous, @Nullable Object current) {
+
+		if (previous == current) {
+			return true;
+		}
+
+		if (previous == null || current == null) {
+			return false;
+		}
+
+		if (previous instanceof Number previousNumber && current instanceof Number currentNumber) {
+			return isIntegral(previousNumber) && isIntegral(currentNumber)
+					? previousNumber.longValue() == currentNumber.longValue()
+					: Double.compare(previousNumber.doubleValue(), currentNumber.doubleValue()) == 0;
+		}
+
+		if (previous instanceof Map<?, ?> previousMap && current instanceof Map<?, ?> currentMap) {
+
+			if (previousMap.size() != currentMap.size()) {
+				return false;
+			}
+
+			for (Map.Entry<?, ?> entry : previousMap.entrySet()) {
+				if (!currentMap.containsKey(entry.getKey())
+						|| !valueEquals(entry.getValue(), currentMap.get(entry.getKey()))) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		if (previous instanceof List<?> previousList && current instanceof List<?> currentList) {
+
+			if (previousList.size() != currentList.size()) {
+				return false;
+			}
+
+			for (int i = 0; i < previousList.size(); i++) {
+				if (!valueEquals(previousList.get(i), currentList.get(i))) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		return previous.equals(current);
+	}
+
+	private static boolean isIntegral(Number number) {
+		return !(number instanceof Double || number instanceof Float || number instanceof BigDecimal);
+	}
+
+	/**
+	 * a partial update merges objects with the stored objects, so a property that is missing in the new object would
+	 * be kept.
+	 */
+	private static boolean canBeMerged(@Nullable Object previous, @Nullable Object current) {
+
+		if (previous instanceof Map<?, ?> previousMap && current instanceof Map<?, ?> currentMap) {
+
+			for (Map.Entry<?, ?> entry : previousMap.entrySet()) {
+				if (!currentMap.containsKey(entry.getKey())
+						|| !canBeMerged(entry.getValue(), currentMap.get(entry.getKey()))) {
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * @param partialUpdateCount the number of saved entities that were sent as partial update
+	 * @param fullIndexCount the number of saved entities that had to be indexed
+	 * @param size the number of currently stored snapshots
+	 */
+	public record Statistics(long partialUpdateCount, long fullIndexCount, int size) {
+	}
+
+	private record DocumentKey(String index, String id) {
+	}
+
+	private record Snapshot(Map<String, Object> source, long seqNo, long primaryTerm) {
+	}
+}
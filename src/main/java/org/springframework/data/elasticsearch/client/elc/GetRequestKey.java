@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.elasticsearch.core.GetRequest;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Identifies the document that is requested by a {@link GetRequest}. Used to coalesce concurrent get requests for the
+ * same document.
+ *
+ * @since 6.2
+ */
+record GetRequestKey(String index, String id, @Nullable String routing) {
+
+	static GetRequestKey of(GetRequest getRequest) {
+		return new GetRequestKey(getRequest.index(), getRequest.id(), getRequest.routing());
+	}
+}
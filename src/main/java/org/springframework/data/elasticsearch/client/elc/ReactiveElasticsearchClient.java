@@ -275,6 +275,29 @@ public class ReactiveElasticsearchClient extends ApiClient<ElasticsearchTranspor
 		return search(fn.apply(new SearchRequest.Builder()).build(), tDocumentClass);
 	}
 
+	/**
+	 * @since 6.2
+	 */
+	public <T> Mono<MsearchResponse<T>> msearch(MsearchRequest request, Class<T> tDocumentClass) {
+
+		Assert.notNull(request, "request must not be null");
+		Assert.notNull(tDocumentClass, "tDocumentClass must not be null");
+
+		return Mono.fromFuture(transport.performRequestAsync(request,
+				MsearchRequest.createMsearchEndpoint(this.getDeserializer(tDocumentClass)), transportOptions));
+	}
+
+	/**
+	 * @since 6.2
+	 */
+	public <T> Mono<MsearchResponse<T>> msearch(Function<MsearchRequest.Builder, ObjectBuilder<MsearchRequest>> fn,
+			Class<T> tDocumentClass) {
+
+		Assert.notNull(fn, "fn must not be null");
+
+		return msearch(fn.apply(new MsearchRequest.Builder()).build(), tDocumentClass);
+	}
+
 	/**
 	 * @since 5.1
 	 */
@@ -20,6 +20,7 @@ import static org.springframework.data.elasticsearch.client.elc.TypeUtils.*;
 
 import co.elastic.clients.elasticsearch._types.Result;
 import co.elastic.clients.elasticsearch.core.*;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
 import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
 import co.elastic.clients.elasticsearch.core.search.ResponseBody;
 import co.elastic.clients.json.JsonpMapper;
@@ -27,18 +28,28 @@ import co.elastic.clients.transport.Version;
 import co.elastic.clients.transport.endpoints.BooleanResponse;
 import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationRegistry;
+import jakarta.json.stream.JsonGenerator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
 
+import java.io.ByteArrayOutputStream;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -95,6 +106,9 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 	private final ResponseConverter responseConverter;
 	private final JsonpMapper jsonpMapper;
 	private final ElasticsearchExceptionTranslator exceptionTranslator;
+	private final Map<GetRequestKey, Mono<GetResponse<EntityAsMap>>> runningGetRequests = new ConcurrentHashMap<>();
+	private final SearchBatcher searchBatcher = new SearchBatcher();
+	@Nullable private SearchResultCache searchResultCache;
 
 	public ReactiveElasticsearchTemplate(ReactiveElasticsearchClient client, ElasticsearchConverter converter) {
 		super(converter);
@@ -167,6 +181,17 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 		});
 	}
 
+	private <T> Flux<T> observeFlux(ElasticsearchOperationName operationName, @Nullable IndexCoordinates index,
+			int batchSize, Flux<T> flux) {
+		return Flux.defer(() -> {
+			Observation observation = createObservation(operationName, index, batchSize);
+			return flux.doOnError(observation::error) //
+					.doFinally(signalType -> observation.stop())
+					.contextWrite(context -> context.put(Observation.class, observation))
+					.doOnSubscribe(subscription -> observation.start());
+		});
+	}
+
 	private Observation createObservation(ElasticsearchOperationName operationName, @Nullable IndexCoordinates index,
 			@Nullable Integer batchSize) {
 
@@ -177,6 +202,39 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 				DefaultElasticsearchObservationConvention.INSTANCE, () -> context, observationRegistry);
 	}
 
+	/**
+	 * Set a cache for the responses of searches, the entries of an index are invalidated when this template writes to
+	 * it. See {@link SearchResultCache} for the details.
+	 *
+	 * @param searchResultCache the cache to use, {@literal null} to not cache search results, which is the default.
+	 * @since 6.2
+	 */
+	public void setSearchResultCache(@Nullable SearchResultCache searchResultCache) {
+		this.searchResultCache = searchResultCache;
+	}
+
+	@Nullable
+	public SearchResultCache getSearchResultCache() {
+		return searchResultCache;
+	}
+
+	/**
+	 * invalidates the cached search results of the written index before the result of the write is passed on, so that
+	 * a search following the write does not return a cached result.
+	 */
+	private <R> Mono<R> invalidatingSearchResults(Mono<R> write, Consumer<SearchResultCache> invalidation) {
+
+		SearchResultCache cache = searchResultCache;
+
+		if (cache == null) {
+			return write;
+		}
+
+		return write //
+				.doOnEach(signal -> invalidation.accept(cache)) //
+				.doOnCancel(() -> invalidation.accept(cache));
+	}
+
 	// region Document operations
 	@Override
 	public <T> Mono<T> save(T entity, IndexCoordinates index) {
@@ -208,6 +266,11 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 		return observeMono(ElasticsearchOperationName.COUNT, index, super.count(query, entityType, index));
 	}
 
+	@Override
+	public Mono<Boolean> exists(Query query, Class<?> entityType, IndexCoordinates index) {
+		return observeMono(ElasticsearchOperationName.EXISTS, index, super.exists(query, entityType, index));
+	}
+
 	@Override
 	protected <T> Mono<Tuple2<T, IndexResponseMetaData>> doIndex(T entity, IndexCoordinates index) {
 
@@ -215,7 +278,8 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 				getRefreshPolicy());
 		return Mono.just(entity) //
 				.zipWith(//
-						Mono.from(execute(client -> client.index(indexRequest))) //
+						invalidatingSearchResults(Mono.from(execute(client -> client.index(indexRequest))),
+								cache -> cache.invalidate(IndexCoordinates.of(indexRequest.index()))) //
 								.map(indexResponse -> new IndexResponseMetaData(indexResponse.id(), //
 										indexResponse.index(), //
 										indexResponse.seqNo(), //
@@ -259,6 +323,111 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 				}));
 	}
 
+	@Override
+	public <T> Flux<T> save(Publisher<T> entities, IndexCoordinates index, BulkIngesterOptions options) {
+
+		Assert.notNull(entities, "entities must not be null");
+		Assert.notNull(index, "index must not be null");
+		Assert.notNull(options, "options must not be null");
+
+		int maxOperations = options.getMaxOperations() > 0 ? options.getMaxOperations() : Integer.MAX_VALUE;
+		long maxSizeInBytes = options.getMaxSizeInBytes();
+		Duration flushInterval = options.getFlushInterval();
+
+		Flux<PendingBulkOperation<T>> operations = Flux.from(entities) //
+				.concatMap(entity -> maybeCallbackBeforeConvert(entity, index)) //
+				.map(entity -> {
+					BulkOperation bulkOperation = requestConverter.documentBulkOperation(getIndexQuery(entity), index,
+							getRefreshPolicy());
+					long size = maxSizeInBytes > 0 ? estimateSize(bulkOperation) : 0;
+					return new PendingBulkOperation<>(entity, bulkOperation, size);
+				});
+
+		Flux<Flux<PendingBulkOperation<T>>> windows = flushInterval != null
+				? operations.windowTimeout(maxOperations, flushInterval, true)
+				: operations.window(maxOperations);
+
+		Flux<List<PendingBulkOperation<T>>> batches = windows.concatMap(window -> {
+
+			if (maxSizeInBytes <= 0) {
+				return window.collectList().filter(batch -> !batch.isEmpty()).flux();
+			}
+
+			// split the window further when the size limit is reached, the operation exceeding the limit starts the next
+			// batch
+			AtomicLong batchSize = new AtomicLong();
+			return window.bufferUntil(operation -> {
+				long size = batchSize.addAndGet(operation.size());
+				if (size > maxSizeInBytes && size != operation.size()) {
+					batchSize.set(operation.size());
+					return true;
+				}
+				return false;
+			}, true);
+		});
+
+		return batches.flatMap(batch -> doSaveBatch(batch, options.getBulkOptions(), index),
+				options.getMaxConcurrentRequests());
+	}
+
+	private <T> Flux<T> doSaveBatch(List<PendingBulkOperation<T>> batch, BulkOptions bulkOptions,
+			IndexCoordinates index) {
+
+		BulkRequest bulkRequest = requestConverter
+				.documentBulkRequestSettings(new BulkRequest.Builder(), bulkOptions, getRefreshPolicy()) //
+				.operations(batch.stream().map(PendingBulkOperation::bulkOperation).toList()) //
+				.build();
+
+		Flux<T> savedEntities = invalidatingSearchResults(client.bulk(bulkRequest), cache -> cache.invalidate(index))
+				.onErrorMap(e -> new UncategorizedElasticsearchException("Error executing bulk request", e))
+				.flatMap(this::checkForBulkOperationFailure) //
+				.flatMapMany(response -> Flux.fromIterable(response.items())) //
+				.index() //
+				.concatMap(indexAndResponse -> {
+					T savedEntity = batch.get(indexAndResponse.getT1().intValue()).entity();
+					BulkResponseItem response = indexAndResponse.getT2();
+					var updatedEntity = entityOperations.updateIndexedObject(
+							savedEntity, new IndexedObjectInformation( //
+									response.id(), //
+									response.index(), //
+									response.seqNo(), //
+									response.primaryTerm(), //
+									response.version()), //
+							converter, //
+							routingResolver);
+					return maybeCallbackAfterSave(updatedEntity, index);
+				});
+
+		return observeFlux(ElasticsearchOperationName.BULK, index, batch.size(), savedEntities);
+	}
+
+	/**
+	 * estimates the size of the document of a bulk operation by serializing it with the {@link JsonpMapper} the same
+	 * way the Elasticsearch client does when building the request body.
+	 */
+	private long estimateSize(BulkOperation bulkOperation) {
+
+		Object document = bulkOperation.isIndex() ? bulkOperation.index().document()
+				: bulkOperation.isCreate() ? bulkOperation.create().document() : null;
+
+		if (document == null) {
+			return 0;
+		}
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (JsonGenerator generator = jsonpMapper.jsonProvider().createGenerator(out)) {
+			jsonpMapper.serialize(document, generator);
+		}
+		return out.size();
+	}
+
+	/**
+	 * value class holding an entity that will be saved together with the bulk operation created for it and the
+	 * estimated size of this operation.
+	 */
+	private record PendingBulkOperation<T>(T entity, BulkOperation bulkOperation, long size) {
+	}
+
 	@Override
 	protected Mono<Boolean> doExists(String id, IndexCoordinates index) {
 
@@ -280,7 +449,8 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 		return observeMono(ElasticsearchOperationName.DELETE_BY_QUERY, index, Mono.defer(() -> {
 			DeleteByQueryRequest request = requestConverter.documentDeleteByQueryRequest(query, routingResolver.getRouting(),
 					entityType, index, getRefreshPolicy());
-			return Mono.from(execute(client -> client.deleteByQuery(request))).map(responseConverter::byQueryResponse);
+			return invalidatingSearchResults(Mono.from(execute(client -> client.deleteByQuery(request))),
+					cache -> cache.invalidate(index)).map(responseConverter::byQueryResponse);
 		}));
 	}
 
@@ -294,14 +464,26 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 		return observeMono(ElasticsearchOperationName.GET, index, Mono.defer(() -> {
 			GetRequest getRequest = requestConverter.documentGetRequest(id, routingResolver.getRouting(), index);
 
-			Mono<GetResponse<EntityAsMap>> getResponse = Mono //
-					.from(execute(client -> client.get(getRequest, EntityAsMap.class)));
+			Mono<GetResponse<EntityAsMap>> getResponse = getCoalescing ? executeCoalesced(getRequest)
+					: Mono.from(execute(client -> client.get(getRequest, EntityAsMap.class)));
 
 			ReadDocumentCallback<T> callback = new ReadDocumentCallback<>(converter, entityType, index);
 			return getResponse.flatMap(response -> callback.toEntity(DocumentAdapters.from(response)));
 		}));
 	}
 
+	/**
+	 * returns the response of a running get request for the same document or executes the get request. Subscribers that
+	 * subscribe while the request is running share its response.
+	 */
+	private Mono<GetResponse<EntityAsMap>> executeCoalesced(GetRequest getRequest) {
+
+		return Mono.defer(() -> runningGetRequests.computeIfAbsent(GetRequestKey.of(getRequest),
+				key -> Mono.from(execute(client -> client.get(getRequest, EntityAsMap.class))) //
+						.doFinally(signalType -> runningGetRequests.remove(key)) //
+						.share()));
+	}
+
 	@Override
 	public Mono<ReindexResponse> reindex(ReindexRequest reindexRequest) {
 
@@ -340,7 +522,8 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 			UpdateRequest<Document, ?> request = requestConverter.documentUpdateRequest(updateQuery, index,
 					getRefreshPolicy(), routingResolver.getRouting());
 
-			return Mono.from(execute(client -> client.update(request, Document.class))).flatMap(response -> {
+			return invalidatingSearchResults(Mono.from(execute(client -> client.update(request, Document.class))),
+					cache -> cache.invalidate(IndexCoordinates.of(request.index()))).flatMap(response -> {
 				UpdateResponse.Result result = result(response.result());
 				return result == null ? Mono.empty() : Mono.just(UpdateResponse.of(result));
 			});
@@ -365,20 +548,73 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 
 	private Flux<BulkResponseItem> doBulkOperation(List<?> queries, BulkOptions bulkOptions, IndexCoordinates index) {
 
+		BulkOptions.RetryPolicy retryPolicy = bulkOptions.getRetryPolicy();
+
+		if (retryPolicy != null) {
+			return Flux.defer(() -> {
+				BulkResponseItem[] items = new BulkResponseItem[queries.size()];
+				List<Integer> positions = IntStream.range(0, queries.size()).boxed().toList();
+				return doBulkOperationWithRetry(queries, positions, items, bulkOptions, retryPolicy, index, 0) //
+						.then(Mono.defer(() -> checkForBulkItemFailures(Arrays.asList(items)))) //
+						.flatMapMany(Flux::fromIterable);
+			});
+		}
+
 		BulkRequest bulkRequest = requestConverter.documentBulkRequest(queries, bulkOptions, index, getRefreshPolicy());
-		return client.bulk(bulkRequest)
+		return invalidatingSearchResults(client.bulk(bulkRequest), cache -> cache.invalidate(index, queries))
 				.onErrorMap(e -> new UncategorizedElasticsearchException("Error executing bulk request", e))
 				.flatMap(this::checkForBulkOperationFailure) //
 				.flatMapMany(response -> Flux.fromIterable(response.items()));
 
 	}
 
+	/**
+	 * sends the queries at the given positions in a bulk request, stores the response items at these positions and
+	 * resends the items that failed with a retryable error as defined by the {@link BulkOptions.RetryPolicy}.
+	 */
+	private Mono<Void> doBulkOperationWithRetry(List<?> queries, List<Integer> positions, BulkResponseItem[] items,
+			BulkOptions bulkOptions, BulkOptions.RetryPolicy retryPolicy, IndexCoordinates index, int attempt) {
+
+		List<?> pendingQueries = positions.stream().map(queries::get).toList();
+		BulkRequest bulkRequest = requestConverter.documentBulkRequest(pendingQueries, bulkOptions, index,
+				getRefreshPolicy());
+
+		return invalidatingSearchResults(client.bulk(bulkRequest), cache -> cache.invalidate(index, pendingQueries))
+				.onErrorMap(e -> new UncategorizedElasticsearchException("Error executing bulk request", e))
+				.flatMap(bulkResponse -> {
+					List<Integer> retryPositions = new ArrayList<>();
+					Iterator<Integer> positionIterator = positions.iterator();
+
+					for (BulkResponseItem item : bulkResponse.items()) {
+						int position = positionIterator.next();
+						items[position] = item;
+
+						if (item.error() != null && attempt < retryPolicy.maxRetries()
+								&& retryPolicy.isRetryable(item.status(), item.error().type())) {
+							retryPositions.add(position);
+						}
+					}
+
+					if (retryPositions.isEmpty()) {
+						return Mono.empty();
+					}
+
+					return Mono.delay(retryPolicy.backoff(attempt)) //
+							.then(doBulkOperationWithRetry(queries, retryPositions, items, bulkOptions, retryPolicy, index,
+									attempt + 1));
+				});
+	}
+
 	private Mono<BulkResponse> checkForBulkOperationFailure(BulkResponse bulkResponse) {
+		return checkForBulkItemFailures(bulkResponse.items()).thenReturn(bulkResponse);
+	}
 
-		if (bulkResponse.errors()) {
+	private Mono<List<BulkResponseItem>> checkForBulkItemFailures(List<BulkResponseItem> bulkResponseItems) {
+
+		if (bulkResponseItems.stream().anyMatch(item -> item.error() != null)) {
 			Map<String, BulkFailureException.FailureDetails> failedDocuments = new HashMap<>();
 
-			for (BulkResponseItem item : bulkResponse.items()) {
+			for (BulkResponseItem item : bulkResponseItems) {
 
 				if (item.error() != null && item.id() != null) {
 					failedDocuments.put(item.id(), new BulkFailureException.FailureDetails(item.status(), item.error().reason()));
@@ -390,7 +626,7 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 					failedDocuments);
 			return Mono.error(exception);
 		} else {
-			return Mono.just(bulkResponse);
+			return Mono.just(bulkResponseItems);
 		}
 	}
 
@@ -408,7 +644,8 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 
 	private Mono<String> doDelete(DeleteRequest request) {
 
-		return Mono.from(execute(client -> client.delete(request))) //
+		return invalidatingSearchResults(Mono.from(execute(client -> client.delete(request))),
+				cache -> cache.invalidate(IndexCoordinates.of(request.index()))) //
 				.flatMap(deleteResponse -> {
 					if (deleteResponse.result() == Result.NotFound) {
 						return Mono.empty();
@@ -424,15 +661,18 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 		Assert.notNull(clazz, "clazz must not be null");
 
 		return observeFlux(ElasticsearchOperationName.MULTI_GET, index, Flux.defer(() -> {
-			MgetRequest request = requestConverter.documentMgetRequest(query, clazz, index);
+			List<MgetRequest> requests = requestConverter.documentMgetRequests(query, clazz, index, multiGetChunkSize);
 
 			ReadDocumentCallback<T> callback = new ReadDocumentCallback<>(converter, clazz, index);
 
-			Publisher<MgetResponse<EntityAsMap>> response = execute(client -> client.mget(request, EntityAsMap.class));
-
-			return Mono.from(response)//
-					.flatMapMany(it -> Flux.fromIterable(DocumentAdapters.from(it))) //
-					.flatMap(multiGetItem -> {
+			// the chunks are requested concurrently, the results are emitted in the order of the ids
+			return Flux.fromIterable(requests) //
+					.flatMapSequential(request -> {
+						Publisher<MgetResponse<EntityAsMap>> response = execute(client -> client.mget(request, EntityAsMap.class));
+						return Mono.from(response);
+					}, multiGetConcurrency) //
+					.flatMapIterable(it -> DocumentAdapters.from(it)) //
+					.concatMap(multiGetItem -> {
 						if (multiGetItem.isFailed()) {
 							return Mono.just(MultiGetItem.of(null, multiGetItem.getFailure()));
 						} else {
@@ -455,6 +695,7 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 
 		if (copy instanceof ReactiveElasticsearchTemplate reactiveTemplate) {
 			reactiveTemplate.observationConvention = this.observationConvention;
+			reactiveTemplate.searchResultCache = this.searchResultCache;
 		}
 	}
 
@@ -505,24 +746,7 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 
 				baseQuery.setPointInTime(new Query.PointInTime(psa.getPit(), pitKeepAlive));
 
-				// only add _shard_doc if there is not a field_collapse and a sort with the same name
-				boolean addShardDoc = true;
-
-				if (query instanceof NativeQuery nativeQuery && nativeQuery.getFieldCollapse() != null) {
-					var field = nativeQuery.getFieldCollapse().field();
-
-					if (nativeQuery.getSortOptions().stream()
-							.anyMatch(sortOptions -> sortOptions.isField() && sortOptions.field().field().equals(field))) {
-						addShardDoc = false;
-					}
-
-					if (query.getSort() != null
-							&& query.getSort().stream().anyMatch(order -> order.getProperty().equals(field))) {
-						addShardDoc = false;
-					}
-				}
-
-				if (addShardDoc) {
+				if (RequestConverter.addShardDocSort(query)) {
 					baseQuery.addSort(Sort.by("_shard_doc"));
 				}
 
@@ -603,12 +827,25 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 				.map(searchResponse -> searchResponse.hits().total() != null ? searchResponse.hits().total().value() : 0L);
 	}
 
+	@Override
+	protected Mono<Boolean> doExists(Query query, Class<?> entityType, IndexCoordinates index) {
+
+		Assert.notNull(query, "query must not be null");
+		Assert.notNull(index, "index must not be null");
+
+		SearchRequest searchRequest = requestConverter.existsSearchRequest(query, routingResolver.getRouting(), entityType,
+				index);
+
+		return Mono.from(execute(client -> client.search(searchRequest, EntityAsMap.class)))
+				.map(searchResponse -> !searchResponse.hits().hits().isEmpty());
+	}
+
 	private Flux<SearchDocument> doFindBounded(Query query, Class<?> clazz, IndexCoordinates index) {
 
-		SearchRequest searchRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index,
-				false, false);
+		Mono<ResponseBody<EntityAsMap>> searchResponse = executeSearch(query, clazz, index,
+				() -> requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index, false, false));
 
-		return Mono.from(execute(client -> client.search(searchRequest, EntityAsMap.class))) //
+		return searchResponse //
 				.flatMapIterable(entityAsMapSearchResponse -> entityAsMapSearchResponse.hits().hits()) //
 				.map(entityAsMapHit -> DocumentAdapters.from(entityAsMapHit, jsonpMapper));
 	}
@@ -628,16 +865,72 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 		Assert.notNull(query, "query must not be null");
 		Assert.notNull(index, "index must not be null");
 
-		SearchRequest searchRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index,
-				false);
+		Mono<ResponseBody<EntityAsMap>> searchResponse = executeSearch(query, clazz, index,
+				() -> requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index, false));
 
 		SearchDocumentCallback<T> callback = new ReadSearchDocumentCallback<>((Class<T>) clazz, index);
 
 		SearchDocumentResponse.EntityCreator<T> entityCreator = searchDocument -> callback.toEntity(searchDocument)
 				.toFuture();
 
-		return Mono.from(execute(client -> client.search(searchRequest, EntityAsMap.class)))
-				.map(searchResponse -> SearchDocumentResponseBuilder.from(searchResponse, entityCreator, jsonpMapper));
+		return searchResponse
+				.map(response -> SearchDocumentResponseBuilder.from(response, entityCreator, jsonpMapper));
+	}
+
+	/**
+	 * executes the search, batched with other searches if search batching is enabled, and caches the response if a
+	 * {@link SearchResultCache} is set and the request can be cached.
+	 */
+	private Mono<ResponseBody<EntityAsMap>> executeSearch(Query query, Class<?> clazz, IndexCoordinates index,
+			Supplier<SearchRequest> searchRequestSupplier) {
+
+		Duration window = SearchBatcher.canBeBatched(query) ? searchBatchingWindow : null;
+		SearchResultCache cache = searchResultCache;
+
+		if (window != null && cache == null) {
+			return doBatchedSearch(new ElasticsearchTemplate.MultiSearchQueryParameter(query, clazz, index), window);
+		}
+
+		SearchRequest searchRequest = searchRequestSupplier.get();
+		Mono<ResponseBody<EntityAsMap>> searchResponse = window != null
+				? doBatchedSearch(new ElasticsearchTemplate.MultiSearchQueryParameter(query, clazz, index), window)
+				: Mono.from(execute(client -> client.search(searchRequest, EntityAsMap.class)));
+
+		return cache != null && SearchResultCache.canBeCached(searchRequest)
+				? cache.get(SearchResultCache.Key.of(searchRequest, jsonpMapper), searchResponse)
+				: searchResponse;
+	}
+
+	/**
+	 * adds the search to the current batch of searches when subscribed. When the search opens the batch, the batch is
+	 * executed in one msearch request after the window has passed or when it is full. The execution does not depend on
+	 * the subscription of the opening search, as the other searches of the batch wait for it.
+	 *
+	 * @return the response item of the search
+	 */
+	private Mono<ResponseBody<EntityAsMap>> doBatchedSearch(ElasticsearchTemplate.MultiSearchQueryParameter parameter,
+			Duration window) {
+
+		return Mono.defer(() -> {
+			SearchBatcher.BatchedSearch search = searchBatcher.add(parameter, maxSearchBatchSize);
+
+			if (search.opensBatch()) {
+				Mono.firstWithSignal(Mono.fromFuture(search.batch().full(), true), Mono.delay(window).then()) //
+						.then(Mono.fromSupplier(() -> searchBatcher.close(search.batch()))) //
+						.flatMap(searches -> Mono.defer(() -> {
+							MsearchRequest request = requestConverter.searchMsearchRequest(
+									searches.stream().map(SearchBatcher.BatchedSearch::parameter).toList(),
+									routingResolver.getRouting());
+							return Mono.from(execute(client -> client.msearch(request, EntityAsMap.class)));
+						}) //
+								.doOnNext(response -> SearchBatcher.complete(searches, response, exceptionTranslator)) //
+								.doOnError(throwable -> SearchBatcher.fail(searches, throwable)) //
+								.onErrorComplete()) //
+						.subscribe();
+			}
+
+			return Mono.fromFuture(search.result());
+		});
 	}
 
 	@Override
@@ -720,12 +1013,42 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 
 	@Override
 	public ReactiveIndexOperations indexOps(IndexCoordinates index) {
-		return new ReactiveIndicesTemplate(client.indices(), getReactiveClusterTemplate(), converter, index);
+		return new SearchResultsRefreshingIndicesTemplate(index);
 	}
 
 	@Override
 	public ReactiveIndexOperations indexOps(Class<?> clazz) {
-		return new ReactiveIndicesTemplate(client.indices(), getReactiveClusterTemplate(), converter, clazz);
+		return new SearchResultsRefreshingIndicesTemplate(clazz);
+	}
+
+	/**
+	 * {@link ReactiveIndicesTemplate} that invalidates the cached search results of the refreshed index after a refresh,
+	 * the searches of the index may have been cached before the writes were visible.
+	 */
+	private class SearchResultsRefreshingIndicesTemplate extends ReactiveIndicesTemplate {
+
+		SearchResultsRefreshingIndicesTemplate(IndexCoordinates index) {
+			super(client.indices(), getReactiveClusterTemplate(), converter, index);
+		}
+
+		SearchResultsRefreshingIndicesTemplate(Class<?> clazz) {
+			super(client.indices(), getReactiveClusterTemplate(), converter, clazz);
+		}
+
+		@Override
+		public Mono<Void> refresh() {
+
+			return Mono.defer(() -> {
+				long refreshStartedAt = System.nanoTime();
+
+				return super.refresh().doOnSuccess(ignored -> {
+					SearchResultCache cache = searchResultCache;
+					if (cache != null) {
+						cache.refreshed(getIndexCoordinates(), refreshStartedAt);
+					}
+				});
+			});
+		}
 	}
 
 	@Override
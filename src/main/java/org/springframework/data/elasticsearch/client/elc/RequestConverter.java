@@ -39,6 +39,7 @@ import co.elastic.clients.elasticsearch.cluster.PutComponentTemplateRequest;
 import co.elastic.clients.elasticsearch.core.*;
 import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
 import co.elastic.clients.elasticsearch.core.bulk.CreateOperation;
+import co.elastic.clients.elasticsearch.core.bulk.DeleteOperation;
 import co.elastic.clients.elasticsearch.core.bulk.IndexOperation;
 import co.elastic.clients.elasticsearch.core.bulk.UpdateOperation;
 import co.elastic.clients.elasticsearch.core.mget.MultiGetOperation;
@@ -55,6 +56,8 @@ import co.elastic.clients.elasticsearch.sql.query.SqlFormat;
 import co.elastic.clients.json.JsonData;
 import co.elastic.clients.json.JsonpDeserializer;
 import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.util.BinaryData;
+import co.elastic.clients.util.ContentType;
 import co.elastic.clients.util.NamedValue;
 import co.elastic.clients.util.ObjectBuilder;
 import jakarta.json.stream.JsonParser;
@@ -559,6 +562,15 @@ class RequestConverter extends AbstractQueryProcessor {
 
 	public IndexRequest<?> documentIndexRequest(IndexQuery query, IndexCoordinates indexCoordinates,
 			@Nullable RefreshPolicy refreshPolicy) {
+		return documentIndexRequest(query, null, indexCoordinates, refreshPolicy);
+	}
+
+	/**
+	 * @param convertedObject the already converted object of the query, {@literal null} to convert it
+	 * @since 6.2
+	 */
+	public IndexRequest<?> documentIndexRequest(IndexQuery query, @Nullable Document convertedObject,
+			IndexCoordinates indexCoordinates, @Nullable RefreshPolicy refreshPolicy) {
 
 		Assert.notNull(query, "query must not be null");
 		Assert.notNull(indexCoordinates, "indexCoordinates must not be null");
@@ -568,15 +580,17 @@ class RequestConverter extends AbstractQueryProcessor {
 		builder.index(query.getIndexName() != null ? query.getIndexName() : indexCoordinates.getIndexName());
 
 		Object queryObject = query.getObject();
+		Object querySource = querySource(query);
 
 		if (queryObject != null) {
 			builder
 					.id(StringUtils.hasText(query.getId()) ? query.getId() : getPersistentEntityId(queryObject))
-					.document(elasticsearchConverter.mapObject(queryObject));
-		} else if (query.getSource() != null) {
+					.document(convertedObject != null ? convertedObject
+							: elasticsearchConverter.mapObject(queryObject));
+		} else if (querySource != null) {
 			builder
 					.id(query.getId())
-					.document(new DefaultStringObjectMap<>().fromJson(query.getSource()));
+					.document(querySource);
 		} else {
 			throw new InvalidDataAccessApiUsageException(
 					"object or source is null, failed to index the document [id: " + query.getId() + ']');
@@ -612,23 +626,25 @@ class RequestConverter extends AbstractQueryProcessor {
 	 */
 
 	@SuppressWarnings("DuplicatedCode")
-	private IndexOperation<?> bulkIndexOperation(IndexQuery query, IndexCoordinates indexCoordinates,
-			@Nullable RefreshPolicy refreshPolicy) {
+	private IndexOperation<?> bulkIndexOperation(IndexQuery query, @Nullable Document convertedObject,
+			IndexCoordinates indexCoordinates, @Nullable RefreshPolicy refreshPolicy) {
 
 		IndexOperation.Builder<Object> builder = new IndexOperation.Builder<>();
 
 		builder.index(query.getIndexName() != null ? query.getIndexName() : indexCoordinates.getIndexName());
 
 		Object queryObject = query.getObject();
+		Object querySource = querySource(query);
 
 		if (queryObject != null) {
 			builder
 					.id(StringUtils.hasText(query.getId()) ? query.getId() : getPersistentEntityId(queryObject))
-					.document(elasticsearchConverter.mapObject(queryObject));
-		} else if (query.getSource() != null) {
+					.document(convertedObject != null ? convertedObject
+							: elasticsearchConverter.mapObject(queryObject));
+		} else if (querySource != null) {
 			builder
 					.id(query.getId())
-					.document(new DefaultStringObjectMap<>().fromJson(query.getSource()));
+					.document(querySource);
 		} else {
 			throw new InvalidDataAccessApiUsageException(
 					"object or source is null, failed to index the document [id: " + query.getId() + ']');
@@ -655,23 +671,25 @@ class RequestConverter extends AbstractQueryProcessor {
 	 */
 
 	@SuppressWarnings("DuplicatedCode")
-	private CreateOperation<?> bulkCreateOperation(IndexQuery query, IndexCoordinates indexCoordinates,
-			@Nullable RefreshPolicy refreshPolicy) {
+	private CreateOperation<?> bulkCreateOperation(IndexQuery query, @Nullable Document convertedObject,
+			IndexCoordinates indexCoordinates, @Nullable RefreshPolicy refreshPolicy) {
 
 		CreateOperation.Builder<Object> builder = new CreateOperation.Builder<>();
 
 		builder.index(query.getIndexName() != null ? query.getIndexName() : indexCoordinates.getIndexName());
 
 		Object queryObject = query.getObject();
+		Object querySource = querySource(query);
 
 		if (queryObject != null) {
 			builder
 					.id(StringUtils.hasText(query.getId()) ? query.getId() : getPersistentEntityId(queryObject))
-					.document(elasticsearchConverter.mapObject(queryObject));
-		} else if (query.getSource() != null) {
+					.document(convertedObject != null ? convertedObject
+							: elasticsearchConverter.mapObject(queryObject));
+		} else if (querySource != null) {
 			builder
 					.id(query.getId())
-					.document(new DefaultStringObjectMap<>().fromJson(query.getSource()));
+					.document(querySource);
 		} else {
 			throw new InvalidDataAccessApiUsageException(
 					"object or source is null, failed to index the document [id: " + query.getId() + ']');
@@ -692,6 +710,40 @@ class RequestConverter extends AbstractQueryProcessor {
 		return builder.build();
 	}
 
+	/**
+	 * returns the JSON source of an {@link IndexQuery} without an entity as {@link BinaryData}. The bytes are written as
+	 * they are into the body of a bulk request, so they are not parsed into a map and serialized again. A source
+	 * containing a line break is parsed, as it would break the newline delimited body of a bulk request.
+	 */
+	@Nullable
+	private static Object querySource(IndexQuery query) {
+
+		byte[] bytes = query.getSourceBytes() != null ? query.getSourceBytes()
+				: query.getSource() != null ? query.getSource().getBytes(StandardCharsets.UTF_8) : null;
+
+		if (bytes == null) {
+			return null;
+		}
+
+		for (byte b : bytes) {
+			if (b == '\n' || b == '\r') {
+				return new DefaultStringObjectMap<>().fromJson(new String(bytes, StandardCharsets.UTF_8));
+			}
+		}
+
+		return BinaryData.of(bytes, ContentType.APPLICATION_JSON);
+	}
+
+	private DeleteOperation bulkDeleteOperation(DeleteByIdQuery query, IndexCoordinates index) {
+
+		DeleteOperation.Builder builder = new DeleteOperation.Builder() //
+				.index(index.getIndexName()) //
+				.id(query.getId());
+		getRouting(query.getRouting()).ifPresent(builder::routing);
+
+		return builder.build();
+	}
+
 	private UpdateOperation<?, ?> bulkUpdateOperation(UpdateQuery query, IndexCoordinates index,
 			@Nullable RefreshPolicy refreshPolicy) {
 
@@ -762,6 +814,26 @@ class RequestConverter extends AbstractQueryProcessor {
 
 		BulkRequest.Builder builder = new BulkRequest.Builder();
 
+		documentBulkRequestSettings(builder, bulkOptions, refreshPolicy);
+
+		List<BulkOperation> operations = queries.stream()
+				.map(query -> documentBulkOperation(query, indexCoordinates, refreshPolicy))
+				.collect(Collectors.toList());
+
+		builder.operations(operations);
+
+		return builder.build();
+	}
+
+	/**
+	 * sets the request level values from the {@link BulkOptions} and the {@link RefreshPolicy} on the builder. The
+	 * operations are not set.
+	 *
+	 * @since 6.2
+	 */
+	public BulkRequest.Builder documentBulkRequestSettings(BulkRequest.Builder builder, BulkOptions bulkOptions,
+			@Nullable RefreshPolicy refreshPolicy) {
+
 		if (bulkOptions.getTimeout() != null) {
 			builder.timeout(tb -> tb.time(Long.valueOf(bulkOptions.getTimeout().toMillis()).toString() + "ms"));
 		}
@@ -781,24 +853,42 @@ class RequestConverter extends AbstractQueryProcessor {
 
 		getRouting(bulkOptions.getRoutingId()).ifPresent(builder::routing);
 
-		List<BulkOperation> operations = queries.stream().map(query -> {
-			BulkOperation.Builder ob = new BulkOperation.Builder();
-			if (query instanceof IndexQuery indexQuery) {
+		return builder;
+	}
 
-				if (indexQuery.getOpType() == IndexQuery.OpType.CREATE) {
-					ob.create(bulkCreateOperation(indexQuery, indexCoordinates, refreshPolicy));
-				} else {
-					ob.index(bulkIndexOperation(indexQuery, indexCoordinates, refreshPolicy));
-				}
-			} else if (query instanceof UpdateQuery updateQuery) {
-				ob.update(bulkUpdateOperation(updateQuery, indexCoordinates, refreshPolicy));
-			}
-			return ob.build();
-		}).collect(Collectors.toList());
+	/**
+	 * creates the {@link BulkOperation} for a single {@link IndexQuery}, {@link UpdateQuery} or {@link DeleteByIdQuery}.
+	 * The entity of an {@link IndexQuery} is converted immediately, so the operation can be sent again or serialized to
+	 * compute its size without converting the entity again.
+	 *
+	 * @since 6.2
+	 */
+	public BulkOperation documentBulkOperation(Object query, IndexCoordinates indexCoordinates,
+			@Nullable RefreshPolicy refreshPolicy) {
+		return documentBulkOperation(query, null, indexCoordinates, refreshPolicy);
+	}
 
-		builder.operations(operations);
+	/**
+	 * @param convertedObject the already converted object of an {@link IndexQuery}, {@literal null} to convert it
+	 * @since 6.2
+	 */
+	public BulkOperation documentBulkOperation(Object query, @Nullable Document convertedObject,
+			IndexCoordinates indexCoordinates, @Nullable RefreshPolicy refreshPolicy) {
 
-		return builder.build();
+		BulkOperation.Builder ob = new BulkOperation.Builder();
+		if (query instanceof IndexQuery indexQuery) {
+
+			if (indexQuery.getOpType() == IndexQuery.OpType.CREATE) {
+				ob.create(bulkCreateOperation(indexQuery, convertedObject, indexCoordinates, refreshPolicy));
+			} else {
+				ob.index(bulkIndexOperation(indexQuery, convertedObject, indexCoordinates, refreshPolicy));
+			}
+		} else if (query instanceof UpdateQuery updateQuery) {
+			ob.update(bulkUpdateOperation(updateQuery, indexCoordinates, refreshPolicy));
+		} else if (query instanceof DeleteByIdQuery deleteByIdQuery) {
+			ob.delete(bulkDeleteOperation(deleteByIdQuery, indexCoordinates));
+		}
+		return ob.build();
 	}
 
 	public GetRequest documentGetRequest(String id, @Nullable String routing, IndexCoordinates indexCoordinates) {
@@ -832,6 +922,37 @@ class RequestConverter extends AbstractQueryProcessor {
 
 	public <T> MgetRequest documentMgetRequest(Query query, Class<T> clazz, IndexCoordinates index) {
 
+		List<MultiGetOperation> multiGetOperations = multiGetOperations(query, clazz, index);
+
+		return MgetRequest.of(mg -> mg//
+				.docs(multiGetOperations));
+	}
+
+	/**
+	 * creates the mget requests for the ids of the query, each request containing at most {@code chunkSize} ids. The
+	 * requests are returned in the order of the ids.
+	 *
+	 * @since 6.2
+	 */
+	public <T> List<MgetRequest> documentMgetRequests(Query query, Class<T> clazz, IndexCoordinates index,
+			int chunkSize) {
+
+		Assert.isTrue(chunkSize > 0, "chunkSize must be greater than 0");
+
+		List<MultiGetOperation> multiGetOperations = multiGetOperations(query, clazz, index);
+
+		List<MgetRequest> requests = new ArrayList<>((multiGetOperations.size() + chunkSize - 1) / chunkSize);
+		for (int from = 0; from < multiGetOperations.size(); from += chunkSize) {
+			List<MultiGetOperation> chunk = multiGetOperations.subList(from,
+					Math.min(from + chunkSize, multiGetOperations.size()));
+			requests.add(MgetRequest.of(mg -> mg //
+					.docs(chunk)));
+		}
+		return requests;
+	}
+
+	private <T> List<MultiGetOperation> multiGetOperations(Query query, Class<T> clazz, IndexCoordinates index) {
+
 		Assert.notNull(query, "query must not be null");
 		Assert.notNull(clazz, "clazz must not be null");
 		Assert.notNull(index, "index must not be null");
@@ -844,7 +965,7 @@ class RequestConverter extends AbstractQueryProcessor {
 
 		SourceConfig sourceConfig = getSourceConfig(query);
 
-		List<MultiGetOperation> multiGetOperations = query.getIdsWithRouting().stream()
+		return query.getIdsWithRouting().stream()
 				.map(idWithRouting -> MultiGetOperation.of(mgo -> {
 					MultiGetOperation.Builder builder =  mgo //
 							.index(index.getIndexName()) //
@@ -854,9 +975,6 @@ class RequestConverter extends AbstractQueryProcessor {
 					return builder;
 				}))
 				.collect(Collectors.toList());
-
-		return MgetRequest.of(mg -> mg//
-				.docs(multiGetOperations));
 	}
 
 	public co.elastic.clients.elasticsearch.core.ReindexRequest reindex(ReindexRequest reindexRequest,
@@ -1216,6 +1334,18 @@ class RequestConverter extends AbstractQueryProcessor {
 	public <T> SearchRequest searchRequest(Query query, @Nullable String routing, @Nullable Class<T> clazz,
 			IndexCoordinates indexCoordinates, boolean forCount, boolean forBatchedSearch,
 			@Nullable Long scrollTimeInMillis) {
+		return searchRequest(query, routing, clazz, indexCoordinates, forCount, forBatchedSearch, scrollTimeInMillis,
+				null);
+	}
+
+	/**
+	 * @param searchSlice the slice to request, overrides the slice set on the query. Used to run the slices of a sliced
+	 *          scroll with the same query object.
+	 * @since 6.2
+	 */
+	public <T> SearchRequest searchRequest(Query query, @Nullable String routing, @Nullable Class<T> clazz,
+			IndexCoordinates indexCoordinates, boolean forCount, boolean forBatchedSearch,
+			@Nullable Long scrollTimeInMillis, Query.@Nullable SearchSlice searchSlice) {
 
 		Assert.notNull(query, "query must not be null");
 		Assert.notNull(indexCoordinates, "indexCoordinates must not be null");
@@ -1224,14 +1354,86 @@ class RequestConverter extends AbstractQueryProcessor {
 		SearchRequest.Builder builder = new SearchRequest.Builder();
 		prepareSearchRequest(query, routing, clazz, indexCoordinates, builder, forCount, forBatchedSearch);
 
+		var slice = searchSlice != null ? searchSlice : query.getSearchSlice();
+		if (slice != null) {
+			builder.slice(s -> s.id(String.valueOf(slice.id())).max(slice.max()));
+		}
+
 		if (scrollTimeInMillis != null) {
 			builder.scroll(t -> t.time(scrollTimeInMillis + "ms"));
 		}
 
 		builder.query(getQuery(query, clazz));
 
+		// a search with a point in time must not have a routing, it is set when the point in time is opened
+		if (query.getPointInTime() == null) {
+			getRouting(query.getRoute(), routing).ifPresent(builder::routing);
+		}
+
+		addPostFilter(query, builder);
+
+		return builder.build();
+	}
+
+	/**
+	 * creates a request that checks if there is a document matching the query. At most one hit without source is
+	 * returned from the start of the results, the search on each shard is terminated after the first match and the total
+	 * hits are not tracked. The paging, sort, highlight, rescorers, scripted fields and aggregations of the query do not
+	 * change whether a document matches and are not sent.
+	 *
+	 * @since 6.2
+	 */
+	public <T> SearchRequest existsSearchRequest(Query query, @Nullable String routing, @Nullable Class<T> clazz,
+			IndexCoordinates indexCoordinates) {
+
+		Assert.notNull(query, "query must not be null");
+		Assert.notNull(indexCoordinates, "indexCoordinates must not be null");
+
+		String[] indexNames = indexCoordinates.getIndexNames();
+
+		Assert.notEmpty(indexNames, "indexCoordinates does not contain entries");
+
+		elasticsearchConverter.updateQuery(query, clazz);
+		SearchRequest.Builder builder = new SearchRequest.Builder();
+
+		// a returned hit tells that a document matches, with track_total_hits disabled the response has no total
+		builder //
+				.index(Arrays.asList(indexNames)) //
+				.allowNoIndices(query.getAllowNoIndices()) //
+				.timeout(timeStringMs(query.getTimeout())) //
+				.source(SourceConfig.of(sc -> sc.fetch(false))) //
+				.from(0) //
+				.size(1) //
+				.terminateAfter(1L) //
+				.trackTotalHits(th -> th.enabled(false));
+
+		var expandWildcards = query.getExpandWildcards();
+		if (expandWildcards != null && !expandWildcards.isEmpty()) {
+			builder.expandWildcards(expandWildcards(expandWildcards));
+		}
+
 		getRouting(query.getRoute(), routing).ifPresent(builder::routing);
 
+		if (query.getPreference() != null) {
+			builder.preference(query.getPreference());
+		}
+
+		if (query.getIndicesOptions() != null) {
+			addIndicesOptions(builder, query.getIndicesOptions());
+		}
+
+		if (query.getMinScore() > 0) {
+			builder.minScore((double) query.getMinScore());
+		}
+
+		addRuntimeMappings(query, builder);
+
+		if (query instanceof NativeQuery nativeQuery && !isEmpty(nativeQuery.getKnnSearches())) {
+			builder.knn(nativeQuery.getKnnSearches());
+		}
+
+		builder.query(getQuery(query, clazz));
+
 		addPostFilter(query, builder);
 
 		return builder.build();
@@ -1291,6 +1493,20 @@ class RequestConverter extends AbstractQueryProcessor {
 							bb.from((int) (query.getPageable().isPaged() ? query.getPageable().getOffset() : 0))
 									.size(query.getRequestSize());
 
+							if (query.getTrackTotalHits() != null) {
+								int value = query.getTrackTotalHits() ? Integer.MAX_VALUE : -1;
+								bb.trackTotalHits(th -> th.count(value));
+							} else if (query.getTrackTotalHitsUpTo() != null) {
+								bb.trackTotalHits(th -> th.count(query.getTrackTotalHitsUpTo()));
+							}
+
+							if (!isEmpty(query.getDocValueFields())) {
+								bb.docvalueFields(query.getDocValueFields().stream() //
+										.map(docValueField -> FieldAndFormat
+												.of(b -> b.field(docValueField.field()).format(docValueField.format())))
+										.toList());
+							}
+
 							if (!isEmpty(query.getFields())) {
 								bb.fields(fb -> {
 									query.getFields().forEach(fb::field);
@@ -1518,30 +1734,7 @@ class RequestConverter extends AbstractQueryProcessor {
 
 		query.getRescorerQueries().forEach(rescorerQuery -> builder.rescore(getRescore(rescorerQuery)));
 
-		if (!query.getRuntimeFields().isEmpty()) {
-
-			Map<String, RuntimeField> runtimeMappings = new HashMap<>();
-			query.getRuntimeFields()
-					.forEach(runtimeField -> runtimeMappings.put(runtimeField.getName(), RuntimeField.of(rfb -> {
-						rfb.type(RuntimeFieldType._DESERIALIZER.parse(runtimeField.getType()));
-						String script = runtimeField.getScript();
-						if (script != null) {
-							rfb.script(s -> {
-								if (script != null) {
-									s.source(so -> so.scriptString(script));
-								}
-
-								if (runtimeField.getParams() != null) {
-									s.params(TypeUtils.paramsMap(runtimeField.getParams()));
-								}
-								return s;
-							});
-						}
-
-						return rfb;
-					})));
-			builder.runtimeMappings(runtimeMappings);
-		}
+		addRuntimeMappings(query, builder);
 
 		if (forCount) {
 			builder.size(0) //
@@ -1574,6 +1767,34 @@ class RequestConverter extends AbstractQueryProcessor {
 		}
 	}
 
+	private void addRuntimeMappings(Query query, SearchRequest.Builder builder) {
+
+		if (!query.getRuntimeFields().isEmpty()) {
+
+			Map<String, RuntimeField> runtimeMappings = new HashMap<>();
+			query.getRuntimeFields()
+					.forEach(runtimeField -> runtimeMappings.put(runtimeField.getName(), RuntimeField.of(rfb -> {
+						rfb.type(RuntimeFieldType._DESERIALIZER.parse(runtimeField.getType()));
+						String script = runtimeField.getScript();
+						if (script != null) {
+							rfb.script(s -> {
+								if (script != null) {
+									s.source(so -> so.scriptString(script));
+								}
+
+								if (runtimeField.getParams() != null) {
+									s.params(TypeUtils.paramsMap(runtimeField.getParams()));
+								}
+								return s;
+							});
+						}
+
+						return rfb;
+					})));
+			builder.runtimeMappings(runtimeMappings);
+		}
+	}
+
 	private void addIndicesOptions(SearchRequest.Builder builder, IndicesOptions indicesOptions) {
 
 		indicesOptions.getOptions().forEach(option -> {
@@ -1838,16 +2059,28 @@ class RequestConverter extends AbstractQueryProcessor {
 
 	public OpenPointInTimeRequest searchOpenPointInTimeRequest(IndexCoordinates index, Duration keepAlive,
 			Boolean ignoreUnavailable) {
+		return searchOpenPointInTimeRequest(index, keepAlive, ignoreUnavailable, null);
+	}
+
+	/**
+	 * @param routing the routing of the searches with the point in time, they cannot have a routing of their own
+	 * @since 6.2
+	 */
+	public OpenPointInTimeRequest searchOpenPointInTimeRequest(IndexCoordinates index, Duration keepAlive,
+			Boolean ignoreUnavailable, @Nullable String routing) {
 
 		Assert.notNull(index, "index must not be null");
 		Assert.notNull(keepAlive, "keepAlive must not be null");
 		Assert.notNull(ignoreUnavailable, "ignoreUnavailable must not be null");
 
-		return OpenPointInTimeRequest.of(opit -> opit //
-				.index(Arrays.asList(index.getIndexNames())) //
-				.ignoreUnavailable(ignoreUnavailable) //
-				.keepAlive(time(keepAlive)) //
-		);
+		return OpenPointInTimeRequest.of(opit -> {
+			opit //
+					.index(Arrays.asList(index.getIndexNames())) //
+					.ignoreUnavailable(ignoreUnavailable) //
+					.keepAlive(time(keepAlive));
+			getRouting(routing).ifPresent(opit::routing);
+			return opit;
+		});
 	}
 
 	public ClosePointInTimeRequest searchClosePointInTime(String pit) {
@@ -2051,5 +2284,29 @@ class RequestConverter extends AbstractQueryProcessor {
 		};
 	}
 
+	/**
+	 * checks if the {@code _shard_doc} sort must be added to a query that is run with point in time and search_after.
+	 * This is not possible if there is a field_collapse and a sort with the same name.
+	 *
+	 * @since 6.2
+	 */
+	static boolean addShardDocSort(Query query) {
+
+		if (query instanceof NativeQuery nativeQuery && nativeQuery.getFieldCollapse() != null) {
+			var field = nativeQuery.getFieldCollapse().field();
+
+			if (nativeQuery.getSortOptions().stream()
+					.anyMatch(sortOptions -> sortOptions.isField() && sortOptions.field().field().equals(field))) {
+				return false;
+			}
+
+			if (query.getSort() != null && query.getSort().stream().anyMatch(order -> order.getProperty().equals(field))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	// endregion
 }
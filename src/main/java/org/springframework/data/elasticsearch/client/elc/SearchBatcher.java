@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.core.MsearchResponse;
+import co.elastic.clients.elasticsearch.core.msearch.MultiSearchResponseItem;
+import co.elastic.clients.elasticsearch.core.search.ResponseBody;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate.MultiSearchQueryParameter;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.query.SearchTemplateQuery;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Collects the searches that are started within a time window, so that they can be sent together in one msearch
+ * request. The search that opens a batch is responsible for executing it after the window has passed or when the batch
+ * is full; the other searches of the batch wait for their result.
+ *
+ * @since 6.2
+ */
+final class SearchBatcher {
+
+	@Nullable private Batch openBatch;
+
+	/**
+	 * checks if a query can be sent in an msearch request without changing its result. Search template queries, point in
+	 * time searches and the index options that are only supported on a search request are excluded. Native queries are
+	 * excluded if the body of the msearch request would differ from the one of the search request: the msearch body
+	 * puts the sort of the query before the sort options of the native query, and it sends all search_after values with
+	 * a field collapse.
+	 */
+	static boolean canBeBatched(Query query) {
+
+		if (query instanceof NativeQuery nativeQuery) {
+
+			if (!nativeQuery.getSortOptions().isEmpty() && query.getSort() != null && query.getSort().isSorted()) {
+				return false;
+			}
+
+			if (nativeQuery.getFieldCollapse() != null && !CollectionUtils.isEmpty(query.getSearchAfter())) {
+				return false;
+			}
+		}
+
+		return !(query instanceof SearchTemplateQuery) //
+				&& query.getPointInTime() == null //
+				&& query.getIndicesOptions() == null //
+				&& query.getAllowNoIndices() == null //
+				&& (query.getExpandWildcards() == null || query.getExpandWildcards().isEmpty()) //
+				&& query.getIncludeNamedQueriesScore() == null;
+	}
+
+	/**
+	 * adds a search to the open batch, opening a new batch if there is none. The batch is closed when it contains
+	 * {@code maxBatchSize} searches.
+	 */
+	synchronized BatchedSearch add(MultiSearchQueryParameter parameter, int maxBatchSize) {
+
+		boolean opensBatch = openBatch == null;
+		Batch batch = opensBatch ? new Batch() : openBatch;
+		if (opensBatch) {
+			openBatch = batch;
+		}
+
+		BatchedSearch search = new BatchedSearch(parameter, new CompletableFuture<>(), batch, opensBatch);
+		batch.searches.add(search);
+
+		if (batch.searches.size() >= maxBatchSize) {
+			openBatch = null;
+			batch.full.complete(null);
+		}
+
+		return search;
+	}
+
+	/**
+	 * closes the batch, searches that are added afterwards go to a new batch.
+	 *
+	 * @return the searches of the batch in the order they were added
+	 */
+	synchronized List<BatchedSearch> close(Batch batch) {
+
+		if (openBatch == batch) {
+			openBatch = null;
+		}
+
+		return List.copyOf(batch.searches);
+	}
+
+	/**
+	 * completes the results of the searches with the items of the msearch response. The error of a failed item is
+	 * translated like the error of a single search request.
+	 */
+	static void complete(List<BatchedSearch> searches, MsearchResponse<EntityAsMap> response,
+			ElasticsearchExceptionTranslator exceptionTranslator) {
+
+		List<MultiSearchResponseItem<EntityAsMap>> responseItems = response.responses();
+
+		if (responseItems.size() != searches.size()) {
+			fail(searches, new UncategorizedElasticsearchException(
+					"number of response items does not match number of requests"));
+			return;
+		}
+
+		for (int i = 0; i < searches.size(); i++) {
+			MultiSearchResponseItem<EntityAsMap> responseItem = responseItems.get(i);
+
+			if (responseItem.isResult()) {
+				searches.get(i).result().complete(responseItem.result());
+			} else {
+				searches.get(i).result().completeExceptionally(exceptionTranslator
+						.translateException(new ElasticsearchException("msearch", responseItem.failure())));
+			}
+		}
+	}
+
+	/**
+	 * completes the results of the searches that are not completed yet with the given exception.
+	 */
+	static void fail(List<BatchedSearch> searches, Throwable throwable) {
+		searches.forEach(search -> search.result().completeExceptionally(throwable));
+	}
+
+	static final class Batch {
+
+		private final List<BatchedSearch> searches = new ArrayList<>();
+		private final CompletableFuture<Void> full = new CompletableFuture<>();
+
+		/**
+		 * @return a future that is completed when the batch has reached the maximum size
+		 */
+		CompletableFuture<Void> full() {
+			return full;
+		}
+	}
+
+	/**
+	 * @param parameter the search
+	 * @param result completed with the response item of the search
+	 * @param batch the batch the search belongs to
+	 * @param opensBatch {@literal true} if the search opened the batch and so must execute it
+	 */
+	record BatchedSearch(MultiSearchQueryParameter parameter, CompletableFuture<ResponseBody<EntityAsMap>> result,
+			Batch batch, boolean opensBatch) {
+	}
+}
@@ -0,0 +1,365 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.search.ResponseBody;
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.json.JsonpUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.util.Assert;
+import org.springframework.util.PatternMatchUtils;
+
+/**
+ * Cache for the responses of searches, set on an {@link ElasticsearchTemplate} or a
+ * {@link ReactiveElasticsearchTemplate} with {@code setSearchResultCache}. The responses are stored before they are
+ * converted to entities, keyed by the serialized search request together with the index names and URL parameters it is
+ * sent with. Searches that read pages with a point in time, search_after or a scroll are not cached. Entries are
+ * evicted when they are older than the time to live or, least recently used first, when the maximum size is exceeded.
+ * <p>
+ * Writes done by the template the cache is set on invalidate the entries of the written index: save, bulk, update,
+ * delete and update by query. Searches and writes are matched by the index names used for them, possibly containing
+ * wildcards, aliases are not resolved. A search that runs after a write but before the next refresh of the index can
+ * still return the previous state, so the responses of searches of an index are not cached within the refresh interval
+ * after a write to it, whatever refresh policy the write used. A refresh done with the {@code indexOps} of the template
+ * invalidates the entries of the refreshed index again and ends this interval early. Writes through other clients or
+ * with a bulk ingester are not seen; in these cases the time to live limits how long outdated results are returned. A
+ * cache instance must not be shared between templates that use different converters or clients.
+ *
+ * @since 6.2
+ */
+public class SearchResultCache {
+
+	public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+	public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(1);
+	public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds(1);
+
+	private final int maximumSize;
+	private final long timeToLiveNanos;
+	private final long refreshIntervalNanos;
+	private final Map<Key, Entry> entries;
+	private final Map<String, Long> lastWrites = new HashMap<>();
+	private long generation = 0;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+	private final LongAdder invalidationCount = new LongAdder();
+
+	public SearchResultCache() {
+		this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE);
+	}
+
+	/**
+	 * @param maximumSize the maximum number of cached responses, must be greater than 0
+	 * @param timeToLive the time after which a cached response is evicted, must be positive
+	 */
+	public SearchResultCache(int maximumSize, Duration timeToLive) {
+		this(maximumSize, timeToLive, DEFAULT_REFRESH_INTERVAL);
+	}
+
+	/**
+	 * @param maximumSize the maximum number of cached responses, must be greater than 0
+	 * @param timeToLive the time after which a cached response is evicted, must be positive
+	 * @param refreshInterval the time after a write to an index in which the responses of searches of this index are
+	 *          not cached, must not be negative. This should be at least the {@code index.refresh_interval} of the
+	 *          cached indices.
+	 */
+	public SearchResultCache(int maximumSize, Duration timeToLive, Duration refreshInterval) {
+
+		Assert.isTrue(maximumSize > 0, "maximumSize must be greater than 0");
+		Assert.notNull(timeToLive, "timeToLive must not be null");
+		Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "timeToLive must be positive");
+		Assert.notNull(refreshInterval, "refreshInterval must not be null");
+		Assert.isTrue(!refreshInterval.isNegative(), "refreshInterval must not be negative");
+
+		this.maximumSize = maximumSize;
+		this.timeToLiveNanos = timeToLive.toNanos();
+		this.refreshIntervalNanos = refreshInterval.toNanos();
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+
+				if (size() > SearchResultCache.this.maximumSize) {
+					evictionCount.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * returns the cached response for the key or executes the search and caches its response.
+	 */
+	ResponseBody<EntityAsMap> get(Key key, Supplier<ResponseBody<EntityAsMap>> search) {
+
+		ResponseBody<EntityAsMap> cached = lookup(key);
+
+		if (cached != null) {
+			return cached;
+		}
+
+		long startGeneration = currentGeneration();
+		ResponseBody<EntityAsMap> response = search.get();
+		put(key, response, startGeneration);
+		return response;
+	}
+
+	/**
+	 * returns the cached response for the key or subscribes to the search and caches its response.
+	 */
+	Mono<ResponseBody<EntityAsMap>> get(Key key, Mono<ResponseBody<EntityAsMap>> search) {
+
+		return Mono.defer(() -> {
+			ResponseBody<EntityAsMap> cached = lookup(key);
+
+			if (cached != null) {
+				return Mono.just(cached);
+			}
+
+			long startGeneration = currentGeneration();
+			return search.doOnNext(response -> put(key, response, startGeneration));
+		});
+	}
+
+	@Nullable
+	private synchronized ResponseBody<EntityAsMap> lookup(Key key) {
+
+		Entry entry = entries.get(key);
+
+		if (entry != null && entry.expiresAt - System.nanoTime() <= 0) {
+			entries.remove(key);
+			evictionCount.increment();
+			entry = null;
+		}
+
+		if (entry == null) {
+			missCount.increment();
+			return null;
+		}
+
+		hitCount.increment();
+		return entry.response;
+	}
+
+	private synchronized long currentGeneration() {
+		return generation;
+	}
+
+	/**
+	 * caches the response unless an invalidation happened since the search was started or one of the searched indices
+	 * was written within the refresh interval, the response might then not contain the changes of the write.
+	 */
+	private synchronized void put(Key key, ResponseBody<EntityAsMap> response, long startGeneration) {
+
+		long now = System.nanoTime();
+
+		if (generation == startGeneration && !writtenWithinRefreshInterval(key, now)) {
+			entries.put(key, new Entry(response, now + timeToLiveNanos));
+		}
+	}
+
+	private boolean writtenWithinRefreshInterval(Key key, long now) {
+
+		Iterator<Map.Entry<String, Long>> writes = lastWrites.entrySet().iterator();
+		while (writes.hasNext()) {
+			Map.Entry<String, Long> write = writes.next();
+
+			if (now - write.getValue() >= refreshIntervalNanos) {
+				writes.remove();
+			} else if (key.mightContain(write.getKey())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * removes the cached responses of all searches that might contain documents of the given index.
+	 *
+	 * @param index the written index, must not be {@literal null}
+	 */
+	public synchronized void invalidate(IndexCoordinates index) {
+
+		Assert.notNull(index, "index must not be null");
+
+		removeEntries(index);
+
+		if (refreshIntervalNanos > 0) {
+			long now = System.nanoTime();
+
+			for (String indexName : index.getIndexNames()) {
+				lastWrites.put(indexName, now);
+			}
+		}
+	}
+
+	/**
+	 * removes the cached responses of all searches that might contain documents of the given refreshed index and allows
+	 * caching the responses of searches of the index again, if it was not written after the refresh was started.
+	 *
+	 * @param index the refreshed index, must not be {@literal null}
+	 * @param refreshStartedAt the {@link System#nanoTime()} at which the refresh was started
+	 */
+	synchronized void refreshed(IndexCoordinates index, long refreshStartedAt) {
+
+		Assert.notNull(index, "index must not be null");
+
+		removeEntries(index);
+
+		List<String> refreshedIndexNames = Arrays.asList(index.getIndexNames());
+		Iterator<Map.Entry<String, Long>> writes = lastWrites.entrySet().iterator();
+		while (writes.hasNext()) {
+			Map.Entry<String, Long> write = writes.next();
+
+			if (write.getValue() - refreshStartedAt < 0 && matches(refreshedIndexNames, write.getKey())) {
+				writes.remove();
+			}
+		}
+	}
+
+	private void removeEntries(IndexCoordinates index) {
+
+		generation++;
+
+		Iterator<Key> keys = entries.keySet().iterator();
+		while (keys.hasNext()) {
+			if (keys.next().mightContain(index.getIndexNames())) {
+				keys.remove();
+				invalidationCount.increment();
+			}
+		}
+	}
+
+	/**
+	 * removes the cached responses of all searches that might contain documents written by the given queries of a bulk
+	 * request. The queries may name an index that overrides the index of the request.
+	 */
+	void invalidate(IndexCoordinates index, List<?> queries) {
+
+		Set<String> indexNames = new LinkedHashSet<>(Arrays.asList(index.getIndexNames()));
+
+		for (Object query : queries) {
+			String indexName = query instanceof IndexQuery indexQuery ? indexQuery.getIndexName()
+					: query instanceof UpdateQuery updateQuery ? updateQuery.getIndexName() : null;
+
+			if (indexName != null) {
+				indexNames.add(indexName);
+			}
+		}
+
+		invalidate(IndexCoordinates.of(indexNames.toArray(new String[0])));
+	}
+
+	/**
+	 * removes all cached responses.
+	 */
+	public synchronized void clear() {
+
+		generation++;
+		invalidationCount.add(entries.size());
+		entries.clear();
+	}
+
+	public Statistics getStatistics() {
+
+		int size;
+		synchronized (this) {
+			size = entries.size();
+		}
+
+		return new Statistics(hitCount.sum(), missCount.sum(), evictionCount.sum(), invalidationCount.sum(), size);
+	}
+
+	/**
+	 * @param hitCount the number of searches answered from the cache
+	 * @param missCount the number of searches sent to Elasticsearch
+	 * @param evictionCount the number of responses removed because they expired or the maximum size was exceeded
+	 * @param invalidationCount the number of responses removed because their index was written or the cache was cleared
+	 * @param size the number of currently cached responses
+	 */
+	public record Statistics(long hitCount, long missCount, long evictionCount, long invalidationCount, int size) {
+	}
+
+	private record Entry(ResponseBody<EntityAsMap> response, long expiresAt) {
+	}
+
+	/**
+	 * checks if the response of a search request can be cached. Pages of a point in time, search_after or scroll search
+	 * are read once and are not cached.
+	 */
+	static boolean canBeCached(SearchRequest searchRequest) {
+		return searchRequest.pit() == null && searchRequest.searchAfter().isEmpty() && searchRequest.scroll() == null;
+	}
+
+	/**
+	 * identifies a search by the serialized body of its request, the searched index names and all the URL parameters of
+	 * the request like routing, preference, search type or the index options.
+	 */
+	record Key(List<String> indexNames, Map<String, String> parameters, String body) {
+
+		static Key of(SearchRequest searchRequest, JsonpMapper jsonpMapper) {
+			return new Key(searchRequest.index(), Map.copyOf(SearchRequest._ENDPOINT.queryParameters(searchRequest)),
+					JsonpUtils.toJsonString(searchRequest, jsonpMapper));
+		}
+
+		boolean mightContain(String... writtenIndexNames) {
+
+			if (indexNames.isEmpty()) {
+				return true;
+			}
+
+			for (String writtenIndexName : writtenIndexNames) {
+				if (matches(indexNames, writtenIndexName)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * checks if one of the index names, possibly containing wildcards, matches the other index name.
+	 */
+	private static boolean matches(List<String> indexNames, String otherIndexName) {
+
+		for (String indexName : indexNames) {
+			if (indexName.equals("_all") || PatternMatchUtils.simpleMatch(indexName, otherIndexName)
+					|| PatternMatchUtils.simpleMatch(otherIndexName, indexName)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
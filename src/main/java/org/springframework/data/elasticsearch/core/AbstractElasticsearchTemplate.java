@@ -18,19 +18,26 @@ package org.springframework.data.elasticsearch.core;
 import io.micrometer.observation.ObservationRegistry;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.convert.EntityReader;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.elasticsearch.client.UnsupportedClientOperationException;
 import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
 import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
@@ -44,7 +51,11 @@ import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersiste
 import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentProperty;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.AdaptiveBulkSizing;
+import org.springframework.data.elasticsearch.core.query.BaseQuery;
+import org.springframework.data.elasticsearch.core.query.BulkIngesterOptions;
 import org.springframework.data.elasticsearch.core.query.BulkOptions;
+import org.springframework.data.elasticsearch.core.query.DeleteByIdQuery;
 import org.springframework.data.elasticsearch.core.query.IndexQuery;
 import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
 import org.springframework.data.elasticsearch.core.query.MoreLikeThisQuery;
@@ -82,12 +93,51 @@ import org.springframework.util.StringUtils;
  */
 public abstract class AbstractElasticsearchTemplate implements ElasticsearchOperations, ApplicationContextAware {
 
+	/**
+	 * the default number of hits per page for {@link #searchAll(Query, Class, IndexCoordinates)}.
+	 *
+	 * @since 6.2
+	 */
+	public static final int DEFAULT_SEARCH_ALL_PAGE_SIZE = 1000;
+
+	/**
+	 * the default maximum number of ids that are sent in one mget request by
+	 * {@link #multiGet(Query, Class, IndexCoordinates)}.
+	 *
+	 * @since 6.2
+	 */
+	public static final int DEFAULT_MULTI_GET_CHUNK_SIZE = 1000;
+
+	/**
+	 * the default maximum number of mget requests that {@link #multiGet(Query, Class, IndexCoordinates)} runs
+	 * concurrently.
+	 *
+	 * @since 6.2
+	 */
+	public static final int DEFAULT_MULTI_GET_CONCURRENCY = 4;
+
+	/**
+	 * the default maximum number of searches that are sent in one msearch request when search batching is enabled.
+	 *
+	 * @since 6.2
+	 */
+	public static final int DEFAULT_MAX_SEARCH_BATCH_SIZE = 100;
+
 	protected ElasticsearchConverter elasticsearchConverter;
 	protected EntityOperations entityOperations;
 	@Nullable protected EntityCallbacks entityCallbacks;
 	@Nullable protected RefreshPolicy refreshPolicy;
 	protected RoutingResolver routingResolver;
 	protected ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+	@Nullable protected AdaptiveBulkSizing adaptiveBulkSizing;
+	protected Query.StreamType streamType = Query.StreamType.SCROLL;
+	protected int searchAllPageSize = DEFAULT_SEARCH_ALL_PAGE_SIZE;
+	protected int multiGetChunkSize = DEFAULT_MULTI_GET_CHUNK_SIZE;
+	protected int multiGetConcurrency = DEFAULT_MULTI_GET_CONCURRENCY;
+	protected boolean getCoalescing = false;
+	@Nullable protected Duration searchBatchingWindow;
+	protected int maxSearchBatchSize = DEFAULT_MAX_SEARCH_BATCH_SIZE;
+	protected Executor taskExecutor = defaultTaskExecutor();
 
 	public AbstractElasticsearchTemplate() {
 		this(null);
@@ -121,6 +171,15 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 		copy.setRoutingResolver(routingResolver);
 		copy.setRefreshPolicy(refreshPolicy);
 		copy.setObservationRegistry(observationRegistry);
+		copy.setAdaptiveBulkSizing(adaptiveBulkSizing);
+		copy.setStreamType(streamType);
+		copy.setSearchAllPageSize(searchAllPageSize);
+		copy.setMultiGetChunkSize(multiGetChunkSize);
+		copy.setMultiGetConcurrency(multiGetConcurrency);
+		copy.setGetCoalescing(getCoalescing);
+		copy.setSearchBatchingWindow(searchBatchingWindow);
+		copy.setMaxSearchBatchSize(maxSearchBatchSize);
+		copy.setTaskExecutor(taskExecutor);
 		customizeCopy(copy);
 
 		return copy;
@@ -189,6 +248,191 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 		this.observationRegistry = observationRegistry;
 	}
 
+	/**
+	 * Set the {@link AdaptiveBulkSizing} that is used to split the operations of bulk calls into several bulk requests
+	 * when no {@link AdaptiveBulkSizing} is set on the {@link BulkOptions} of the call. This also applies to the bulk
+	 * requests sent for {@link #save(Iterable, IndexCoordinates)} and so for the repository {@code saveAll} methods.
+	 *
+	 * @param adaptiveBulkSizing the sizing to use, {@literal null} to send all operations in one request.
+	 * @since 6.2
+	 */
+	public void setAdaptiveBulkSizing(@Nullable AdaptiveBulkSizing adaptiveBulkSizing) {
+		this.adaptiveBulkSizing = adaptiveBulkSizing;
+	}
+
+	@Nullable
+	public AdaptiveBulkSizing getAdaptiveBulkSizing() {
+		return adaptiveBulkSizing;
+	}
+
+	/**
+	 * Set the way the results of {@code searchForStream} calls are retrieved when the query does not define a
+	 * {@link Query.StreamType}. Defaults to {@link Query.StreamType#SCROLL}.
+	 *
+	 * @param streamType must not be {@literal null}
+	 * @since 6.2
+	 */
+	public void setStreamType(Query.StreamType streamType) {
+
+		Assert.notNull(streamType, "streamType must not be null");
+
+		this.streamType = streamType;
+	}
+
+	public Query.StreamType getStreamType() {
+		return streamType;
+	}
+
+	/**
+	 * Set the number of hits that are requested per page by {@link #searchAll(Query, Class, IndexCoordinates)} and so by
+	 * the repository methods returning all results of an unpaged query. Defaults to
+	 * {@link #DEFAULT_SEARCH_ALL_PAGE_SIZE}.
+	 *
+	 * @param searchAllPageSize must be greater than 0
+	 * @since 6.2
+	 */
+	public void setSearchAllPageSize(int searchAllPageSize) {
+
+		Assert.isTrue(searchAllPageSize > 0, "searchAllPageSize must be greater than 0");
+
+		this.searchAllPageSize = searchAllPageSize;
+	}
+
+	public int getSearchAllPageSize() {
+		return searchAllPageSize;
+	}
+
+	/**
+	 * Set the maximum number of ids that are sent in one mget request. {@link #multiGet(Query, Class, IndexCoordinates)}
+	 * splits the ids of the query into chunks of this size. Defaults to {@link #DEFAULT_MULTI_GET_CHUNK_SIZE}.
+	 *
+	 * @param multiGetChunkSize must be greater than 0
+	 * @since 6.2
+	 */
+	public void setMultiGetChunkSize(int multiGetChunkSize) {
+
+		Assert.isTrue(multiGetChunkSize > 0, "multiGetChunkSize must be greater than 0");
+
+		this.multiGetChunkSize = multiGetChunkSize;
+	}
+
+	public int getMultiGetChunkSize() {
+		return multiGetChunkSize;
+	}
+
+	/**
+	 * Set the maximum number of mget requests that are run concurrently when the ids of a
+	 * {@link #multiGet(Query, Class, IndexCoordinates)} call are split into more than one chunk. Defaults to
+	 * {@link #DEFAULT_MULTI_GET_CONCURRENCY}.
+	 *
+	 * @param multiGetConcurrency must be greater than 0
+	 * @since 6.2
+	 */
+	public void setMultiGetConcurrency(int multiGetConcurrency) {
+
+		Assert.isTrue(multiGetConcurrency > 0, "multiGetConcurrency must be greater than 0");
+
+		this.multiGetConcurrency = multiGetConcurrency;
+	}
+
+	public int getMultiGetConcurrency() {
+		return multiGetConcurrency;
+	}
+
+	/**
+	 * Set whether concurrent {@code get(id, clazz, index)} calls for the same document are coalesced: while a get
+	 * request for an id, index and routing is running, further calls for the same document wait for its response
+	 * instead of sending their own request. Every caller converts the returned document into its own entity instance.
+	 * Defaults to {@literal false}.
+	 *
+	 * @param getCoalescing {@literal true} to coalesce concurrent get requests
+	 * @since 6.2
+	 */
+	public void setGetCoalescing(boolean getCoalescing) {
+		this.getCoalescing = getCoalescing;
+	}
+
+	public boolean isGetCoalescing() {
+		return getCoalescing;
+	}
+
+	/**
+	 * Set the time window in which searches are collected to be sent together in one msearch request. When set, a search
+	 * that does not use a point in time, a search template or index options is not sent on its own: it waits until
+	 * the window that was opened by the first search of the batch has passed, or until the batch contains
+	 * {@link #getMaxSearchBatchSize()} searches, and then all searches of the batch are sent in one request. This adds up
+	 * to the window to the latency of every search in exchange for fewer requests under concurrent load. Defaults to
+	 * {@literal null} which disables the batching.
+	 *
+	 * @param searchBatchingWindow the time window, {@literal null} or zero to disable search batching
+	 * @since 6.2
+	 */
+	public void setSearchBatchingWindow(@Nullable Duration searchBatchingWindow) {
+
+		Assert.isTrue(searchBatchingWindow == null || !searchBatchingWindow.isNegative(),
+				"searchBatchingWindow must not be negative");
+
+		this.searchBatchingWindow = searchBatchingWindow == null || searchBatchingWindow.isZero() ? null
+				: searchBatchingWindow;
+	}
+
+	@Nullable
+	public Duration getSearchBatchingWindow() {
+		return searchBatchingWindow;
+	}
+
+	/**
+	 * Set the maximum number of searches that are sent in one msearch request when search batching is enabled with
+	 * {@link #setSearchBatchingWindow(Duration)}. Defaults to {@link #DEFAULT_MAX_SEARCH_BATCH_SIZE}.
+	 *
+	 * @param maxSearchBatchSize must be greater than 0
+	 * @since 6.2
+	 */
+	public void setMaxSearchBatchSize(int maxSearchBatchSize) {
+
+		Assert.isTrue(maxSearchBatchSize > 0, "maxSearchBatchSize must be greater than 0");
+
+		this.maxSearchBatchSize = maxSearchBatchSize;
+	}
+
+	public int getMaxSearchBatchSize() {
+		return maxSearchBatchSize;
+	}
+
+	/**
+	 * Set the {@link Executor} that runs the requests an operation sends concurrently, like the chunks of a multiGet, the
+	 * slices of a sliced scroll or the prefetched pages of a stream. The slices of a sliced scroll are read at the same
+	 * time, so the executor must be able to run that many tasks without queueing them. Defaults to an executor that
+	 * starts a new daemon thread for every task; on Java 21 and later an executor using virtual threads, for example a
+	 * {@link org.springframework.core.task.SimpleAsyncTaskExecutor} with virtual threads enabled, avoids creating
+	 * platform threads for these blocking requests.
+	 *
+	 * @param taskExecutor must not be {@literal null}
+	 * @since 6.2
+	 */
+	public void setTaskExecutor(Executor taskExecutor) {
+
+		Assert.notNull(taskExecutor, "taskExecutor must not be null");
+
+		this.taskExecutor = taskExecutor;
+	}
+
+	public Executor getTaskExecutor() {
+		return taskExecutor;
+	}
+
+	/**
+	 * @return the default executor for the requests that are run concurrently, it starts a new daemon thread for every
+	 *         task.
+	 * @since 6.2
+	 */
+	protected static Executor defaultTaskExecutor() {
+
+		SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("spring-data-elasticsearch-");
+		taskExecutor.setDaemon(true);
+		return taskExecutor;
+	}
+
 	/**
 	 * Hook for subclasses to copy additional state during {@link #copy()}. Called after all common fields have been
 	 * copied. The default implementation does nothing.
@@ -368,6 +612,17 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 		bulkUpdate(queries, getIndexCoordinatesFor(clazz));
 	}
 
+	@Override
+	public List<IndexedObjectInformation> bulkDelete(List<DeleteByIdQuery> queries, BulkOptions bulkOptions,
+			IndexCoordinates index) {
+
+		Assert.notNull(queries, "queries must not be null");
+		Assert.notNull(bulkOptions, "bulkOptions must not be null");
+		Assert.notNull(index, "index must not be null");
+
+		return doBulkOperationInBatches(queries, bulkOptions, index);
+	}
+
 	public List<IndexedObjectInformation> bulkOperation(List<?> queries, BulkOptions bulkOptions,
 			IndexCoordinates index) {
 
@@ -376,16 +631,66 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 
 		maybeCallbackBeforeConvertWithQueries(queries, index);
 
-		List<IndexedObjectInformation> indexedObjectInformationList = doBulkOperation(queries, bulkOptions, index);
+		List<IndexedObjectInformation> indexedObjectInformationList = doBulkOperationInBatches(queries, bulkOptions,
+				index);
 
 		maybeCallbackAfterSaveWithQueries(queries, index);
 
 		return indexedObjectInformationList;
 	}
 
+	/**
+	 * Executes the queries with {@link #doBulkOperation(List, BulkOptions, IndexCoordinates)}. If an
+	 * {@link AdaptiveBulkSizing} is set in the {@link BulkOptions} or on the template, the queries are split into
+	 * batches of the current size of the sizing which is adapted after each batch. When a batch fails, the exception is
+	 * rethrown and the following batches are not sent.
+	 *
+	 * @since 6.2
+	 */
+	protected List<IndexedObjectInformation> doBulkOperationInBatches(List<?> queries, BulkOptions bulkOptions,
+			IndexCoordinates index) {
+
+		AdaptiveBulkSizing sizing = bulkOptions.getAdaptiveBulkSizing() != null ? bulkOptions.getAdaptiveBulkSizing()
+				: adaptiveBulkSizing;
+
+		if (sizing == null) {
+			return doBulkOperation(queries, bulkOptions, index);
+		}
+
+		List<IndexedObjectInformation> indexedObjectInformationList = new ArrayList<>(queries.size());
+		int from = 0;
+		while (from < queries.size()) {
+			int to = Math.min(queries.size(), from + sizing.getCurrentBatchSize());
+			List<?> batch = queries.subList(from, to);
+			long start = System.nanoTime();
+
+			try {
+				indexedObjectInformationList.addAll(doBulkOperation(batch, bulkOptions, index));
+			} catch (RuntimeException e) {
+				sizing.onFailure(e);
+				throw e;
+			}
+
+			sizing.onSuccess(batch.size(), Duration.ofNanos(System.nanoTime() - start));
+			from = to;
+		}
+
+		return indexedObjectInformationList;
+	}
+
 	public abstract List<IndexedObjectInformation> doBulkOperation(List<?> queries, BulkOptions bulkOptions,
 			IndexCoordinates index);
 
+	@Override
+	public BulkIngester bulkIngester(BulkIngesterOptions bulkIngesterOptions, Class<?> clazz) {
+		return bulkIngester(bulkIngesterOptions, getIndexCoordinatesFor(clazz));
+	}
+
+	@Override
+	public BulkIngester bulkIngester(BulkIngesterOptions bulkIngesterOptions, IndexCoordinates index) {
+		throw new UnsupportedClientOperationException(getClass(), "bulkIngester");
+	}
+
 	@Override
 	public <T> UpdateResponse update(T entity) {
 
@@ -428,6 +733,11 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 		return count(query, clazz, getIndexCoordinatesFor(clazz));
 	}
 
+	@Override
+	public boolean exists(Query query, Class<?> clazz) {
+		return exists(query, clazz, getIndexCoordinatesFor(clazz));
+	}
+
 	@Override
 	public <T> SearchHitsIterator<T> searchForStream(Query query, Class<T> clazz) {
 		return searchForStream(query, clazz, getIndexCoordinatesFor(clazz));
@@ -436,6 +746,11 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 	@Override
 	public <T> SearchHitsIterator<T> searchForStream(Query query, Class<T> clazz, IndexCoordinates index) {
 
+		Query.StreamType queryStreamType = query.getStreamType() != null ? query.getStreamType() : streamType;
+		if (queryStreamType == Query.StreamType.POINT_IN_TIME) {
+			return searchForStreamWithPointInTime(query, clazz, index);
+		}
+
 		Duration scrollTime = query.getScrollTime() != null ? query.getScrollTime() : Duration.ofMinutes(1);
 		long scrollTimeInMillis = scrollTime.toMillis();
 		// noinspection ConstantConditions
@@ -445,7 +760,182 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 				maxCount, //
 				searchScrollStart(scrollTimeInMillis, query, clazz, index), //
 				scrollId -> searchScrollContinue(scrollId, scrollTimeInMillis, clazz, index), //
-				this::searchScrollClear);
+				this::searchScrollClear, //
+				query.getStreamPrefetchPages(), //
+				taskExecutor);
+	}
+
+	@Override
+	public <T> SearchHits<T> searchAll(Query query, Class<T> clazz) {
+		return searchAll(query, clazz, getIndexCoordinatesFor(clazz));
+	}
+
+	@Override
+	public <T> SearchHits<T> searchAll(Query query, Class<T> clazz, IndexCoordinates index) {
+
+		Assert.isInstanceOf(BaseQuery.class, query, "query must be derived from BaseQuery");
+
+		BaseQuery baseQuery = (BaseQuery) query;
+		Pageable originalPageable = baseQuery.getPageable();
+		Sort originalSort = baseQuery.getSort();
+		Query.StreamType originalStreamType = baseQuery.getStreamType();
+		boolean originalTrackScores = baseQuery.getTrackScores();
+
+		try {
+			baseQuery.setPageable(PageRequest.of(0, searchAllPageSize));
+			baseQuery.setStreamType(Query.StreamType.POINT_IN_TIME);
+
+			// without a sort the hits are ordered by relevance; the tiebreaker would replace this order and the scores
+			if (!hasSort(baseQuery)) {
+				baseQuery.addSort(Sort.by(Sort.Direction.DESC, "_score"));
+				baseQuery.setTrackScores(true);
+			}
+
+			try (SearchHitsIterator<T> iterator = searchForStream(baseQuery, clazz, index)) {
+				List<SearchHit<T>> searchHits = new ArrayList<>();
+				iterator.forEachRemaining(searchHits::add);
+
+				return new SearchHitsImpl<>(iterator.getTotalHits(), iterator.getTotalHitsRelation(),
+						iterator.getMaxScore(), iterator.getExecutionDuration(), null, null, searchHits, iterator.getAggregations(),
+						null, null);
+			}
+		} finally {
+			baseQuery.setPageable(originalPageable);
+			baseQuery.setSort(originalSort);
+			baseQuery.setStreamType(originalStreamType);
+			baseQuery.setTrackScores(originalTrackScores);
+		}
+	}
+
+	/**
+	 * streams the results by opening a point in time and paging through the results with search_after. The query is
+	 * modified while the stream is open and restored when it is closed. As search_after cannot be combined with from, a
+	 * pageable with an offset is rejected.
+	 */
+	private <T> SearchHitsIterator<T> searchForStreamWithPointInTime(Query query, Class<T> clazz,
+			IndexCoordinates index) {
+
+		Assert.isInstanceOf(BaseQuery.class, query, "query must be derived from BaseQuery for a point in time stream");
+		Assert.isTrue(query.getPageable().isUnpaged() || query.getPageable().getOffset() == 0,
+				"a point in time stream cannot start at an offset, the pageable must be the first page");
+
+		BaseQuery baseQuery = (BaseQuery) query;
+		Duration keepAlive = query.getScrollTime() != null ? query.getScrollTime() : Duration.ofMinutes(1);
+		// noinspection ConstantConditions
+		int maxCount = query.isLimiting() ? query.getMaxResults() : 0;
+		Sort originalSort = baseQuery.getSort();
+
+		AtomicReference<String> pointInTimeId = new AtomicReference<>(openPointInTimeForStream(query, index, keepAlive));
+
+		Runnable cleanup = () -> {
+			baseQuery.setPointInTime(null);
+			baseQuery.setSearchAfter(null);
+			baseQuery.setSort(originalSort);
+			closePointInTime(pointInTimeId.get());
+		};
+
+		SearchHits<T> firstPage;
+		try {
+			baseQuery.setPointInTime(new Query.PointInTime(pointInTimeId.get(), keepAlive));
+
+			if (addShardDocSort(query)) {
+				baseQuery.addSort(Sort.by("_shard_doc"));
+			}
+
+			firstPage = searchPointInTimePage(baseQuery, clazz, index);
+		} catch (RuntimeException e) {
+			cleanup.run();
+			throw e;
+		}
+
+		return StreamQueries.streamPages( //
+				maxCount, //
+				firstPage, //
+				previousPage -> {
+					// the point in time id may change between requests, the latest one must be used
+					if (StringUtils.hasText(previousPage.getPointInTimeId())) {
+						pointInTimeId.set(previousPage.getPointInTimeId());
+					}
+
+					List<SearchHit<T>> hits = previousPage.getSearchHits();
+					baseQuery.setSearchAfter(hits.get(hits.size() - 1).getSortValues());
+					baseQuery.setPointInTime(new Query.PointInTime(pointInTimeId.get(), keepAlive));
+					return searchPointInTimePage(baseQuery, clazz, index);
+				}, //
+				cleanup, //
+				query.getStreamPrefetchPages(), //
+				taskExecutor);
+	}
+
+	/**
+	 * opens the point in time of a stream. The searches with the point in time cannot have a routing, so implementations
+	 * must open the point in time with the routing of the query or the template. The default implementation uses
+	 * {@link #openPointInTime(IndexCoordinates, Duration, Boolean)}.
+	 *
+	 * @since 6.2
+	 */
+	protected String openPointInTimeForStream(Query query, IndexCoordinates index, Duration keepAlive) {
+		return openPointInTime(index, keepAlive, true);
+	}
+
+	/**
+	 * searches one page of a point in time stream. The default implementation uses {@link #search(Query, Class,
+	 * IndexCoordinates)}; implementations should size the page like the batches of a scroll and not batch or cache the
+	 * search, as every page has its own search_after values.
+	 *
+	 * @since 6.2
+	 */
+	protected <T> SearchHits<T> searchPointInTimePage(Query query, Class<T> clazz, IndexCoordinates index) {
+		return search(query, clazz, index);
+	}
+
+	/**
+	 * checks if the {@code _shard_doc} tiebreaker sort must be added to a query that is run with point in time and
+	 * search_after. Implementations may return {@literal false} when the query already has a unique sort.
+	 *
+	 * @since 6.2
+	 */
+	protected boolean addShardDocSort(Query query) {
+		return true;
+	}
+
+	/**
+	 * checks if the query defines the order of its hits. Implementations should check sorts that are not set as
+	 * {@link Sort} on the query as well.
+	 *
+	 * @since 6.2
+	 */
+	protected boolean hasSort(Query query) {
+		return query.getSort() != null && query.getSort().isSorted();
+	}
+
+	@Override
+	public <T> SearchHitsIterator<T> searchForStream(Query query, Class<T> clazz, int slices) {
+		return searchForStream(query, clazz, getIndexCoordinatesFor(clazz), slices);
+	}
+
+	@Override
+	public <T> SearchHitsIterator<T> searchForStream(Query query, Class<T> clazz, IndexCoordinates index, int slices) {
+
+		Assert.isTrue(slices > 0, "slices must be greater than 0");
+
+		if (slices == 1) {
+			return searchForStream(query, clazz, index);
+		}
+
+		Duration scrollTime = query.getScrollTime() != null ? query.getScrollTime() : Duration.ofMinutes(1);
+		long scrollTimeInMillis = scrollTime.toMillis();
+		// noinspection ConstantConditions
+		int maxCount = query.isLimiting() ? query.getMaxResults() : 0;
+
+		return StreamQueries.streamSlicedResults( //
+				maxCount, //
+				slices, //
+				query.getRequestSize(), //
+				slice -> searchScrollStart(scrollTimeInMillis, query, new Query.SearchSlice(slice, slices), clazz, index), //
+				scrollId -> searchScrollContinue(scrollId, scrollTimeInMillis, clazz, index), //
+				this::searchScrollClear, //
+				taskExecutor);
 	}
 
 	@Override
@@ -476,6 +966,16 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 	abstract public <T> SearchScrollHits<T> searchScrollStart(long scrollTimeInMillis, Query query, Class<T> clazz,
 			IndexCoordinates index);
 
+	/**
+	 * starts a scroll for one slice of a sliced scroll.
+	 *
+	 * @since 6.2
+	 */
+	public <T> SearchScrollHits<T> searchScrollStart(long scrollTimeInMillis, Query query, Query.SearchSlice searchSlice,
+			Class<T> clazz, IndexCoordinates index) {
+		throw new UnsupportedClientOperationException(getClass(), "searchScrollStart with slice");
+	}
+
 	abstract public <T> SearchScrollHits<T> searchScrollContinue(String scrollId, long scrollTimeInMillis, Class<T> clazz,
 			IndexCoordinates index);
 
@@ -561,7 +1061,7 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 		return adaptableEntity.hasSeqNoPrimaryTerm() ? adaptableEntity.getSeqNoPrimaryTerm() : null;
 	}
 
-	private <T> IndexQuery getIndexQuery(T entity) {
+	protected <T> IndexQuery getIndexQuery(T entity) {
 
 		String id = getEntityId(entity);
 
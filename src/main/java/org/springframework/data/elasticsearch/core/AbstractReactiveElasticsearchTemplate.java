@@ -28,6 +28,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import org.springframework.beans.BeansException;
@@ -47,6 +48,7 @@ import org.springframework.data.elasticsearch.core.event.ReactiveBeforeConvertCa
 import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.BulkIngesterOptions;
 import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
 import org.springframework.data.elasticsearch.core.query.DeleteQuery;
 import org.springframework.data.elasticsearch.core.query.IndexQuery;
@@ -70,6 +72,29 @@ import org.springframework.util.Assert;
 abstract public class AbstractReactiveElasticsearchTemplate
 		implements ReactiveElasticsearchOperations, ApplicationContextAware {
 
+	/**
+	 * the default maximum number of ids that are sent in one mget request by
+	 * {@link #multiGet(Query, Class, IndexCoordinates)}.
+	 *
+	 * @since 6.2
+	 */
+	public static final int DEFAULT_MULTI_GET_CHUNK_SIZE = 1000;
+
+	/**
+	 * the default maximum number of mget requests that {@link #multiGet(Query, Class, IndexCoordinates)} runs
+	 * concurrently.
+	 *
+	 * @since 6.2
+	 */
+	public static final int DEFAULT_MULTI_GET_CONCURRENCY = 4;
+
+	/**
+	 * the default maximum number of searches that are sent in one msearch request when search batching is enabled.
+	 *
+	 * @since 6.2
+	 */
+	public static final int DEFAULT_MAX_SEARCH_BATCH_SIZE = 100;
+
 	protected final ElasticsearchConverter converter;
 	protected final SimpleElasticsearchMappingContext mappingContext;
 	protected final EntityOperations entityOperations;
@@ -79,6 +104,11 @@ abstract public class AbstractReactiveElasticsearchTemplate
 
 	protected @Nullable ReactiveEntityCallbacks entityCallbacks;
 	protected ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+	protected int multiGetChunkSize = DEFAULT_MULTI_GET_CHUNK_SIZE;
+	protected int multiGetConcurrency = DEFAULT_MULTI_GET_CONCURRENCY;
+	protected boolean getCoalescing = false;
+	@Nullable protected Duration searchBatchingWindow;
+	protected int maxSearchBatchSize = DEFAULT_MAX_SEARCH_BATCH_SIZE;
 
 	// region Initialization
 	protected AbstractReactiveElasticsearchTemplate(@Nullable ElasticsearchConverter converter) {
@@ -112,6 +142,11 @@ abstract public class AbstractReactiveElasticsearchTemplate
 
 		copy.setRoutingResolver(routingResolver);
 		copy.setObservationRegistry(observationRegistry);
+		copy.setMultiGetChunkSize(multiGetChunkSize);
+		copy.setMultiGetConcurrency(multiGetConcurrency);
+		copy.setGetCoalescing(getCoalescing);
+		copy.setSearchBatchingWindow(searchBatchingWindow);
+		copy.setMaxSearchBatchSize(maxSearchBatchSize);
 		customizeCopy(copy);
 		return copy;
 	}
@@ -151,6 +186,103 @@ abstract public class AbstractReactiveElasticsearchTemplate
 		return refreshPolicy;
 	}
 
+	/**
+	 * Set the maximum number of ids that are sent in one mget request. {@link #multiGet(Query, Class, IndexCoordinates)}
+	 * splits the ids of the query into chunks of this size. Defaults to {@link #DEFAULT_MULTI_GET_CHUNK_SIZE}.
+	 *
+	 * @param multiGetChunkSize must be greater than 0
+	 * @since 6.2
+	 */
+	public void setMultiGetChunkSize(int multiGetChunkSize) {
+
+		Assert.isTrue(multiGetChunkSize > 0, "multiGetChunkSize must be greater than 0");
+
+		this.multiGetChunkSize = multiGetChunkSize;
+	}
+
+	public int getMultiGetChunkSize() {
+		return multiGetChunkSize;
+	}
+
+	/**
+	 * Set the maximum number of mget requests that are run concurrently when the ids of a
+	 * {@link #multiGet(Query, Class, IndexCoordinates)} call are split into more than one chunk. Defaults to
+	 * {@link #DEFAULT_MULTI_GET_CONCURRENCY}.
+	 *
+	 * @param multiGetConcurrency must be greater than 0
+	 * @since 6.2
+	 */
+	public void setMultiGetConcurrency(int multiGetConcurrency) {
+
+		Assert.isTrue(multiGetConcurrency > 0, "multiGetConcurrency must be greater than 0");
+
+		this.multiGetConcurrency = multiGetConcurrency;
+	}
+
+	public int getMultiGetConcurrency() {
+		return multiGetConcurrency;
+	}
+
+	/**
+	 * Set whether concurrent {@code get(id, clazz, index)} calls for the same document are coalesced: while a get
+	 * request for an id, index and routing is running, further calls for the same document wait for its response
+	 * instead of sending their own request. Every caller converts the returned document into its own entity instance.
+	 * Defaults to {@literal false}.
+	 *
+	 * @param getCoalescing {@literal true} to coalesce concurrent get requests
+	 * @since 6.2
+	 */
+	public void setGetCoalescing(boolean getCoalescing) {
+		this.getCoalescing = getCoalescing;
+	}
+
+	public boolean isGetCoalescing() {
+		return getCoalescing;
+	}
+
+	/**
+	 * Set the time window in which searches are collected to be sent together in one msearch request. When set, a search
+	 * that does not use a point in time, a search template or index options is not sent on its own: it waits until
+	 * the window that was opened by the first search of the batch has passed, or until the batch contains
+	 * {@link #getMaxSearchBatchSize()} searches, and then all searches of the batch are sent in one request. This adds up
+	 * to the window to the latency of every search in exchange for fewer requests under concurrent load. Defaults to
+	 * {@literal null} which disables the batching.
+	 *
+	 * @param searchBatchingWindow the time window, {@literal null} or zero to disable search batching
+	 * @since 6.2
+	 */
+	public void setSearchBatchingWindow(@Nullable Duration searchBatchingWindow) {
+
+		Assert.isTrue(searchBatchingWindow == null || !searchBatchingWindow.isNegative(),
+				"searchBatchingWindow must not be negative");
+
+		this.searchBatchingWindow = searchBatchingWindow == null || searchBatchingWindow.isZero() ? null
+				: searchBatchingWindow;
+	}
+
+	@Nullable
+	public Duration getSearchBatchingWindow() {
+		return searchBatchingWindow;
+	}
+
+	/**
+	 * Set the maximum number of searches that are sent in one msearch request when search batching is enabled with
+	 * {@link #setSearchBatchingWindow(Duration)}. Defaults to {@link #DEFAULT_MAX_SEARCH_BATCH_SIZE}.
+	 *
+	 * @param maxSearchBatchSize must be greater than 0
+	 * @since 6.2
+	 */
+	public void setMaxSearchBatchSize(int maxSearchBatchSize) {
+
+		Assert.isTrue(maxSearchBatchSize > 0, "maxSearchBatchSize must be greater than 0");
+
+		this.maxSearchBatchSize = maxSearchBatchSize;
+	}
+
+	public int getMaxSearchBatchSize() {
+		return maxSearchBatchSize;
+	}
+
 	/**
 	 * Set the {@link ReactiveEntityCallbacks} instance to use when invoking {@link ReactiveEntityCallbacks callbacks}
 	 * like the {@link ReactiveBeforeConvertCallback}. Overrides potentially existing {@link ReactiveEntityCallbacks}.
@@ -314,6 +446,16 @@ abstract public class AbstractReactiveElasticsearchTemplate
 
 	}
 
+	@Override
+	public <T> Flux<T> save(Publisher<T> entities, Class<?> clazz, BulkIngesterOptions options) {
+		return save(entities, getIndexCoordinatesFor(clazz), options);
+	}
+
+	@Override
+	public <T> Flux<T> save(Publisher<T> entities, IndexCoordinates index, BulkIngesterOptions options) {
+		throw new UnsupportedClientOperationException(getClass(), "save with BulkIngesterOptions");
+	}
+
 	@Override
 	public <T> Flux<T> saveAll(Mono<? extends Collection<? extends T>> entities, Class<T> clazz) {
 		return saveAll(entities, getIndexCoordinatesFor(clazz));
@@ -553,6 +695,21 @@ abstract public class AbstractReactiveElasticsearchTemplate
 
 	abstract protected Mono<Long> doCount(Query query, Class<?> entityType, IndexCoordinates index);
 
+	@Override
+	public Mono<Boolean> exists(Query query, Class<?> entityType) {
+		return exists(query, entityType, getIndexCoordinatesFor(entityType));
+	}
+
+	@Override
+	public Mono<Boolean> exists(Query query, Class<?> entityType, IndexCoordinates index) {
+		return doExists(query, entityType, index);
+	}
+
+	/**
+	 * @since 6.2
+	 */
+	abstract protected Mono<Boolean> doExists(Query query, Class<?> entityType, IndexCoordinates index);
+
 	@Override
 	public Mono<String> openPointInTime(IndexCoordinates index, Duration keepAlive, Boolean ignoreUnavailable) {
 		throw new UnsupportedClientOperationException(getClass(), "openPointInTime");
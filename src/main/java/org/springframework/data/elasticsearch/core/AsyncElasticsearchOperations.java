@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+/**
+ * Interface that specifies the basic document and search operations executed asynchronously. The returned
+ * {@link CompletableFuture}s are completed when the response from Elasticsearch is processed, no thread waits for the
+ * response in the meantime. Exceptions are reported by completing the future exceptionally.
+ *
+ * @since 6.2
+ */
+public interface AsyncElasticsearchOperations {
+
+	/**
+	 * Get the {@link ElasticsearchConverter} used.
+	 *
+	 * @return never {@literal null}
+	 */
+	ElasticsearchConverter getElasticsearchConverter();
+
+	/**
+	 * @param clazz the entity class
+	 * @return the IndexCoordinates defined on the entity.
+	 */
+	IndexCoordinates getIndexCoordinatesFor(Class<?> clazz);
+
+	// region document operations
+	/**
+	 * Index an entity in the index derived from the entity class.
+	 *
+	 * @param entity the entity to save, must not be {@literal null}
+	 * @param <T> the entity type
+	 * @return a future with the saved entity, the id and version properties are set from the response
+	 */
+	<T> CompletableFuture<T> save(T entity);
+
+	/**
+	 * Index an entity in the given index.
+	 *
+	 * @param entity the entity to save, must not be {@literal null}
+	 * @param index the target index, must not be {@literal null}
+	 * @param <T> the entity type
+	 * @return a future with the saved entity, the id and version properties are set from the response
+	 */
+	<T> CompletableFuture<T> save(T entity, IndexCoordinates index);
+
+	/**
+	 * Index the entities with a bulk request in the index derived from the entity class.
+	 *
+	 * @param entities the entities to save, must not be {@literal null}
+	 * @param clazz the entity class, used to determine the index
+	 * @param <T> the entity type
+	 * @return a future with the saved entities
+	 */
+	<T> CompletableFuture<List<T>> saveAll(Iterable<T> entities, Class<T> clazz);
+
+	/**
+	 * Index the entities with a bulk request in the given index.
+	 *
+	 * @param entities the entities to save, must not be {@literal null}
+	 * @param index the target index, must not be {@literal null}
+	 * @param <T> the entity type
+	 * @return a future with the saved entities
+	 */
+	<T> CompletableFuture<List<T>> saveAll(Iterable<T> entities, IndexCoordinates index);
+
+	/**
+	 * Retrieve an entity from the index derived from the entity class.
+	 *
+	 * @param id the id of the document, must not be {@literal null}
+	 * @param clazz the entity class
+	 * @param <T> the entity type
+	 * @return a future with the entity, completed with {@literal null} if the document does not exist
+	 */
+	<T> CompletableFuture<T> get(String id, Class<T> clazz);
+
+	/**
+	 * Retrieve an entity from the given index.
+	 *
+	 * @param id the id of the document, must not be {@literal null}
+	 * @param clazz the entity class
+	 * @param index the index to read from, must not be {@literal null}
+	 * @param <T> the entity type
+	 * @return a future with the entity, completed with {@literal null} if the document does not exist
+	 */
+	<T> CompletableFuture<T> get(String id, Class<T> clazz, IndexCoordinates index);
+
+	/**
+	 * Execute a multiGet against the index derived from the entity class.
+	 *
+	 * @param query the query defining the ids of the objects to get
+	 * @param clazz the entity class
+	 * @param <T> the entity type
+	 * @return a future with the items in the order of the ids
+	 */
+	<T> CompletableFuture<List<MultiGetItem<T>>> multiGet(Query query, Class<T> clazz);
+
+	/**
+	 * Execute a multiGet against the given index.
+	 *
+	 * @param query the query defining the ids of the objects to get
+	 * @param clazz the entity class
+	 * @param index the index to read from, must not be {@literal null}
+	 * @param <T> the entity type
+	 * @return a future with the items in the order of the ids
+	 */
+	<T> CompletableFuture<List<MultiGetItem<T>>> multiGet(Query query, Class<T> clazz, IndexCoordinates index);
+	// endregion
+
+	// region search operations
+	/**
+	 * Execute the query against the index derived from the entity class.
+	 *
+	 * @param query the query to execute
+	 * @param clazz the entity class
+	 * @param <T> the entity type
+	 * @return a future with the search hits
+	 */
+	<T> CompletableFuture<SearchHits<T>> search(Query query, Class<T> clazz);
+
+	/**
+	 * Execute the query against the given index.
+	 *
+	 * @param query the query to execute
+	 * @param clazz the entity class
+	 * @param index the index to search, must not be {@literal null}
+	 * @param <T> the entity type
+	 * @return a future with the search hits
+	 */
+	<T> CompletableFuture<SearchHits<T>> search(Query query, Class<T> clazz, IndexCoordinates index);
+
+	/**
+	 * Count the documents matching the query in the index derived from the entity class.
+	 *
+	 * @param query the query to execute
+	 * @param clazz the entity class
+	 * @return a future with the number of matching documents
+	 */
+	CompletableFuture<Long> count(Query query, Class<?> clazz);
+
+	/**
+	 * Count the documents matching the query in the given index.
+	 *
+	 * @param query the query to execute
+	 * @param clazz the entity class, used to map the properties of the query
+	 * @param index the index to search, must not be {@literal null}
+	 * @return a future with the number of matching documents
+	 */
+	CompletableFuture<Long> count(Query query, Class<?> clazz, IndexCoordinates index);
+	// endregion
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+
+/**
+ * An ingester that collects single write operations and sends them asynchronously to Elasticsearch in bulk requests.
+ * The bulk requests are sent when the limits defined in the
+ * {@link org.springframework.data.elasticsearch.core.query.BulkIngesterOptions} are reached, several of these
+ * requests may be in flight at the same time. The results of the single operations are reported to the
+ * {@link BulkIngesterListener} configured in the options.
+ * <p>
+ * The {@link org.springframework.data.elasticsearch.core.event.BeforeConvertCallback} is called when an entity or
+ * {@link IndexQuery} is added, the {@link org.springframework.data.elasticsearch.core.event.AfterSaveCallback} when the
+ * response for the operation is received.
+ * <p>
+ * A BulkIngester must be closed after use, this sends the pending operations and waits for all in-flight requests to
+ * complete.
+ *
+ * @since 6.2
+ */
+public interface BulkIngester extends AutoCloseable {
+
+	/**
+	 * adds an entity to be indexed.
+	 *
+	 * @param entity the entity, must not be {@literal null}
+	 */
+	void add(Object entity);
+
+	/**
+	 * adds an index operation.
+	 *
+	 * @param indexQuery the query, must not be {@literal null}
+	 */
+	void add(IndexQuery indexQuery);
+
+	/**
+	 * adds an update operation.
+	 *
+	 * @param updateQuery the query, must not be {@literal null}
+	 */
+	void add(UpdateQuery updateQuery);
+
+	/**
+	 * sends the pending operations without waiting for the limits to be reached.
+	 */
+	void flush();
+
+	/**
+	 * @return the number of operations that have been added but not yet sent.
+	 */
+	long pendingOperations();
+
+	/**
+	 * @return the number of bulk requests that are currently in flight.
+	 */
+	long pendingRequests();
+
+	/**
+	 * sends the pending operations and waits until all in-flight requests are completed.
+	 */
+	@Override
+	void close();
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import java.util.List;
+
+import org.springframework.data.elasticsearch.BulkFailureException;
+
+/**
+ * Listener that is informed about the results of the operations that were added to a {@link BulkIngester}. The
+ * methods are called from the threads that process the bulk responses, so implementations must be thread-safe. The
+ * query objects passed in are the {@link org.springframework.data.elasticsearch.core.query.IndexQuery} or
+ * {@link org.springframework.data.elasticsearch.core.query.UpdateQuery} instances that were added or created by the
+ * ingester; for successfully indexed entities the query object already contains the entity returned from the
+ * {@link org.springframework.data.elasticsearch.core.event.AfterSaveCallback}.
+ *
+ * @since 6.2
+ */
+public interface BulkIngesterListener {
+
+	/**
+	 * Called for every operation that was successfully executed.
+	 *
+	 * @param query the query that was executed
+	 * @param indexedObjectInformation information about the indexed document
+	 */
+	default void onSuccess(Object query, IndexedObjectInformation indexedObjectInformation) {}
+
+	/**
+	 * Called for every operation that returned an error in the bulk response.
+	 *
+	 * @param query the query that failed
+	 * @param failureDetails the failure returned from Elasticsearch
+	 */
+	default void onFailure(Object query, BulkFailureException.FailureDetails failureDetails) {}
+
+	/**
+	 * Called when a whole bulk request failed, for example because of a network error.
+	 *
+	 * @param queries the queries contained in the failed bulk request
+	 * @param throwable the error
+	 */
+	default void onBulkFailure(List<?> queries, Throwable throwable) {}
+}
@@ -20,8 +20,10 @@ import java.util.List;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.BulkIngesterOptions;
 import org.springframework.data.elasticsearch.core.query.BulkOptions;
 import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
+import org.springframework.data.elasticsearch.core.query.DeleteByIdQuery;
 import org.springframework.data.elasticsearch.core.query.DeleteQuery;
 import org.springframework.data.elasticsearch.core.query.IndexQuery;
 import org.springframework.data.elasticsearch.core.query.Query;
@@ -237,6 +239,42 @@ public interface DocumentOperations {
 	 */
 	void bulkUpdate(List<UpdateQuery> queries, BulkOptions bulkOptions, IndexCoordinates index);
 
+	/**
+	 * Deletes the documents with the ids of the queries in bulk. Documents that do not exist are not reported as failure,
+	 * their {@link IndexedObjectInformation#isNotFound()} returns {@literal true}. If an adaptive bulk sizing is set, the
+	 * queries are sent in batches of its current size.
+	 *
+	 * @param queries the queries to execute in bulk
+	 * @param bulkOptions options to be added to the bulk request
+	 * @param index the index to delete the documents from
+	 * @return the information about the deleted documents in the order of the queries
+	 * @throws org.springframework.data.elasticsearch.BulkFailureException with information about the failed operation
+	 * @since 6.2
+	 */
+	List<IndexedObjectInformation> bulkDelete(List<DeleteByIdQuery> queries, BulkOptions bulkOptions, IndexCoordinates index);
+
+	/**
+	 * Creates a {@link BulkIngester} that sends the operations added to it asynchronously in bulk requests to the index
+	 * defined by the given class.
+	 *
+	 * @param bulkIngesterOptions the options for the ingester, must not be {@literal null}
+	 * @param clazz the entity class, must not be {@literal null}
+	 * @return the BulkIngester, must be closed after use.
+	 * @since 6.2
+	 */
+	BulkIngester bulkIngester(BulkIngesterOptions bulkIngesterOptions, Class<?> clazz);
+
+	/**
+	 * Creates a {@link BulkIngester} that sends the operations added to it asynchronously in bulk requests to the given
+	 * index.
+	 *
+	 * @param bulkIngesterOptions the options for the ingester, must not be {@literal null}
+	 * @param index the index to write to, must not be {@literal null}
+	 * @return the BulkIngester, must be closed after use.
+	 * @since 6.2
+	 */
+	BulkIngester bulkIngester(BulkIngesterOptions bulkIngesterOptions, IndexCoordinates index);
+
 	/**
 	 * Delete the one object with provided id.
 	 *
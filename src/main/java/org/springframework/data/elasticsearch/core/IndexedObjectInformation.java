@@ -18,7 +18,8 @@ package org.springframework.data.elasticsearch.core;
 import org.jspecify.annotations.Nullable;
 
 /**
- * Value class capturing information about a newly indexed document in Elasticsearch.
+ * Value class capturing information about a newly indexed document in Elasticsearch or a document written by a bulk
+ * request.
  *
  * @author Peter-Josef Meisch
  * @author Roman Puchkovskiy
@@ -30,6 +31,28 @@ public record IndexedObjectInformation( //
 		@Nullable String index, //
 		@Nullable Long seqNo, //
 		@Nullable Long primaryTerm, //
-		@Nullable Long version //
+		@Nullable Long version, //
+		/** @since 6.2 */ //
+		@Nullable String result //
 ) {
+
+	/**
+	 * the result of a bulk item for a delete of a document that did not exist.
+	 *
+	 * @since 6.2
+	 */
+	public static final String RESULT_NOT_FOUND = "not_found";
+
+	public IndexedObjectInformation(@Nullable String id, @Nullable String index, @Nullable Long seqNo,
+			@Nullable Long primaryTerm, @Nullable Long version) {
+		this(id, index, seqNo, primaryTerm, version, null);
+	}
+
+	/**
+	 * @return {@literal true} if the document of a delete did not exist
+	 * @since 6.2
+	 */
+	public boolean isNotFound() {
+		return RESULT_NOT_FOUND.equals(result);
+	}
 }
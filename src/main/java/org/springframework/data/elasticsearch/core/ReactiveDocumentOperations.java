@@ -22,7 +22,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+import org.reactivestreams.Publisher;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.BulkIngesterOptions;
 import org.springframework.data.elasticsearch.core.query.BulkOptions;
 import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
 import org.springframework.data.elasticsearch.core.query.DeleteQuery;
@@ -152,6 +154,38 @@ public interface ReactiveDocumentOperations {
 	 */
 	<T> Flux<T> save(Flux<T> entities, IndexCoordinates index, int bulkSize);
 
+	/**
+	 * Indexes the entities emitted by the publisher into the index extracted from entity metadata, see
+	 * {@link #save(Publisher, IndexCoordinates, BulkIngesterOptions)}.
+	 *
+	 * @param entities the entities to save
+	 * @param clazz the class to get the index name from
+	 * @param options defines how the entities are split into bulk requests
+	 * @param <T> entity type
+	 * @return a Flux emitting the saved entities
+	 * @since 6.2
+	 */
+	<T> Flux<T> save(Publisher<T> entities, Class<?> clazz, BulkIngesterOptions options);
+
+	/**
+	 * Indexes the entities emitted by the publisher into the given index. The entities are collected into bulk requests
+	 * that are sent when the maximum number of operations or the maximum request size defined in the options is reached
+	 * or when the flush interval has elapsed. Up to {@link BulkIngesterOptions#getMaxConcurrentRequests()} bulk requests
+	 * are executed concurrently, the saved entities are emitted as soon as the bulk request containing them is
+	 * completed, so with more than one concurrent request they may be emitted in a different order than they were
+	 * received. Entities are only requested from the publisher as the downstream subscriber signals demand. The
+	 * {@link BulkIngesterOptions#getListener() listener} of the options is not used, failures are signalled as a
+	 * {@link org.springframework.data.elasticsearch.BulkFailureException}.
+	 *
+	 * @param entities the entities to save
+	 * @param index the index to save to
+	 * @param options defines how the entities are split into bulk requests
+	 * @param <T> entity type
+	 * @return a Flux emitting the saved entities
+	 * @since 6.2
+	 */
+	<T> Flux<T> save(Publisher<T> entities, IndexCoordinates index, BulkIngesterOptions options);
+
 	/**
 	 * Index entities the index extracted from entity metadata.
 	 *
@@ -66,6 +66,29 @@ public interface ReactiveSearchOperations {
 	 */
 	Mono<Long> count(Query query, Class<?> entityType, IndexCoordinates index);
 
+	/**
+	 * Check if there is a document matching the given {@link Query}. This is cheaper than counting the matching
+	 * documents, as the search stops on each shard after the first match and the total number of hits is not tracked.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @return a {@link Mono} emitting {@literal true} if a matching document exists.
+	 * @since 6.2
+	 */
+	Mono<Boolean> exists(Query query, Class<?> entityType);
+
+	/**
+	 * Check if there is a document matching the given {@link Query}. This is cheaper than counting the matching
+	 * documents, as the search stops on each shard after the first match and the total number of hits is not tracked.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @param index the target index, must not be {@literal null}
+	 * @return a {@link Mono} emitting {@literal true} if a matching document exists.
+	 * @since 6.2
+	 */
+	Mono<Boolean> exists(Query query, Class<?> entityType, IndexCoordinates index);
+
 	/**
 	 * Search the index for entities matching the given {@link Query query}.
 	 *
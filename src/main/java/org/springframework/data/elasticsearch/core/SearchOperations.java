@@ -65,6 +65,29 @@ public interface SearchOperations {
 	 */
 	long count(Query query, @Nullable Class<?> clazz, IndexCoordinates index);
 
+	/**
+	 * checks if there is a document matching the given query. This is cheaper than counting the matching documents, as
+	 * the search stops on each shard after the first match and the total number of hits is not tracked.
+	 *
+	 * @param query the query to execute
+	 * @param clazz the entity clazz used for property mapping and index name extraction
+	 * @return {@literal true} if a matching document exists
+	 * @since 6.2
+	 */
+	boolean exists(Query query, Class<?> clazz);
+
+	/**
+	 * checks if there is a document matching the given query. This is cheaper than counting the matching documents, as
+	 * the search stops on each shard after the first match and the total number of hits is not tracked.
+	 *
+	 * @param query the query to execute
+	 * @param clazz the entity clazz used for property mapping
+	 * @param index the index to run the query against
+	 * @return {@literal true} if a matching document exists
+	 * @since 6.2
+	 */
+	boolean exists(Query query, @Nullable Class<?> clazz, IndexCoordinates index);
+
 	/**
 	 * Execute the query against elasticsearch and return the first returned object.
 	 *
@@ -213,6 +236,70 @@ public interface SearchOperations {
 	 */
 	<T> SearchHitsIterator<T> searchForStream(Query query, Class<T> clazz, IndexCoordinates index);
 
+	/**
+	 * Executes the given {@link Query} and returns all matching hits. The hits are read page by page with a point in time
+	 * and search_after, so there is no count request before the search and no single response containing all hits. The
+	 * pageable of the query is ignored, its sort is used; without a sort the hits are ordered by their score. The number
+	 * of returned hits is limited by the max results of the query if it has them set.
+	 *
+	 * @param <T> element return type
+	 * @param query the query to execute, must be derived from
+	 *          {@link org.springframework.data.elasticsearch.core.query.BaseQuery}
+	 * @param clazz the entity clazz used for property mapping and index name extraction
+	 * @return all matching hits
+	 * @since 6.2
+	 */
+	<T> SearchHits<T> searchAll(Query query, Class<T> clazz);
+
+	/**
+	 * Executes the given {@link Query} and returns all matching hits. The hits are read page by page with a point in time
+	 * and search_after, so there is no count request before the search and no single response containing all hits. The
+	 * pageable of the query is ignored, its sort is used; without a sort the hits are ordered by their score. The number
+	 * of returned hits is limited by the max results of the query if it has them set.
+	 *
+	 * @param <T> element return type
+	 * @param query the query to execute, must be derived from
+	 *          {@link org.springframework.data.elasticsearch.core.query.BaseQuery}
+	 * @param clazz the entity clazz used for property mapping
+	 * @param index the index to run the query against
+	 * @return all matching hits
+	 * @since 6.2
+	 */
+	<T> SearchHits<T> searchAll(Query query, Class<T> clazz, IndexCoordinates index);
+
+	/**
+	 * Executes the given {@link Query} against elasticsearch as a sliced scroll and returns the merged result as
+	 * {@link SearchHitsIterator}. The result is split into {@code slices} parts that are fetched in parallel, each with
+	 * its own scroll context. The order of the returned hits is not defined, even if the query has a sort.
+	 *
+	 * @param <T> element return type
+	 * @param query the query to execute
+	 * @param clazz the entity clazz used for property mapping and index name extraction
+	 * @param slices the number of slices to fetch in parallel, a value of 1 does a normal scroll
+	 * @return a {@link SearchHitsIterator} that wraps the Elasticsearch scroll contexts that need to be closed. The
+	 *         try-with-resources construct should be used to ensure that the close method is invoked after the operations
+	 *         are completed.
+	 * @since 6.2
+	 */
+	<T> SearchHitsIterator<T> searchForStream(Query query, Class<T> clazz, int slices);
+
+	/**
+	 * Executes the given {@link Query} against elasticsearch as a sliced scroll and returns the merged result as
+	 * {@link SearchHitsIterator}. The result is split into {@code slices} parts that are fetched in parallel, each with
+	 * its own scroll context. The order of the returned hits is not defined, even if the query has a sort.
+	 *
+	 * @param <T> element return type
+	 * @param query the query to execute
+	 * @param clazz the entity clazz used for property mapping
+	 * @param index the index to run the query against
+	 * @param slices the number of slices to fetch in parallel, a value of 1 does a normal scroll
+	 * @return a {@link SearchHitsIterator} that wraps the Elasticsearch scroll contexts that need to be closed. The
+	 *         try-with-resources construct should be used to ensure that the close method is invoked after the operations
+	 *         are completed.
+	 * @since 6.2
+	 */
+	<T> SearchHitsIterator<T> searchForStream(Query query, Class<T> clazz, IndexCoordinates index, int slices);
+
 	/**
 	 * Creates a {@link Query} to get all documents. Must be implemented by the concrete implementations to provide an
 	 * appropriate query using the respective client.
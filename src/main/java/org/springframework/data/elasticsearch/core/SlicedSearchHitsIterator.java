@@ -0,0 +1,316 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
+
+/**
+ * {@link SearchHitsIterator} merging the results of the slices of a sliced scroll. Each slice is read by its own
+ * task of the given executor that puts the hits into a bounded buffer from which this iterator takes them, so the requests for the
+ * different slices and the conversion of the returned documents run in parallel. The scroll contexts of all slices are
+ * cleared when the iterator is closed or all slices are exhausted.
+ * <p>
+ * The aggregations of a sliced scroll are only computed per slice and are therefore not returned.
+ *
+ * @since 6.2
+ */
+final class SlicedSearchHitsIterator<T> implements SearchHitsIterator<T> {
+
+	private static final Object END_OF_SLICE = new Object();
+	private static final long POLL_TIMEOUT_MILLIS = 100;
+
+	private final int maxCount;
+	private final int slices;
+	private final BlockingQueue<Object> buffer;
+	private final List<CompletableFuture<Void>> workers = new ArrayList<>();
+
+	private final float maxScore;
+	private final Duration executionDuration;
+	private final long totalHits;
+	private final TotalHitsRelation totalHitsRelation;
+
+	private int currentCount = 0;
+	private int finishedSlices = 0;
+	@Nullable private SearchHit<T> nextHit;
+	private volatile boolean isClosed = false;
+
+	/**
+	 * @param maxCount the maximum number of entities to return, a value of 0 means that all available entities are
+	 *          returned
+	 * @param slices the number of slices
+	 * @param bufferSizePerSlice the number of hits per slice that are buffered before the reading task waits
+	 * @param startScrollFunction function to start the scroll for the slice with the given id
+	 * @param continueScrollFunction function to continue scrolling applies to the current scrollId.
+	 * @param clearScrollConsumer consumer to clear the scroll context by accepting the scrollIds to clear.
+	 * @param executor the executor running the slices, it must be able to run all slices at the same time
+	 */
+	SlicedSearchHitsIterator(int maxCount, int slices, int bufferSizePerSlice,
+			IntFunction<SearchScrollHits<T>> startScrollFunction,
+			Function<String, SearchScrollHits<T>> continueScrollFunction, Consumer<List<String>> clearScrollConsumer,
+			Executor executor) {
+
+		this.maxCount = maxCount;
+		this.slices = slices;
+		this.buffer = new ArrayBlockingQueue<>(Math.max(1, bufferSizePerSlice) * slices);
+
+		List<SearchScrollHits<T>> firstPages = startSlices(slices, startScrollFunction, clearScrollConsumer, executor);
+
+		float maxScore = Float.NaN;
+		Duration executionDuration = Duration.ZERO;
+		long totalHits = 0;
+		TotalHitsRelation totalHitsRelation = TotalHitsRelation.EQUAL_TO;
+
+		for (SearchScrollHits<T> firstPage : firstPages) {
+
+			if (Float.isNaN(maxScore) || firstPage.getMaxScore() > maxScore) {
+				maxScore = firstPage.getMaxScore();
+			}
+
+			if (firstPage.getExecutionDuration().compareTo(executionDuration) > 0) {
+				executionDuration = firstPage.getExecutionDuration();
+			}
+
+			totalHits += firstPage.getTotalHits();
+
+			if (firstPage.getTotalHitsRelation() == TotalHitsRelation.OFF) {
+				totalHitsRelation = TotalHitsRelation.OFF;
+			} else if (firstPage.getTotalHitsRelation() != TotalHitsRelation.EQUAL_TO
+					&& totalHitsRelation == TotalHitsRelation.EQUAL_TO) {
+				totalHitsRelation = TotalHitsRelation.GREATER_THAN_OR_EQUAL_TO;
+			}
+		}
+
+		this.maxScore = maxScore;
+		this.executionDuration = executionDuration;
+		this.totalHits = totalHits;
+		this.totalHitsRelation = totalHitsRelation;
+
+		for (int slice = 0; slice < slices; slice++) {
+			SearchHitsIterator<T> sliceIterator = StreamQueries.streamResults(0, firstPages.get(slice),
+					continueScrollFunction, clearScrollConsumer);
+			workers.add(CompletableFuture.runAsync(() -> readSlice(sliceIterator), executor));
+		}
+	}
+
+	/**
+	 * starts the scrolls of all slices in parallel. If one of them fails, the scrolls that were started are cleared.
+	 */
+	private static <T> List<SearchScrollHits<T>> startSlices(int slices,
+			IntFunction<SearchScrollHits<T>> startScrollFunction, Consumer<List<String>> clearScrollConsumer,
+			Executor executor) {
+
+		List<CompletableFuture<SearchScrollHits<T>>> futures = new ArrayList<>(slices);
+		for (int slice = 0; slice < slices; slice++) {
+			int sliceId = slice;
+			futures.add(CompletableFuture.supplyAsync(() -> startScrollFunction.apply(sliceId), executor));
+		}
+
+		List<SearchScrollHits<T>> firstPages = new ArrayList<>(slices);
+		RuntimeException failure = null;
+
+		for (CompletableFuture<SearchScrollHits<T>> future : futures) {
+			try {
+				firstPages.add(future.join());
+			} catch (CompletionException e) {
+				if (failure == null) {
+					failure = e.getCause() instanceof RuntimeException runtimeException ? runtimeException
+							: new UncategorizedElasticsearchException("could not start sliced scroll", e.getCause());
+				}
+			}
+		}
+
+		if (failure != null) {
+			List<String> scrollIds = firstPages.stream().map(SearchScrollHits::getScrollId).toList();
+			if (!scrollIds.isEmpty()) {
+				clearScrollConsumer.accept(scrollIds);
+			}
+			throw failure;
+		}
+
+		return firstPages;
+	}
+
+	private void readSlice(SearchHitsIterator<T> sliceIterator) {
+
+		try {
+			while (!isClosed && sliceIterator.hasNext()) {
+				if (!put(sliceIterator.next())) {
+					return;
+				}
+			}
+			put(END_OF_SLICE);
+		} catch (RuntimeException e) {
+			put(new SliceFailure(e));
+		} finally {
+			sliceIterator.close();
+		}
+	}
+
+	/**
+	 * puts an element into the buffer, waiting for free space as long as the iterator is not closed.
+	 *
+	 * @return {@literal true} if the element was added
+	 */
+	private boolean put(Object element) {
+
+		try {
+			while (!isClosed) {
+				if (buffer.offer(element, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+					return true;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return false;
+	}
+
+	@Override
+	public void close() {
+
+		if (!isClosed) {
+			isClosed = true;
+			buffer.clear();
+
+			// wait for the reading tasks, they clear their scroll context before they terminate
+			try {
+				CompletableFuture.allOf(workers.toArray(new CompletableFuture<?>[0])).get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (ExecutionException e) {
+				// readSlice hands its failures to the buffer
+			}
+		}
+	}
+
+	@Override
+	@Nullable
+	public AggregationsContainer<?> getAggregations() {
+		return null;
+	}
+
+	@Override
+	public float getMaxScore() {
+		return maxScore;
+	}
+
+	@Override
+	public Duration getExecutionDuration() {
+		return executionDuration;
+	}
+
+	@Override
+	public long getTotalHits() {
+		return totalHits;
+	}
+
+	@Override
+	public TotalHitsRelation getTotalHitsRelation() {
+		return totalHitsRelation;
+	}
+
+	@Override
+	public boolean hasNext() {
+
+		if (nextHit != null) {
+			return true;
+		}
+
+		if (!isClosed && (maxCount <= 0 || currentCount < maxCount)) {
+
+			while (finishedSlices < slices) {
+				Object element = take();
+
+				if (element == null) {
+					// closed from another thread
+					break;
+				} else if (element == END_OF_SLICE) {
+					finishedSlices++;
+				} else if (element instanceof SliceFailure sliceFailure) {
+					close();
+					throw sliceFailure.exception();
+				} else {
+					// noinspection unchecked
+					nextHit = (SearchHit<T>) element;
+					return true;
+				}
+			}
+		}
+
+		close();
+		return false;
+	}
+
+	/**
+	 * takes the next element from the buffer, waiting for it as long as the iterator is not closed.
+	 *
+	 * @return the next element or {@literal null} if the iterator was closed
+	 */
+	@Nullable
+	private Object take() {
+
+		try {
+			while (!isClosed) {
+				Object element = buffer.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+				if (element != null) {
+					return element;
+				}
+			}
+			return null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			close();
+			throw new UncategorizedElasticsearchException("interrupted while waiting for the next search hit", e);
+		}
+	}
+
+	@Override
+	public SearchHit<T> next() {
+
+		if (hasNext()) {
+			currentCount++;
+			SearchHit<T> hit = nextHit;
+			nextHit = null;
+			// noinspection DataFlowIssue hasNext() has set nextHit
+			return hit;
+		}
+		throw new NoSuchElementException();
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+
+	private record SliceFailure(RuntimeException exception) {
+	}
+}
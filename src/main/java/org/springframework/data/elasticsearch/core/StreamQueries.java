@@ -16,12 +16,22 @@
 package org.springframework.data.elasticsearch.core;
 
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.UnaryOperator;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.elasticsearch.client.util.ScrollState;
@@ -50,12 +60,96 @@ abstract class StreamQueries {
 	 */
 	static <T> SearchHitsIterator<T> streamResults(int maxCount, SearchScrollHits<T> searchHits,
 			Function<String, SearchScrollHits<T>> continueScrollFunction, Consumer<List<String>> clearScrollConsumer) {
+		return streamResults(maxCount, searchHits, continueScrollFunction, clearScrollConsumer, 0, Runnable::run);
+	}
+
+	/**
+	 * Stream query results using {@link SearchScrollHits}, optionally fetching the next pages in the background.
+	 *
+	 * @param maxCount the maximum number of entities to return, a value of 0 means that all available entities are
+	 *          returned
+	 * @param searchHits the initial hits
+	 * @param continueScrollFunction function to continue scrolling applies to the current scrollId.
+	 * @param clearScrollConsumer consumer to clear the scroll context by accepting the scrollIds to clear.
+	 * @param prefetchPages the number of pages to fetch ahead while the current page is consumed, 0 to fetch a page
+	 *          only when it is needed.
+	 * @param executor the executor running the requests for the prefetched pages.
+	 * @param <T> the entity type
+	 * @return the {@link SearchHitsIterator}.
+	 * @since 6.2
+	 */
+	static <T> SearchHitsIterator<T> streamResults(int maxCount, SearchScrollHits<T> searchHits,
+			Function<String, SearchScrollHits<T>> continueScrollFunction, Consumer<List<String>> clearScrollConsumer,
+			int prefetchPages, Executor executor) {
 
 		Assert.notNull(searchHits, "searchHits must not be null.");
 		Assert.notNull(searchHits.getScrollId(), "scrollId of searchHits must not be null.");
 		Assert.notNull(continueScrollFunction, "continueScrollFunction must not be null.");
 		Assert.notNull(clearScrollConsumer, "clearScrollConsumer must not be null.");
 
+		ScrollState scrollState = new ScrollState(searchHits.getScrollId());
+
+		return streamPages(maxCount, searchHits, //
+				previousPage -> {
+					// noinspection DataFlowIssue scrollId was asserted above
+					SearchScrollHits<T> nextPage = continueScrollFunction.apply(scrollState.getScrollId());
+					scrollState.updateScrollId(nextPage.getScrollId());
+					return nextPage;
+				}, //
+				() -> clearScrollConsumer.accept(scrollState.getScrollIds()), //
+				prefetchPages, //
+				executor);
+	}
+
+	/**
+	 * Stream query results page by page, for example using point in time and search_after.
+	 *
+	 * @param maxCount the maximum number of entities to return, a value of 0 means that all available entities are
+	 *          returned
+	 * @param searchHits the initial hits
+	 * @param nextPageFunction function to get the next page, is called with the previous page.
+	 * @param closeAction action to release the resources of the search, called once when the iterator is closed or
+	 *          exhausted.
+	 * @param <T> the entity type
+	 * @return the {@link SearchHitsIterator}.
+	 * @since 6.2
+	 */
+	static <T> SearchHitsIterator<T> streamPages(int maxCount, SearchHits<T> searchHits,
+			UnaryOperator<SearchHits<T>> nextPageFunction, Runnable closeAction) {
+		return streamPages(maxCount, searchHits, nextPageFunction, closeAction, 0, Runnable::run);
+	}
+
+	/**
+	 * Stream query results page by page, optionally fetching the next pages in the background. The pages are fetched
+	 * one after the other, as each page is needed to request the next one, but the requests run while the caller
+	 * processes the current page.
+	 *
+	 * @param maxCount the maximum number of entities to return, a value of 0 means that all available entities are
+	 *          returned
+	 * @param searchHits the initial hits
+	 * @param nextPageFunction function to get the next page, is called with the previous page.
+	 * @param closeAction action to release the resources of the search, called once when the iterator is closed or
+	 *          exhausted.
+	 * @param prefetchPages the number of pages to fetch ahead while the current page is consumed, 0 to fetch a page
+	 *          only when it is needed.
+	 * @param executor the executor running the requests for the prefetched pages.
+	 * @param <T> the entity type
+	 * @return the {@link SearchHitsIterator}.
+	 * @since 6.2
+	 */
+	static <T> SearchHitsIterator<T> streamPages(int maxCount, SearchHits<T> searchHits,
+			UnaryOperator<SearchHits<T>> nextPageFunction, Runnable closeAction, int prefetchPages, Executor executor) {
+
+		Assert.notNull(searchHits, "searchHits must not be null.");
+		Assert.notNull(nextPageFunction, "nextPageFunction must not be null.");
+		Assert.notNull(closeAction, "closeAction must not be null.");
+		Assert.isTrue(prefetchPages >= 0, "prefetchPages must not be negative.");
+		Assert.notNull(executor, "executor must not be null.");
+
+		PrefetchingPages<T> prefetchingPages = prefetchPages > 0
+				? new PrefetchingPages<>(searchHits, nextPageFunction, prefetchPages, executor)
+				: null;
+
 		AggregationsContainer<?> aggregations = searchHits.getAggregations();
 		float maxScore = searchHits.getMaxScore();
 		Duration executionDuration = searchHits.getExecutionDuration();
@@ -65,15 +159,18 @@ abstract class StreamQueries {
 		return new SearchHitsIterator<>() {
 
 			private final AtomicInteger currentCount = new AtomicInteger();
-			private volatile Iterator<SearchHit<T>> currentScrollHits = searchHits.iterator();
-			private volatile boolean continueScroll = currentScrollHits.hasNext();
-			private final ScrollState scrollState = new ScrollState(searchHits.getScrollId());
+			private volatile SearchHits<T> currentPage = searchHits;
+			private volatile Iterator<SearchHit<T>> currentPageHits = searchHits.iterator();
+			private volatile boolean continueSearch = currentPageHits.hasNext();
 			private volatile boolean isClosed = false;
 
 			@Override
 			public void close() {
 				if (!isClosed) {
-					clearScrollConsumer.accept(scrollState.getScrollIds());
+					if (prefetchingPages != null) {
+						prefetchingPages.close();
+					}
+					closeAction.run();
 					isClosed = true;
 				}
 			}
@@ -109,15 +206,14 @@ abstract class StreamQueries {
 
 				boolean hasNext = false;
 
-				if (!isClosed && continueScroll && (maxCount <= 0 || currentCount.get() < maxCount)) {
+				if (!isClosed && continueSearch && (maxCount <= 0 || currentCount.get() < maxCount)) {
 
-					if (!currentScrollHits.hasNext()) {
-						SearchScrollHits<T> nextPage = continueScrollFunction.apply(scrollState.getScrollId());
-						currentScrollHits = nextPage.iterator();
-						scrollState.updateScrollId(nextPage.getScrollId());
-						continueScroll = currentScrollHits.hasNext();
+					if (!currentPageHits.hasNext()) {
+						currentPage = prefetchingPages != null ? prefetchingPages.next() : nextPageFunction.apply(currentPage);
+						currentPageHits = currentPage.iterator();
+						continueSearch = currentPageHits.hasNext();
 					}
-					hasNext = currentScrollHits.hasNext();
+					hasNext = currentPageHits.hasNext();
 				}
 
 				if (!hasNext) {
@@ -131,7 +227,7 @@ abstract class StreamQueries {
 			public SearchHit<T> next() {
 				if (hasNext()) {
 					currentCount.incrementAndGet();
-					return currentScrollHits.next();
+					return currentPageHits.next();
 				}
 				throw new NoSuchElementException();
 			}
@@ -143,6 +239,105 @@ abstract class StreamQueries {
 		};
 	}
 
+	/**
+	 * Stream the results of a sliced scroll, the slices are read in parallel.
+	 *
+	 * @param maxCount the maximum number of entities to return, a value of 0 means that all available entities are
+	 *          returned
+	 * @param slices the number of slices, must be greater than 1
+	 * @param bufferSizePerSlice the number of hits that are buffered per slice
+	 * @param startScrollFunction function to start the scroll for the slice with the given id.
+	 * @param continueScrollFunction function to continue scrolling applies to the current scrollId.
+	 * @param clearScrollConsumer consumer to clear the scroll context by accepting the scrollIds to clear.
+	 * @param executor the executor running the slices, it must be able to run all slices at the same time.
+	 * @param <T> the entity type
+	 * @return the {@link SearchHitsIterator}.
+	 * @since 6.2
+	 */
+	static <T> SearchHitsIterator<T> streamSlicedResults(int maxCount, int slices, int bufferSizePerSlice,
+			IntFunction<SearchScrollHits<T>> startScrollFunction,
+			Function<String, SearchScrollHits<T>> continueScrollFunction, Consumer<List<String>> clearScrollConsumer,
+			Executor executor) {
+
+		Assert.isTrue(slices > 1, "slices must be greater than 1");
+		Assert.notNull(startScrollFunction, "startScrollFunction must not be null.");
+		Assert.notNull(continueScrollFunction, "continueScrollFunction must not be null.");
+		Assert.notNull(clearScrollConsumer, "clearScrollConsumer must not be null.");
+		Assert.notNull(executor, "executor must not be null.");
+
+		return new SlicedSearchHitsIterator<>(maxCount, slices, bufferSizePerSlice, startScrollFunction,
+				continueScrollFunction, clearScrollConsumer, executor);
+	}
+
+	/**
+	 * Fetches the pages following a given page in the background, at most {@code prefetchPages} ahead of the page
+	 * currently returned.
+	 */
+	private static final class PrefetchingPages<T> {
+
+		private static final Duration TERMINATION_TIMEOUT = Duration.ofSeconds(30);
+
+		private final UnaryOperator<SearchHits<T>> nextPageFunction;
+		private final int prefetchPages;
+		private final Executor executor;
+		private final Deque<CompletableFuture<SearchHits<T>>> pendingPages = new ArrayDeque<>();
+		private CompletableFuture<SearchHits<T>> lastPage;
+		private volatile boolean closed = false;
+
+		PrefetchingPages(SearchHits<T> firstPage, UnaryOperator<SearchHits<T>> nextPageFunction, int prefetchPages,
+				Executor executor) {
+
+			this.nextPageFunction = nextPageFunction;
+			this.prefetchPages = prefetchPages;
+			this.executor = executor;
+			this.lastPage = CompletableFuture.completedFuture(firstPage);
+			fill();
+		}
+
+		private void fill() {
+
+			while (pendingPages.size() < prefetchPages) {
+				// once an empty page is returned or the prefetching is closed, there are no more requests
+				lastPage = lastPage.thenApplyAsync(
+						previousPage -> !closed && previousPage.hasSearchHits() ? nextPageFunction.apply(previousPage)
+								: previousPage,
+						executor);
+				pendingPages.add(lastPage);
+			}
+		}
+
+		SearchHits<T> next() {
+
+			CompletableFuture<SearchHits<T>> nextPage = pendingPages.poll();
+			fill();
+
+			try {
+				// noinspection DataFlowIssue fill() ensures that there is a pending page
+				return nextPage.join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				throw e;
+			}
+		}
+
+		/**
+		 * stops the prefetching and waits for a running request, so that the search context can be released afterwards.
+		 */
+		void close() {
+
+			closed = true;
+			try {
+				lastPage.get(TERMINATION_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (ExecutionException | TimeoutException e) {
+				// a failed request has nothing to release, a hanging one is left to the scroll timeout
+			}
+		}
+	}
+
 	// utility constructor
 	private StreamQueries() {}
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.convert;
+
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.core.TypeInformation;
+import org.springframework.data.elasticsearch.annotations.ScriptedField;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentProperty;
+import org.springframework.data.elasticsearch.core.mapping.PropertyValueConverter;
+
+/**
+ * The immutable conversion plan of an {@link ElasticsearchPersistentEntity} used by the
+ * {@link MappingElasticsearchConverter}. It holds the properties that are read from and written to a document in
+ * iteration order together with the information about them that does not depend on the converted values, so that it
+ * needs not be resolved again for every converted document. Plans are created on first use of an entity and cached by
+ * the converter.
+ *
+ * @since 6.2
+ */
+final class EntityConversionPlan {
+
+	private final PropertyPlan[] readProperties;
+	private final PropertyPlan[] writeProperties;
+	private final ScriptedFieldPlan[] scriptedFields;
+
+	private EntityConversionPlan(PropertyPlan[] readProperties, PropertyPlan[] writeProperties,
+			ScriptedFieldPlan[] scriptedFields) {
+		this.readProperties = readProperties;
+		this.writeProperties = writeProperties;
+		this.scriptedFields = scriptedFields;
+	}
+
+	/**
+	 * creates the plan for the given entity.
+	 *
+	 * @param entity the entity to create the plan for
+	 * @return the plan
+	 */
+	static EntityConversionPlan of(ElasticsearchPersistentEntity<?> entity) {
+
+		List<PropertyPlan> readProperties = new ArrayList<>();
+		List<PropertyPlan> writeProperties = new ArrayList<>();
+		List<ScriptedFieldPlan> scriptedFields = new ArrayList<>();
+
+		for (ElasticsearchPersistentProperty property : entity) {
+
+			PropertyPlan propertyPlan = PropertyPlan.of(property);
+
+			if (!(entity.isCreatorArgument(property) || !property.isReadable() || property.isSeqNoPrimaryTermProperty()
+					|| property.isIndexedIndexNameProperty())) {
+				readProperties.add(propertyPlan);
+			}
+
+			if (!(!property.isWritable() //
+					|| property.isIndexedIndexNameProperty() //
+					|| (property.isIdProperty() && !entity.storeIdInSource()) //
+					|| (property.isVersionProperty() && !entity.storeVersionInSource()))) {
+				writeProperties.add(propertyPlan);
+			}
+
+			ScriptedField scriptedField = property.findAnnotation(ScriptedField.class);
+			if (scriptedField != null) {
+				String name = scriptedField.name().isEmpty() ? property.getName() : scriptedField.name();
+				scriptedFields.add(new ScriptedFieldPlan(property, name, property.isCollectionLike()));
+			}
+		}
+
+		return new EntityConversionPlan(readProperties.toArray(new PropertyPlan[0]),
+				writeProperties.toArray(new PropertyPlan[0]), scriptedFields.toArray(new ScriptedFieldPlan[0]));
+	}
+
+	/**
+	 * @return the properties to set on an instance when reading a document, the properties that are set by the
+	 *         constructor are not included.
+	 */
+	PropertyPlan[] getReadProperties() {
+		return readProperties;
+	}
+
+	/**
+	 * @return the properties to write into a document.
+	 */
+	PropertyPlan[] getWriteProperties() {
+		return writeProperties;
+	}
+
+	/**
+	 * @return the properties annotated with {@link ScriptedField}.
+	 */
+	ScriptedFieldPlan[] getScriptedFields() {
+		return scriptedFields;
+	}
+
+	/**
+	 * The resolved information about a property.
+	 *
+	 * @param property the property
+	 * @param fieldNameParts the parts of a field name containing dots that is read as path through nested objects,
+	 *          {@literal null} if the field name is used as is.
+	 * @param spelExpression the SpEL expression to evaluate for reading the property, may be {@literal null}
+	 * @param propertyValueConverter the converter of the property, may be {@literal null}
+	 * @param typeInformation the type of the property
+	 * @param readsTemporalAccessor if the type of the property is a {@link TemporalAccessor}
+	 * @param writesTemporalAccessor if the actual type of the property is a {@link TemporalAccessor}
+	 * @param storeNullValue if {@literal null} values are written
+	 * @param storeEmptyValue if empty values are written
+	 */
+	record PropertyPlan(ElasticsearchPersistentProperty property, String @Nullable [] fieldNameParts,
+			@Nullable String spelExpression, @Nullable PropertyValueConverter propertyValueConverter,
+			TypeInformation<?> typeInformation, boolean readsTemporalAccessor, boolean writesTemporalAccessor,
+			boolean storeNullValue, boolean storeEmptyValue) {
+
+		static PropertyPlan of(ElasticsearchPersistentProperty property) {
+
+			String fieldName = property.getFieldName();
+			String[] fieldNameParts = property.hasExplicitFieldName() || !fieldName.contains(".") ? null
+					: fieldName.split("\\.");
+
+			return new PropertyPlan(property, //
+					fieldNameParts, //
+					property.getSpelExpression(), //
+					property.hasPropertyValueConverter() ? property.getPropertyValueConverter() : null, //
+					property.getTypeInformation(), //
+					TemporalAccessor.class.isAssignableFrom(property.getType()), //
+					TemporalAccessor.class.isAssignableFrom(property.getActualType()), //
+					property.storeNullValue(), //
+					property.storeEmptyValue());
+		}
+	}
+
+	/**
+	 * A property that is populated from a returned script field.
+	 *
+	 * @param property the property
+	 * @param name the name of the field returned by the search
+	 * @param collectionLike if the property takes all values of the field
+	 */
+	record ScriptedFieldPlan(ElasticsearchPersistentProperty property, String name, boolean collectionLike) {
+	}
+}
@@ -41,7 +41,8 @@ import org.springframework.data.convert.CustomConversions;
 import org.springframework.data.core.TypeInformation;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.elasticsearch.annotations.FieldType;
-import org.springframework.data.elasticsearch.annotations.ScriptedField;
+import org.springframework.data.elasticsearch.core.convert.EntityConversionPlan.PropertyPlan;
+import org.springframework.data.elasticsearch.core.convert.EntityConversionPlan.ScriptedFieldPlan;
 import org.springframework.data.elasticsearch.core.document.Document;
 import org.springframework.data.elasticsearch.core.document.SearchDocument;
 import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
@@ -60,7 +61,6 @@ import org.springframework.data.mapping.InstanceCreatorMetadata;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.Parameter;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
-import org.springframework.data.mapping.SimplePropertyHandler;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.*;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
@@ -109,6 +109,14 @@ public class MappingElasticsearchConverter
 
 	private final EntityInstantiators instantiators = new EntityInstantiators();
 	private final ElasticsearchTypeMapper typeMapper;
+	private final ConcurrentHashMap<ElasticsearchPersistentEntity<?>, EntityConversionPlan> conversionPlans = new ConcurrentHashMap<>();
+
+	/**
+	 * the resolved field names of the property paths used in queries, the number of entries is limited as the property
+	 * paths of {@link CriteriaQuery} instances may be created dynamically.
+	 */
+	private static final int MAX_CACHED_PROPERTY_NAMES_UPDATES = 10_000;
+	private final ConcurrentHashMap<PropertyPathKey, PropertyNamesUpdate> propertyNamesUpdates = new ConcurrentHashMap<>();
 
 	public MappingElasticsearchConverter(
 			MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> mappingContext) {
@@ -180,8 +188,8 @@ public class MappingElasticsearchConverter
 	@Override
 	public <R> R read(Class<R> type, Document source) {
 
-		Reader reader = new Reader(mappingContext, conversionService, conversions, typeMapper, expressionEvaluatorFactory,
-				instantiators);
+		Reader reader = new Reader(mappingContext, conversionService, conversions, typeMapper, conversionPlans,
+				expressionEvaluatorFactory, instantiators);
 		return reader.read(type, source);
 	}
 
@@ -190,7 +198,7 @@ public class MappingElasticsearchConverter
 
 		Assert.notNull(source, "source to map must not be null");
 
-		Writer writer = new Writer(mappingContext, conversionService, conversions, typeMapper);
+		Writer writer = new Writer(mappingContext, conversionService, conversions, typeMapper, conversionPlans);
 		writer.write(source, sink);
 	}
 
@@ -204,14 +212,27 @@ public class MappingElasticsearchConverter
 		protected final GenericConversionService conversionService;
 		protected final CustomConversions conversions;
 		protected final ConcurrentHashMap<String, Integer> propertyWarnings = new ConcurrentHashMap<>();
+		private final ConcurrentHashMap<ElasticsearchPersistentEntity<?>, EntityConversionPlan> conversionPlans;
 
 		private Base(
 				MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> mappingContext,
-				GenericConversionService conversionService, CustomConversions conversions, ElasticsearchTypeMapper typeMapper) {
+				GenericConversionService conversionService, CustomConversions conversions, ElasticsearchTypeMapper typeMapper,
+				ConcurrentHashMap<ElasticsearchPersistentEntity<?>, EntityConversionPlan> conversionPlans) {
 			this.mappingContext = mappingContext;
 			this.conversionService = conversionService;
 			this.conversions = conversions;
 			this.typeMapper = typeMapper;
+			this.conversionPlans = conversionPlans;
+		}
+
+		/**
+		 * returns the conversion plan of the given entity, creating it on first use.
+		 */
+		protected EntityConversionPlan getConversionPlan(ElasticsearchPersistentEntity<?> entity) {
+
+			EntityConversionPlan conversionPlan = conversionPlans.get(entity);
+			return conversionPlan != null ? conversionPlan
+					: conversionPlans.computeIfAbsent(entity, EntityConversionPlan::of);
 		}
 	}
 
@@ -227,9 +248,10 @@ public class MappingElasticsearchConverter
 		public Reader(
 				MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> mappingContext,
 				GenericConversionService conversionService, CustomConversions conversions, ElasticsearchTypeMapper typeMapper,
+				ConcurrentHashMap<ElasticsearchPersistentEntity<?>, EntityConversionPlan> conversionPlans,
 				CachingValueExpressionEvaluatorFactory expressionEvaluatorFactory, EntityInstantiators instantiators) {
 
-			super(mappingContext, conversionService, conversions, typeMapper);
+			super(mappingContext, conversionService, conversions, typeMapper, conversionPlans);
 			this.expressionEvaluatorFactory = expressionEvaluatorFactory;
 			this.instantiators = instantiators;
 		}
@@ -430,16 +452,11 @@ public class MappingElasticsearchConverter
 			PersistentPropertyAccessor<R> accessor = new ConvertingPropertyAccessor<>(entity.getPropertyAccessor(instance),
 					conversionService);
 
-			for (ElasticsearchPersistentProperty property : entity) {
+			for (PropertyPlan propertyPlan : getConversionPlan(entity).getReadProperties()) {
 
-				if (entity.isCreatorArgument(property) || !property.isReadable() || property.isSeqNoPrimaryTermProperty()
-						|| property.isIndexedIndexNameProperty()) {
-					continue;
-				}
-
-				Object value = valueProvider.getPropertyValue(property);
+				Object value = valueProvider.getPropertyValue(propertyPlan);
 				if (value != null) {
-					accessor.setProperty(property, value);
+					accessor.setProperty(propertyPlan.property(), value);
 				}
 			}
 
@@ -458,7 +475,7 @@ public class MappingElasticsearchConverter
 
 			if (property.hasPropertyValueConverter()) {
 				// noinspection unchecked
-				return (R) propertyConverterRead(property, value);
+				return (R) propertyConverterRead(Objects.requireNonNull(property.getPropertyValueConverter()), value);
 			} else if (TemporalAccessor.class.isAssignableFrom(property.getType())
 					&& !conversions.hasCustomReadTarget(value.getClass(), rawType)) {
 
@@ -529,8 +546,7 @@ public class MappingElasticsearchConverter
 			return type.isCollectionLike() ? type.getComponentType() : null;
 		}
 
-		private Object propertyConverterRead(ElasticsearchPersistentProperty property, Object source) {
-			PropertyValueConverter propertyValueConverter = Objects.requireNonNull(property.getPropertyValueConverter());
+		private Object propertyConverterRead(PropertyValueConverter propertyValueConverter, Object source) {
 
 			if (source instanceof String[] strings) {
 				// convert to a List
@@ -654,8 +670,8 @@ public class MappingElasticsearchConverter
 
 		/**
 		 * Checks if any of the properties of the entity is annotated with
-		 *
-		 * @{@link ScriptedField}. If so, the value of this property is set from the returned fields in the document.
+		 * {@link org.springframework.data.elasticsearch.annotations.ScriptedField}. If so, the value of this property is set
+		 * from the returned fields in the document.
 		 * @param entity the entity to defining the persistent property
 		 * @param result the rsult to populate
 		 * @param searchDocument the search result caontaining the fields
@@ -664,22 +680,18 @@ public class MappingElasticsearchConverter
 		private <T> void populateScriptedFields(ElasticsearchPersistentEntity<?> entity, T result,
 				SearchDocument searchDocument) {
 			Map<String, List<@Nullable Object>> fields = searchDocument.getFields();
-			entity.doWithProperties((SimplePropertyHandler) property -> {
-				if (property.isAnnotationPresent(ScriptedField.class)) {
-					ScriptedField scriptedField = property.findAnnotation(ScriptedField.class);
-					// noinspection ConstantConditions
-					String name = scriptedField.name().isEmpty() ? property.getName() : scriptedField.name();
-					if (fields.containsKey(name)) {
-						if (property.isCollectionLike()) {
-							List<Object> values = searchDocument.getFieldValues(name);
-							entity.getPropertyAccessor(result).setProperty(property, values);
-						} else {
-							Object value = searchDocument.getFieldValue(name);
-							entity.getPropertyAccessor(result).setProperty(property, value);
-						}
+			for (ScriptedFieldPlan scriptedField : getConversionPlan(entity).getScriptedFields()) {
+				String name = scriptedField.name();
+				if (fields.containsKey(name)) {
+					if (scriptedField.collectionLike()) {
+						List<Object> values = searchDocument.getFieldValues(name);
+						entity.getPropertyAccessor(result).setProperty(scriptedField.property(), values);
+					} else {
+						Object value = searchDocument.getFieldValue(name);
+						entity.getPropertyAccessor(result).setProperty(scriptedField.property(), value);
 					}
 				}
-			});
+			}
 		}
 
 		/**
@@ -725,6 +737,31 @@ public class MappingElasticsearchConverter
 
 				return readValue(value, property, property.getTypeInformation());
 			}
+
+			@Nullable
+			<T> T getPropertyValue(PropertyPlan propertyPlan) {
+
+				String expression = propertyPlan.spelExpression();
+				Object value = expression != null ? evaluator.evaluate(expression)
+						: accessor.get(propertyPlan.property(), propertyPlan.fieldNameParts());
+
+				if (value == null) {
+					return null;
+				}
+
+				PropertyValueConverter propertyValueConverter = propertyPlan.propertyValueConverter();
+				if (propertyValueConverter != null) {
+					// noinspection unchecked
+					return (T) propertyConverterRead(propertyValueConverter, value);
+				}
+
+				if (propertyPlan.readsTemporalAccessor()) {
+					// the check for a custom converter and the warning depend on the value
+					return readValue(value, propertyPlan.property(), propertyPlan.typeInformation());
+				}
+
+				return readValue(value, propertyPlan.typeInformation());
+			}
 		}
 
 		/**
@@ -777,8 +814,9 @@ public class MappingElasticsearchConverter
 
 		public Writer(
 				MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> mappingContext,
-				GenericConversionService conversionService, CustomConversions conversions, ElasticsearchTypeMapper typeMapper) {
-			super(mappingContext, conversionService, conversions, typeMapper);
+				GenericConversionService conversionService, CustomConversions conversions, ElasticsearchTypeMapper typeMapper,
+				ConcurrentHashMap<ElasticsearchPersistentEntity<?>, EntityConversionPlan> conversionPlans) {
+			super(mappingContext, conversionService, conversions, typeMapper, conversionPlans);
 		}
 
 		void write(Object source, Document sink) {
@@ -969,39 +1007,29 @@ public class MappingElasticsearchConverter
 		private void writeProperties(ElasticsearchPersistentEntity<?> entity, PersistentPropertyAccessor<?> accessor,
 				MapValueAccessor sink) {
 
-			for (ElasticsearchPersistentProperty property : entity) {
-
-				if (!property.isWritable() //
-						|| property.isIndexedIndexNameProperty() //
-						|| (property.isIdProperty() && !entity.storeIdInSource()) //
-						|| (property.isVersionProperty() && !entity.storeVersionInSource())) {
-					continue;
-				}
-
-				if (property.isIdProperty() && !entity.storeIdInSource()) {
-					continue;
-				}
+			for (PropertyPlan propertyPlan : getConversionPlan(entity).getWriteProperties()) {
 
+				ElasticsearchPersistentProperty property = propertyPlan.property();
 				Object value = accessor.getProperty(property);
 
 				if (value == null) {
 
-					if (property.storeNullValue()) {
+					if (propertyPlan.storeNullValue()) {
 						sink.set(property, null);
 					}
 
 					continue;
 				}
 
-				if (!property.storeEmptyValue() && hasEmptyValue(value)) {
+				if (!propertyPlan.storeEmptyValue() && hasEmptyValue(value)) {
 					continue;
 				}
 
-				if (property.hasPropertyValueConverter()) {
-					value = propertyConverterWrite(property, value);
+				PropertyValueConverter propertyValueConverter = propertyPlan.propertyValueConverter();
+				if (propertyValueConverter != null) {
+					value = propertyConverterWrite(propertyValueConverter, value);
 					sink.set(property, value);
-				} else if (TemporalAccessor.class.isAssignableFrom(property.getActualType())
-						&& !conversions.hasCustomWriteTarget(value.getClass())) {
+				} else if (propertyPlan.writesTemporalAccessor() && !conversions.hasCustomWriteTarget(value.getClass())) {
 
 					// log at most 5 times
 					String propertyName = entity.getType().getSimpleName() + '.' + property.getName();
@@ -1175,8 +1203,7 @@ public class MappingElasticsearchConverter
 			return Enum.class.isAssignableFrom(value.getClass()) ? ((Enum<?>) value).name() : value;
 		}
 
-		private Object propertyConverterWrite(ElasticsearchPersistentProperty property, Object value) {
-			PropertyValueConverter propertyValueConverter = Objects.requireNonNull(property.getPropertyValueConverter());
+		private Object propertyConverterWrite(PropertyValueConverter propertyValueConverter, Object value) {
 
 			if (value instanceof List) {
 				value = ((List<?>) value).stream().map(propertyValueConverter::write).collect(Collectors.toList());
@@ -1371,7 +1398,7 @@ public class MappingElasticsearchConverter
 			return;
 		}
 
-		var propertyNamesUpdate = updatePropertyNames(persistentEntity, field.getName());
+		var propertyNamesUpdate = cachedPropertyNamesUpdate(persistentEntity, field.getName());
 
 		var fieldNames = propertyNamesUpdate.names();
 		field.setName(String.join(".", fieldNames));
@@ -1420,13 +1447,38 @@ public class MappingElasticsearchConverter
 			ElasticsearchPersistentProperty persistentProperty) {
 	}
 
+	private record PropertyPathKey(ElasticsearchPersistentEntity<?> persistentEntity, String propertyPath) {
+	}
+
+	/**
+	 * returns the {@link PropertyNamesUpdate} for a property path from the cache or resolves it. The queries of
+	 * repository methods use the same property paths on every invocation, so they are only resolved once. The names in
+	 * the returned update must not be modified.
+	 */
+	private PropertyNamesUpdate cachedPropertyNamesUpdate(ElasticsearchPersistentEntity<?> persistentEntity,
+			String propertyPath) {
+
+		PropertyPathKey key = new PropertyPathKey(persistentEntity, propertyPath);
+		PropertyNamesUpdate propertyNamesUpdate = propertyNamesUpdates.get(key);
+
+		if (propertyNamesUpdate == null) {
+			propertyNamesUpdate = updatePropertyNames(persistentEntity, propertyPath);
+
+			if (propertyNamesUpdates.size() < MAX_CACHED_PROPERTY_NAMES_UPDATES) {
+				propertyNamesUpdates.putIfAbsent(key, propertyNamesUpdate);
+			}
+		}
+
+		return propertyNamesUpdate;
+	}
+
 	@Override
 	public String updateFieldNames(String propertyPath, ElasticsearchPersistentEntity<?> persistentEntity) {
 
 		Assert.notNull(propertyPath, "propertyPath must not be null");
 		Assert.notNull(persistentEntity, "persistentEntity must not be null");
 
-		var propertyNamesUpdate = updatePropertyNames(persistentEntity, propertyPath);
+		var propertyNamesUpdate = cachedPropertyNamesUpdate(persistentEntity, propertyPath);
 		return String.join(".", propertyNamesUpdate.names());
 	}
 
@@ -1492,6 +1544,20 @@ public class MappingElasticsearchConverter
 		@Nullable
 		public Object get(ElasticsearchPersistentProperty property) {
 
+			String fieldName = property.getFieldName();
+			String[] fieldNameParts = property.hasExplicitFieldName() || !fieldName.contains(".") ? null
+					: fieldName.split("\\.");
+			return get(property, fieldNameParts);
+		}
+
+		/**
+		 * @param property the property to get the value for
+		 * @param fieldNameParts the parts of the field name if it is a path into nested objects, {@literal null} if the
+		 *          field name is used as is
+		 */
+		@Nullable
+		Object get(ElasticsearchPersistentProperty property, String @Nullable [] fieldNameParts) {
+
 			String fieldName = property.getFieldName();
 
 			if (target instanceof Document document) {
@@ -1514,11 +1580,11 @@ public class MappingElasticsearchConverter
 
 			}
 
-			if (property.hasExplicitFieldName() || !fieldName.contains(".")) {
+			if (fieldNameParts == null) {
 				return target.get(fieldName);
 			}
 
-			Iterator<String> parts = Arrays.asList(fieldName.split("\\.")).iterator();
+			Iterator<String> parts = Arrays.asList(fieldNameParts).iterator();
 			Map<String, @Nullable Object> source = target;
 			Object result = null;
 
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.query;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
+import org.springframework.util.Assert;
+
+/**
+ * Adaptive sizing of bulk requests following an additive-increase/multiplicative-decrease (AIMD) scheme. When a list of
+ * operations is written with a bulk call, it is split into batches of {@link #getCurrentBatchSize()} operations. After
+ * each batch the size is increased by a fixed amount if the latency of the request stayed below the target latency,
+ * and decreased by a factor if the latency was above the target or Elasticsearch rejected operations (HTTP status 429)
+ * or the request timed out.
+ * <p>
+ * An instance keeps state and is meant to be shared by all bulk calls writing to the same cluster, it can be set on
+ * the {@link BulkOptions} of a single call or as default on the template. Use {@link #builder()} to create an
+ * instance.
+ *
+ * @since 6.2
+ */
+public class AdaptiveBulkSizing {
+
+	private static final int STATUS_TOO_MANY_REQUESTS = 429;
+	private static final int STATUS_SERVICE_UNAVAILABLE = 503;
+	private static final int STATUS_GATEWAY_TIMEOUT = 504;
+
+	private final int minBatchSize;
+	private final int maxBatchSize;
+	private final Duration targetLatency;
+	private final int additiveIncrease;
+	private final double multiplicativeDecrease;
+
+	private final AtomicInteger currentBatchSize;
+	private volatile double throughput = 0.0;
+
+	private AdaptiveBulkSizing(Builder builder) {
+
+		Assert.isTrue(builder.minBatchSize > 0, "minBatchSize must be greater than 0");
+		Assert.isTrue(builder.maxBatchSize >= builder.minBatchSize, "maxBatchSize must not be less than minBatchSize");
+		Assert.isTrue(builder.initialBatchSize >= builder.minBatchSize && builder.initialBatchSize <= builder.maxBatchSize,
+				"initialBatchSize must be between minBatchSize and maxBatchSize");
+		Assert.isTrue(builder.additiveIncrease > 0, "additiveIncrease must be greater than 0");
+		Assert.isTrue(builder.multiplicativeDecrease > 0.0 && builder.multiplicativeDecrease < 1.0,
+				"multiplicativeDecrease must be between 0 and 1");
+
+		this.minBatchSize = builder.minBatchSize;
+		this.maxBatchSize = builder.maxBatchSize;
+		this.targetLatency = builder.targetLatency;
+		this.additiveIncrease = builder.additiveIncrease;
+		this.multiplicativeDecrease = builder.multiplicativeDecrease;
+		this.currentBatchSize = new AtomicInteger(builder.initialBatchSize);
+	}
+
+	/**
+	 * @return the number of operations to put into the next bulk request.
+	 */
+	public int getCurrentBatchSize() {
+		return currentBatchSize.get();
+	}
+
+	/**
+	 * @return the number of operations per second of the last successful bulk request.
+	 */
+	public double getThroughput() {
+		return throughput;
+	}
+
+	public int getMinBatchSize() {
+		return minBatchSize;
+	}
+
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	public Duration getTargetLatency() {
+		return targetLatency;
+	}
+
+	/**
+	 * records a successfully executed bulk request and adapts the batch size.
+	 *
+	 * @param batchSize the number of operations in the request
+	 * @param latency the time it took to execute the request
+	 */
+	public void onSuccess(int batchSize, Duration latency) {
+
+		long nanos = latency.toNanos();
+		if (nanos > 0) {
+			throughput = batchSize * 1_000_000_000.0 / nanos;
+		}
+
+		if (latency.compareTo(targetLatency) <= 0) {
+			// only grow when the batch actually used the current size, small remainders say nothing about the limit
+			if (batchSize >= currentBatchSize.get()) {
+				currentBatchSize.updateAndGet(size -> Math.min(maxBatchSize, size + additiveIncrease));
+			}
+		} else {
+			decrease();
+		}
+	}
+
+	/**
+	 * records a bulk request that failed because the cluster was overloaded and decreases the batch size.
+	 */
+	public void onOverload() {
+		decrease();
+	}
+
+	/**
+	 * records a bulk request that failed with the given exception. If the exception indicates that the cluster was
+	 * overloaded, the batch size is decreased.
+	 *
+	 * @param exception the exception thrown by the bulk request
+	 */
+	public void onFailure(RuntimeException exception) {
+
+		if (isOverload(exception)) {
+			decrease();
+		}
+	}
+
+	private void decrease() {
+		currentBatchSize.updateAndGet(size -> Math.max(minBatchSize, (int) (size * multiplicativeDecrease)));
+	}
+
+	private static boolean isOverload(RuntimeException exception) {
+
+		if (exception instanceof BulkFailureException bulkFailureException) {
+			return bulkFailureException.getFailedDocuments().values().stream()
+					.anyMatch(failureDetails -> failureDetails.status() != null
+							&& failureDetails.status() == STATUS_TOO_MANY_REQUESTS);
+		}
+
+		if (exception instanceof UncategorizedElasticsearchException uncategorizedElasticsearchException) {
+			Integer statusCode = uncategorizedElasticsearchException.getStatusCode();
+			return statusCode != null && (statusCode == STATUS_TOO_MANY_REQUESTS || statusCode == STATUS_SERVICE_UNAVAILABLE
+					|| statusCode == STATUS_GATEWAY_TIMEOUT);
+		}
+
+		return exception instanceof DataAccessResourceFailureException
+				|| exception instanceof TransientDataAccessException;
+	}
+
+	/**
+	 * Create a new {@link Builder} to build {@link AdaptiveBulkSizing}.
+	 *
+	 * @return a new {@link Builder} to build {@link AdaptiveBulkSizing}.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Builder for {@link AdaptiveBulkSizing}.
+	 */
+	public static class Builder {
+
+		private int minBatchSize = 50;
+		private int maxBatchSize = 10_000;
+		private int initialBatchSize = 500;
+		private Duration targetLatency = Duration.ofSeconds(1);
+		private int additiveIncrease = 100;
+		private double multiplicativeDecrease = 0.5;
+
+		private Builder() {}
+
+		public Builder withMinBatchSize(int minBatchSize) {
+			this.minBatchSize = minBatchSize;
+			return this;
+		}
+
+		public Builder withMaxBatchSize(int maxBatchSize) {
+			this.maxBatchSize = maxBatchSize;
+			return this;
+		}
+
+		public Builder withInitialBatchSize(int initialBatchSize) {
+			this.initialBatchSize = initialBatchSize;
+			return this;
+		}
+
+		public Builder withTargetLatency(Duration targetLatency) {
+
+			Assert.notNull(targetLatency, "targetLatency must not be null");
+
+			this.targetLatency = targetLatency;
+			return this;
+		}
+
+		public Builder withAdditiveIncrease(int additiveIncrease) {
+			this.additiveIncrease = additiveIncrease;
+			return this;
+		}
+
+		public Builder withMultiplicativeDecrease(double multiplicativeDecrease) {
+			this.multiplicativeDecrease = multiplicativeDecrease;
+			return this;
+		}
+
+		public AdaptiveBulkSizing build() {
+			return new AdaptiveBulkSizing(this);
+		}
+	}
+}
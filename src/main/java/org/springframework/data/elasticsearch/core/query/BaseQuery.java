@@ -82,6 +82,9 @@ public class BaseQuery implements Query {
 	protected List<RuntimeField> runtimeFields = new ArrayList<>();
 	@Nullable protected PointInTime pointInTime;
 	@Nullable protected Boolean includeNamedQueriesScore;
+	@Nullable protected SearchSlice searchSlice;
+	@Nullable protected StreamType streamType;
+	protected int streamPrefetchPages = 0;
 	private boolean queryIsUpdatedByConverter = false;
 	@Nullable private Integer reactiveBatchSize = null;
 	@Nullable private Boolean allowNoIndices = null;
@@ -125,6 +128,9 @@ public class BaseQuery implements Query {
 		this.scriptedFields = builder.getScriptedFields();
 		this.runtimeFields = builder.getRuntimeFields();
 		this.includeNamedQueriesScore = builder.getIncludeNamedQueriesScore();
+		this.searchSlice = builder.getSearchSlice();
+		this.streamType = builder.getStreamType();
+		this.streamPrefetchPages = builder.getStreamPrefetchPages();
 	}
 
 	/**
@@ -513,6 +519,56 @@ public class BaseQuery implements Query {
 		this.pointInTime = pointInTime;
 	}
 
+	/**
+	 * @since 6.2
+	 */
+	@Override
+	@Nullable
+	public SearchSlice getSearchSlice() {
+		return searchSlice;
+	}
+
+	/**
+	 * @since 6.2
+	 */
+	public void setSearchSlice(@Nullable SearchSlice searchSlice) {
+		this.searchSlice = searchSlice;
+	}
+
+	/**
+	 * @since 6.2
+	 */
+	@Override
+	@Nullable
+	public StreamType getStreamType() {
+		return streamType;
+	}
+
+	/**
+	 * @since 6.2
+	 */
+	public void setStreamType(@Nullable StreamType streamType) {
+		this.streamType = streamType;
+	}
+
+	/**
+	 * @since 6.2
+	 */
+	@Override
+	public int getStreamPrefetchPages() {
+		return streamPrefetchPages;
+	}
+
+	/**
+	 * @since 6.2
+	 */
+	public void setStreamPrefetchPages(int streamPrefetchPages) {
+
+		Assert.isTrue(streamPrefetchPages >= 0, "streamPrefetchPages must not be negative");
+
+		this.streamPrefetchPages = streamPrefetchPages;
+	}
+
 	/**
 	 * used internally. Not considered part of the API.
 	 *
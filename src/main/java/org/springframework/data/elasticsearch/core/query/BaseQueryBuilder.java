@@ -72,6 +72,9 @@ public abstract class BaseQueryBuilder<Q extends BaseQuery, SELF extends BaseQue
 	private final List<DocValueField> docValueFields = new ArrayList<>();
 	private final List<ScriptedField> scriptedFields = new ArrayList<>();
 	@Nullable private Boolean includeNamedQueryScore;
+	private Query.@Nullable SearchSlice searchSlice;
+	private Query.@Nullable StreamType streamType;
+	private int streamPrefetchPages = 0;
 
 	@Nullable
 	public Sort getSort() {
@@ -238,6 +241,27 @@ public abstract class BaseQueryBuilder<Q extends BaseQuery, SELF extends BaseQue
 		return scriptedFields;
 	}
 
+	/**
+	 * @since 6.2
+	 */
+	public Query.@Nullable SearchSlice getSearchSlice() {
+		return searchSlice;
+	}
+
+	/**
+	 * @since 6.2
+	 */
+	public Query.@Nullable StreamType getStreamType() {
+		return streamType;
+	}
+
+	/**
+	 * @since 6.2
+	 */
+	public int getStreamPrefetchPages() {
+		return streamPrefetchPages;
+	}
+
 	public SELF withPageable(Pageable pageable) {
 		this.pageable = pageable;
 		return self();
@@ -487,6 +511,34 @@ public abstract class BaseQueryBuilder<Q extends BaseQuery, SELF extends BaseQue
 		return self();
 	}
 
+	/**
+	 * @since 6.2
+	 */
+	public SELF withSearchSlice(Query.@Nullable SearchSlice searchSlice) {
+		this.searchSlice = searchSlice;
+		return self();
+	}
+
+	/**
+	 * @since 6.2
+	 */
+	public SELF withStreamType(Query.@Nullable StreamType streamType) {
+		this.streamType = streamType;
+		return self();
+	}
+
+	/**
+	 * @param streamPrefetchPages the number of pages to fetch in the background in {@code searchForStream} calls
+	 * @since 6.2
+	 */
+	public SELF withStreamPrefetchPages(int streamPrefetchPages) {
+
+		Assert.isTrue(streamPrefetchPages >= 0, "streamPrefetchPages must not be negative");
+
+		this.streamPrefetchPages = streamPrefetchPages;
+		return self();
+	}
+
 	public abstract Q build();
 
 	private SELF self() {
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.query;
+
+import java.time.Duration;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.core.BulkIngesterListener;
+import org.springframework.util.Assert;
+
+/**
+ * Options for a {@link org.springframework.data.elasticsearch.core.BulkIngester}. The ingester sends a bulk request
+ * as soon as one of the configured limits (number of operations, estimated request size in bytes) is reached or when
+ * the flush interval has elapsed. <br/>
+ * Use {@link BulkIngesterOptions#builder()} to obtain a builder, then set the desired properties and call
+ * {@link Builder#build()} to get the BulkIngesterOptions object.
+ *
+ * @since 6.2
+ */
+public class BulkIngesterOptions {
+
+	public static final int DEFAULT_MAX_OPERATIONS = 1000;
+	public static final long DEFAULT_MAX_SIZE_IN_BYTES = 5 * 1024 * 1024;
+	public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 1;
+
+	private static final BulkIngesterOptions defaultOptions = builder().build();
+
+	private final int maxOperations;
+	private final long maxSizeInBytes;
+	private final int maxConcurrentRequests;
+	private final @Nullable Duration flushInterval;
+	private final BulkOptions bulkOptions;
+	private final @Nullable BulkIngesterListener listener;
+
+	private BulkIngesterOptions(Builder builder) {
+		this.maxOperations = builder.maxOperations;
+		this.maxSizeInBytes = builder.maxSizeInBytes;
+		this.maxConcurrentRequests = builder.maxConcurrentRequests;
+		this.flushInterval = builder.flushInterval;
+		this.bulkOptions = builder.bulkOptions;
+		this.listener = builder.listener;
+	}
+
+	/**
+	 * @return the maximum number of operations in a single bulk request, a value less than 1 disables this limit.
+	 */
+	public int getMaxOperations() {
+		return maxOperations;
+	}
+
+	/**
+	 * @return the maximum estimated size of a single bulk request in bytes, a value less than 1 disables this limit.
+	 */
+	public long getMaxSizeInBytes() {
+		return maxSizeInBytes;
+	}
+
+	/**
+	 * @return the maximum number of bulk requests that may be in flight at the same time.
+	 */
+	public int getMaxConcurrentRequests() {
+		return maxConcurrentRequests;
+	}
+
+	/**
+	 * @return the interval after which pending operations are sent even if no other limit is reached, {@literal null}
+	 *         if no time based flushing should be done.
+	 */
+	@Nullable
+	public Duration getFlushInterval() {
+		return flushInterval;
+	}
+
+	/**
+	 * @return the options that are added to every bulk request sent by the ingester.
+	 */
+	public BulkOptions getBulkOptions() {
+		return bulkOptions;
+	}
+
+	/**
+	 * @return the listener that is informed about the results of the single operations.
+	 */
+	@Nullable
+	public BulkIngesterListener getListener() {
+		return listener;
+	}
+
+	/**
+	 * Create a new {@link Builder} to build {@link BulkIngesterOptions}.
+	 *
+	 * @return a new {@link Builder} to build {@link BulkIngesterOptions}.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Return default {@link BulkIngesterOptions}.
+	 *
+	 * @return default {@link BulkIngesterOptions}.
+	 */
+	public static BulkIngesterOptions defaultOptions() {
+		return defaultOptions;
+	}
+
+	/**
+	 * Builder for {@link BulkIngesterOptions}.
+	 */
+	public static class Builder {
+
+		private int maxOperations = DEFAULT_MAX_OPERATIONS;
+		private long maxSizeInBytes = DEFAULT_MAX_SIZE_IN_BYTES;
+		private int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
+		private @Nullable Duration flushInterval;
+		private BulkOptions bulkOptions = BulkOptions.defaultOptions();
+		private @Nullable BulkIngesterListener listener;
+
+		private Builder() {}
+
+		public Builder withMaxOperations(int maxOperations) {
+			this.maxOperations = maxOperations;
+			return this;
+		}
+
+		public Builder withMaxSizeInBytes(long maxSizeInBytes) {
+			this.maxSizeInBytes = maxSizeInBytes;
+			return this;
+		}
+
+		public Builder withMaxConcurrentRequests(int maxConcurrentRequests) {
+
+			Assert.isTrue(maxConcurrentRequests > 0, "maxConcurrentRequests must be greater than 0");
+
+			this.maxConcurrentRequests = maxConcurrentRequests;
+			return this;
+		}
+
+		public Builder withFlushInterval(@Nullable Duration flushInterval) {
+			this.flushInterval = flushInterval;
+			return this;
+		}
+
+		public Builder withBulkOptions(BulkOptions bulkOptions) {
+
+			Assert.notNull(bulkOptions, "bulkOptions must not be null");
+
+			this.bulkOptions = bulkOptions;
+			return this;
+		}
+
+		public Builder withListener(@Nullable BulkIngesterListener listener) {
+			this.listener = listener;
+			return this;
+		}
+
+		public BulkIngesterOptions build() {
+			return new BulkIngesterOptions(this);
+		}
+	}
+}
@@ -17,11 +17,13 @@ package org.springframework.data.elasticsearch.core.query;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.elasticsearch.core.ActiveShardCount;
 import org.springframework.data.elasticsearch.core.RefreshPolicy;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.util.Assert;
 
 /**
  * Options that may be passed to an
@@ -45,14 +47,19 @@ public class BulkOptions {
 	private final @Nullable ActiveShardCount waitForActiveShards;
 	private final @Nullable String pipeline;
 	private final @Nullable String routingId;
+	private final @Nullable RetryPolicy retryPolicy;
+	private final @Nullable AdaptiveBulkSizing adaptiveBulkSizing;
 
 	private BulkOptions(@Nullable Duration timeout, @Nullable RefreshPolicy refreshPolicy,
-			@Nullable ActiveShardCount waitForActiveShards, @Nullable String pipeline, @Nullable String routingId) {
+			@Nullable ActiveShardCount waitForActiveShards, @Nullable String pipeline, @Nullable String routingId,
+			@Nullable RetryPolicy retryPolicy, @Nullable AdaptiveBulkSizing adaptiveBulkSizing) {
 		this.timeout = timeout;
 		this.refreshPolicy = refreshPolicy;
 		this.waitForActiveShards = waitForActiveShards;
 		this.pipeline = pipeline;
 		this.routingId = routingId;
+		this.retryPolicy = retryPolicy;
+		this.adaptiveBulkSizing = adaptiveBulkSizing;
 	}
 
 	@Nullable
@@ -80,6 +87,25 @@ public class BulkOptions {
 		return routingId;
 	}
 
+	/**
+	 * @return the policy for retrying failed items of a bulk request, {@literal null} if failed items are not retried.
+	 * @since 6.2
+	 */
+	@Nullable
+	public RetryPolicy getRetryPolicy() {
+		return retryPolicy;
+	}
+
+	/**
+	 * @return the adaptive sizing used to split the operations into several bulk requests, {@literal null} if the
+	 *         default of the template should be used.
+	 * @since 6.2
+	 */
+	@Nullable
+	public AdaptiveBulkSizing getAdaptiveBulkSizing() {
+		return adaptiveBulkSizing;
+	}
+
 	/**
 	 * Create a new {@link BulkOptionsBuilder} to build {@link BulkOptions}.
 	 *
@@ -108,6 +134,8 @@ public class BulkOptions {
 		private @Nullable ActiveShardCount waitForActiveShards;
 		private @Nullable String pipeline;
 		private @Nullable String routingId;
+		private @Nullable RetryPolicy retryPolicy;
+		private @Nullable AdaptiveBulkSizing adaptiveBulkSizing;
 
 		private BulkOptionsBuilder() {}
 
@@ -136,8 +164,91 @@ public class BulkOptions {
 			return this;
 		}
 
+		/**
+		 * @since 6.2
+		 */
+		public BulkOptionsBuilder withRetryPolicy(@Nullable RetryPolicy retryPolicy) {
+			this.retryPolicy = retryPolicy;
+			return this;
+		}
+
+		/**
+		 * @since 6.2
+		 */
+		public BulkOptionsBuilder withAdaptiveBulkSizing(@Nullable AdaptiveBulkSizing adaptiveBulkSizing) {
+			this.adaptiveBulkSizing = adaptiveBulkSizing;
+			return this;
+		}
+
 		public BulkOptions build() {
-			return new BulkOptions(timeout, refreshPolicy, waitForActiveShards, pipeline, routingId);
+			return new BulkOptions(timeout, refreshPolicy, waitForActiveShards, pipeline, routingId, retryPolicy,
+					adaptiveBulkSizing);
+		}
+	}
+
+	/**
+	 * Defines how the items of a bulk request that failed with a retryable error are resent. Only the failed items are
+	 * sent again, the delay between the attempts grows exponentially from {@code initialBackoff} up to
+	 * {@code maxBackoff}, a random jitter of up to half of the delay is subtracted so that concurrent clients do not
+	 * retry at the same time. Items that were rejected because the Elasticsearch thread pools are exhausted (HTTP status
+	 * 429) are always retryable, version conflicts (HTTP status 409) only if {@code retryVersionConflicts} is set.
+	 * <p>
+	 * When items still fail after {@code maxRetries} retries, a
+	 * {@link org.springframework.data.elasticsearch.BulkFailureException} containing only these items is thrown.
+	 *
+	 * @param maxRetries the maximum number of retries, must not be negative
+	 * @param initialBackoff the delay before the first retry, must not be {@literal null}
+	 * @param maxBackoff the maximum delay between two attempts, must not be {@literal null}
+	 * @param retryVersionConflicts whether items failing with a version conflict should be retried
+	 * @since 6.2
+	 */
+	public record RetryPolicy(int maxRetries, Duration initialBackoff, Duration maxBackoff,
+			boolean retryVersionConflicts) {
+
+		public static final int STATUS_TOO_MANY_REQUESTS = 429;
+		public static final int STATUS_CONFLICT = 409;
+		private static final String REJECTED_EXECUTION_ERROR_TYPE = "es_rejected_execution_exception";
+
+		public RetryPolicy {
+			Assert.isTrue(maxRetries >= 0, "maxRetries must not be negative");
+			Assert.notNull(initialBackoff, "initialBackoff must not be null");
+			Assert.notNull(maxBackoff, "maxBackoff must not be null");
+		}
+
+		/**
+		 * creates a policy that retries rejected items with exponential backoff, version conflicts are not retried.
+		 */
+		public static RetryPolicy exponentialBackoff(int maxRetries, Duration initialBackoff, Duration maxBackoff) {
+			return new RetryPolicy(maxRetries, initialBackoff, maxBackoff, false);
+		}
+
+		/**
+		 * @param status the HTTP status of the failed item
+		 * @param errorType the type of the error returned for the item, may be {@literal null}
+		 * @return true if an item that failed with the given status and error should be sent again
+		 */
+		public boolean isRetryable(int status, @Nullable String errorType) {
+			return status == STATUS_TOO_MANY_REQUESTS || REJECTED_EXECUTION_ERROR_TYPE.equals(errorType)
+					|| (retryVersionConflicts && status == STATUS_CONFLICT);
+		}
+
+		/**
+		 * @param attempt the number of the retry, starting with 0
+		 * @return the delay to wait before the given retry
+		 */
+		public Duration backoff(int attempt) {
+
+			long initialMillis = initialBackoff.toMillis();
+			long maxMillis = maxBackoff.toMillis();
+			long delay = attempt >= Long.numberOfLeadingZeros(Math.max(initialMillis, 1)) - 1 ? maxMillis
+					: Math.min(maxMillis, initialMillis << attempt);
+
+			if (delay <= 1) {
+				return Duration.ofMillis(delay);
+			}
+
+			long jitter = ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+			return Duration.ofMillis(delay - jitter);
 		}
 	}
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.query;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Defines the deletion of a single document by its id in a bulk request, see
+ * {@link org.springframework.data.elasticsearch.core.DocumentOperations#bulkDelete(java.util.List, BulkOptions, org.springframework.data.elasticsearch.core.mapping.IndexCoordinates)}.
+ * Unlike a {@link DeleteQuery}, it does not need a search of the documents to delete.
+ *
+ * @since 6.2
+ */
+public class DeleteByIdQuery {
+
+	private final String id;
+	@Nullable private final String routing;
+
+	private DeleteByIdQuery(String id, @Nullable String routing) {
+
+		Assert.notNull(id, "id must not be null");
+
+		this.id = id;
+		this.routing = routing;
+	}
+
+	public static DeleteByIdQuery of(String id) {
+		return new DeleteByIdQuery(id, null);
+	}
+
+	/**
+	 * @param id the id of the document, must not be {@literal null}
+	 * @param routing the routing of the document, {@literal null} to use the default routing
+	 */
+	public static DeleteByIdQuery of(String id, @Nullable String routing) {
+		return new DeleteByIdQuery(id, routing);
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	@Nullable
+	public String getRouting() {
+		return routing;
+	}
+}
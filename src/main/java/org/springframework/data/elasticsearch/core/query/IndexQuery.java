@@ -32,6 +32,7 @@ public class IndexQuery {
 	@Nullable private Object object;
 	@Nullable private Long version;
 	@Nullable private String source;
+	private byte @Nullable [] sourceBytes;
 	@Nullable private Long seqNo;
 	@Nullable private Long primaryTerm;
 	@Nullable private String routing;
@@ -97,6 +98,24 @@ public class IndexQuery {
 		this.source = source;
 	}
 
+	/**
+	 * @return the UTF-8 encoded JSON source that was set with {@link #setSourceBytes(byte[])}
+	 * @since 6.2
+	 */
+	public byte @Nullable [] getSourceBytes() {
+		return sourceBytes;
+	}
+
+	/**
+	 * sets the source as UTF-8 encoded JSON. It is sent as it is, without being parsed, and takes precedence over a
+	 * source set with {@link #setSource(String)}.
+	 *
+	 * @since 6.2
+	 */
+	public void setSourceBytes(byte @Nullable [] sourceBytes) {
+		this.sourceBytes = sourceBytes;
+	}
+
 	@Nullable
 	public Long getSeqNo() {
 		return seqNo;
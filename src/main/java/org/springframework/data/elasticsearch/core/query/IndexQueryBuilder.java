@@ -15,6 +15,8 @@
  */
 package org.springframework.data.elasticsearch.core.query;
 
+import java.nio.ByteBuffer;
+
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.elasticsearch.core.RefreshPolicy;
 
@@ -33,6 +35,7 @@ public class IndexQueryBuilder {
 	@Nullable private Object object;
 	@Nullable private Long version;
 	@Nullable private String source;
+	private byte @Nullable [] sourceBytes;
 	@Nullable private Long seqNo;
 	@Nullable private Long primaryTerm;
 	@Nullable private String routing;
@@ -62,6 +65,35 @@ public class IndexQueryBuilder {
 		return this;
 	}
 
+	/**
+	 * @param source UTF-8 encoded JSON that is sent as it is
+	 * @since 6.2
+	 */
+	public IndexQueryBuilder withSource(byte[] source) {
+		this.sourceBytes = source;
+		return this;
+	}
+
+	/**
+	 * @param source UTF-8 encoded JSON that is sent as it is, the remaining bytes of the buffer are used, its position is
+	 *          not changed
+	 * @since 6.2
+	 */
+	public IndexQueryBuilder withSource(ByteBuffer source) {
+
+		ByteBuffer buffer = source.duplicate();
+
+		if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0
+				&& buffer.remaining() == buffer.array().length) {
+			this.sourceBytes = buffer.array();
+		} else {
+			byte[] bytes = new byte[buffer.remaining()];
+			buffer.get(bytes);
+			this.sourceBytes = bytes;
+		}
+		return this;
+	}
+
 	public IndexQueryBuilder withSeqNoPrimaryTerm(SeqNoPrimaryTerm seqNoPrimaryTerm) {
 		this.seqNo = seqNoPrimaryTerm.sequenceNumber();
 		this.primaryTerm = seqNoPrimaryTerm.primaryTerm();
@@ -82,7 +114,10 @@ public class IndexQueryBuilder {
 	}
 
 	public IndexQuery build() {
-		return new IndexQuery(id, object, version, source, seqNo, primaryTerm, routing, opType, indexName);
+		IndexQuery indexQuery = new IndexQuery(id, object, version, source, seqNo, primaryTerm, routing, opType,
+				indexName);
+		indexQuery.setSourceBytes(sourceBytes);
+		return indexQuery;
 	}
 
 	/**
@@ -506,6 +506,35 @@ public interface Query {
 	@Nullable
 	Boolean getIncludeNamedQueriesScore();
 
+	/**
+	 * @return the slice of the result to retrieve with a sliced scroll or point in time search, {@literal null} if the
+	 *         whole result is requested.
+	 * @since 6.2
+	 */
+	@Nullable
+	default SearchSlice getSearchSlice() {
+		return null;
+	}
+
+	/**
+	 * @return the way the results are retrieved when the query is used in a {@code searchForStream} call,
+	 *         {@literal null} to use the default of the template.
+	 * @since 6.2
+	 */
+	@Nullable
+	default StreamType getStreamType() {
+		return null;
+	}
+
+	/**
+	 * @return the number of pages that a {@code searchForStream} call fetches in the background while the current page
+	 *         is consumed, 0 if pages are only fetched when they are needed.
+	 * @since 6.2
+	 */
+	default int getStreamPrefetchPages() {
+		return 0;
+	}
+
 	/**
 	 * @since 4.3
 	 */
@@ -513,6 +542,23 @@ public interface Query {
 		QUERY_THEN_FETCH, DFS_QUERY_THEN_FETCH
 	}
 
+	/**
+	 * Defines how the results of a {@code searchForStream} call are retrieved from Elasticsearch.
+	 *
+	 * @since 6.2
+	 */
+	enum StreamType {
+		/**
+		 * use the scroll API.
+		 */
+		SCROLL,
+		/**
+		 * open a point in time and page through the results with search_after. This does not keep scroll contexts on the
+		 * data nodes.
+		 */
+		POINT_IN_TIME
+	}
+
 	/**
 	 * Value class combining an id with a routing value. Used in multi-get requests.
 	 *
@@ -536,4 +582,20 @@ public interface Query {
 	 */
 	record PointInTime(String id, Duration keepAlive) {
 	}
+
+	/**
+	 * Describes a slice of a sliced scroll or point in time search. The result is split into {@code max} disjoint
+	 * slices, the query only returns the documents of slice {@code id}.
+	 *
+	 * @param id the id of the slice, must be between 0 (inclusive) and {@code max} (exclusive)
+	 * @param max the number of slices
+	 * @since 6.2
+	 */
+	record SearchSlice(int id, int max) {
+		public SearchSlice {
+
+			Assert.isTrue(max > 1, "max must be greater than 1");
+			Assert.isTrue(id >= 0 && id < max, "id must be between 0 and max");
+		}
+	}
 }
@@ -108,7 +108,7 @@ public abstract class AbstractElasticsearchRepositoryQuery implements Repository
 		} else if (isCountQuery()) {
 			result = elasticsearchOperations.count(query, clazz, index);
 		} else if (isExistsQuery()) {
-			result = elasticsearchOperations.count(query, clazz, index) > 0;
+			result = elasticsearchOperations.exists(query, clazz, index);
 		} else if (queryMethod.isPageQuery()) {
 			query.setPageable(parameterAccessor.getPageable());
 			SearchHits<?> searchHits = elasticsearchOperations.search(query, clazz, index);
@@ -123,16 +123,14 @@ public abstract class AbstractElasticsearchRepositoryQuery implements Repository
 			result = StreamUtils.createStreamFromIterator(elasticsearchOperations.searchForStream(query, clazz, index));
 		} else if (queryMethod.isCollectionQuery()) {
 			if (query instanceof SearchTemplateQuery) {
-				// we cannot get a count here, from and size would be in the template
+				// we cannot page here, from and size would be in the template
+				result = elasticsearchOperations.search(query, clazz, index);
+			} else if (parameterAccessor.getPageable().isUnpaged()) {
+				result = elasticsearchOperations.searchAll(query, clazz, index);
 			} else {
-				if (parameterAccessor.getPageable().isUnpaged()) {
-					int itemCount = (int) elasticsearchOperations.count(query, clazz, index);
-					query.setPageable(PageRequest.of(0, Math.max(1, itemCount)));
-				} else {
-					query.setPageable(parameterAccessor.getPageable());
-				}
+				query.setPageable(parameterAccessor.getPageable());
+				result = elasticsearchOperations.search(query, clazz, index);
 			}
-			result = elasticsearchOperations.search(query, clazz, index);
 		} else {
 			result = elasticsearchOperations.searchOne(query, clazz, index);
 		}
@@ -170,12 +168,11 @@ public abstract class AbstractElasticsearchRepositoryQuery implements Repository
 		if (queryMethod.isCollectionQuery()) {
 
 			if (accessor.getPageable().isUnpaged()) {
-				int itemCount = (int) elasticsearchOperations.count(query, entityClass, index);
-				query.setPageable(PageRequest.of(0, Math.max(1, itemCount)));
+				result = elasticsearchOperations.searchAll(query, entityClass, index);
 			} else {
 				query.setPageable(accessor.getPageable());
+				result = elasticsearchOperations.search(query, entityClass, index);
 			}
-			result = elasticsearchOperations.search(query, entityClass, index);
 		}
 
 		if (ClassUtils.isAssignable(Number.class, queryMethod.getReturnedObjectType())) {
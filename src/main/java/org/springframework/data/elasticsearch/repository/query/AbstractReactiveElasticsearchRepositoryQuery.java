@@ -146,8 +146,7 @@ abstract class AbstractReactiveElasticsearchRepositoryQuery implements Repositor
 		} else if (isCountQuery()) {
 			return (query, type, targetType, indexCoordinates) -> operations.count(query, type, indexCoordinates);
 		} else if (isExistsQuery()) {
-			return (query, type, targetType, indexCoordinates) -> operations.count(query, type, indexCoordinates)
-					.map(count -> count > 0);
+			return (query, type, targetType, indexCoordinates) -> operations.exists(query, type, indexCoordinates);
 		} else if (queryMethod.isCollectionQuery()) {
 			return (query, type, targetType, indexCoordinates) -> operations.search(query.setPageable(accessor.getPageable()),
 					type, Objects.requireNonNull(targetType), indexCoordinates);
@@ -15,12 +15,15 @@
  */
 package org.springframework.data.elasticsearch.repository.query;
 
+import java.util.function.Function;
+
 import org.springframework.data.elasticsearch.core.ReactiveElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.query.BaseQuery;
 import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
 import org.springframework.data.elasticsearch.repository.query.parser.ElasticsearchQueryCreator;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ValueExpressionDelegate;
+import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
 
 /**
@@ -32,6 +35,7 @@ import org.springframework.data.repository.query.parser.PartTree;
 public class ReactivePartTreeElasticsearchQuery extends AbstractReactiveElasticsearchRepositoryQuery {
 
 	private final PartTree tree;
+	private final Function<Part, String> propertyNames;
 
 	public ReactivePartTreeElasticsearchQuery(ReactiveElasticsearchQueryMethod queryMethod,
 			ReactiveElasticsearchOperations elasticsearchOperations,
@@ -41,11 +45,12 @@ public class ReactivePartTreeElasticsearchQuery extends AbstractReactiveElastics
 
 		ResultProcessor processor = queryMethod.getResultProcessor();
 		this.tree = new PartTree(queryMethod.getName(), processor.getReturnedType().getDomainType());
+		this.propertyNames = ElasticsearchQueryCreator.cachingPropertyNameResolver(getMappingContext());
 	}
 
 	@Override
 	protected BaseQuery createQuery(ElasticsearchParametersParameterAccessor accessor) {
-		CriteriaQuery query = new ElasticsearchQueryCreator(tree, accessor, getMappingContext()).createQuery();
+		CriteriaQuery query = new ElasticsearchQueryCreator(tree, accessor, propertyNames).createQuery();
 
 		if (tree.isLimiting()) {
 			query.setMaxResults(tree.getMaxResults());
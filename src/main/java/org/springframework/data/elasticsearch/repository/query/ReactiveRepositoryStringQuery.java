@@ -33,7 +33,7 @@ import org.springframework.util.Assert;
  */
 public class ReactiveRepositoryStringQuery extends AbstractReactiveElasticsearchRepositoryQuery {
 
-	private final String query;
+	private final QueryStringProcessor queryStringProcessor;
 
 	public ReactiveRepositoryStringQuery(ReactiveElasticsearchQueryMethod queryMethod,
 			ReactiveElasticsearchOperations operations, ValueExpressionDelegate valueExpressionDelegate) {
@@ -47,15 +47,14 @@ public class ReactiveRepositoryStringQuery extends AbstractReactiveElasticsearch
 
 		Assert.notNull(query, "query must not be null");
 
-		this.query = query;
+		ConversionService conversionService = operations.getElasticsearchConverter().getConversionService();
+		this.queryStringProcessor = new QueryStringProcessor(query, queryMethod, conversionService,
+				evaluationContextProvider);
 	}
 
 	@Override
 	protected BaseQuery createQuery(ElasticsearchParametersParameterAccessor parameterAccessor) {
-		ConversionService conversionService = getElasticsearchOperations().getElasticsearchConverter()
-				.getConversionService();
-		String processed = new QueryStringProcessor(query, queryMethod, conversionService, evaluationContextProvider)
-				.createQuery(parameterAccessor);
+		String processed = queryStringProcessor.createQuery(parameterAccessor);
 		return new StringQuery(processed);
 	}
 
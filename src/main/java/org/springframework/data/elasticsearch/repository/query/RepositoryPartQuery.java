@@ -15,12 +15,13 @@
  */
 package org.springframework.data.elasticsearch.repository.query;
 
+import java.util.function.Function;
+
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
-import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentProperty;
 import org.springframework.data.elasticsearch.core.query.BaseQuery;
 import org.springframework.data.elasticsearch.repository.query.parser.ElasticsearchQueryCreator;
-import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.repository.query.ValueExpressionDelegate;
+import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
 
 /**
@@ -38,14 +39,15 @@ import org.springframework.data.repository.query.parser.PartTree;
 public class RepositoryPartQuery extends AbstractElasticsearchRepositoryQuery {
 
 	private final PartTree tree;
-	private final MappingContext<?, ElasticsearchPersistentProperty> mappingContext;
+	private final Function<Part, String> propertyNames;
 
 	public RepositoryPartQuery(ElasticsearchQueryMethod method, ElasticsearchOperations elasticsearchOperations,
 			ValueExpressionDelegate valueExpressionDelegate) {
 		super(method, elasticsearchOperations,
 				valueExpressionDelegate.createValueContextProvider(method.getParameters()));
 		this.tree = new PartTree(queryMethod.getName(), queryMethod.getResultProcessor().getReturnedType().getDomainType());
-		this.mappingContext = elasticsearchConverter.getMappingContext();
+		this.propertyNames = ElasticsearchQueryCreator
+				.cachingPropertyNameResolver(elasticsearchConverter.getMappingContext());
 	}
 
 	@Override
@@ -65,7 +67,7 @@ public class RepositoryPartQuery extends AbstractElasticsearchRepositoryQuery {
 
 	protected BaseQuery createQuery(ElasticsearchParametersParameterAccessor accessor) {
 
-		BaseQuery query = new ElasticsearchQueryCreator(tree, accessor, mappingContext).createQuery();
+		BaseQuery query = new ElasticsearchQueryCreator(tree, accessor, propertyNames).createQuery();
 
 		if (tree.getMaxResults() != null) {
 			query.setMaxResults(tree.getMaxResults());
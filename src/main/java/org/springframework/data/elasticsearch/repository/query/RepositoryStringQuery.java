@@ -19,7 +19,7 @@ import org.springframework.util.Assert;
  * @author Haibo Liu
  */
 public class RepositoryStringQuery extends AbstractElasticsearchRepositoryQuery {
-	private final String queryString;
+	private final QueryStringProcessor queryStringProcessor;
 
 	public RepositoryStringQuery(ElasticsearchQueryMethod queryMethod, ElasticsearchOperations elasticsearchOperations,
 			String queryString, ValueExpressionDelegate valueExpressionDelegate) {
@@ -28,7 +28,9 @@ public class RepositoryStringQuery extends AbstractElasticsearchRepositoryQuery
 
 		Assert.notNull(queryString, "Query cannot be empty");
 
-		this.queryString = queryString;
+		ConversionService conversionService = elasticsearchOperations.getElasticsearchConverter().getConversionService();
+		this.queryStringProcessor = new QueryStringProcessor(queryString, queryMethod, conversionService,
+				evaluationContextProvider);
 	}
 
 	@Override
@@ -47,9 +49,7 @@ public class RepositoryStringQuery extends AbstractElasticsearchRepositoryQuery
 	}
 
 	protected BaseQuery createQuery(ElasticsearchParametersParameterAccessor parameterAccessor) {
-		ConversionService conversionService = elasticsearchOperations.getElasticsearchConverter().getConversionService();
-		var processed = new QueryStringProcessor(queryString, queryMethod, conversionService, evaluationContextProvider)
-				.createQuery(parameterAccessor);
+		var processed = queryStringProcessor.createQuery(parameterAccessor);
 
 		return new StringQuery(processed)
 				.addSort(parameterAccessor.getSort());
@@ -17,6 +17,8 @@ package org.springframework.data.elasticsearch.repository.query.parser;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
@@ -48,26 +50,58 @@ import org.springframework.data.repository.query.parser.PartTree;
  */
 public class ElasticsearchQueryCreator extends AbstractQueryCreator<CriteriaQuery, CriteriaQuery> {
 
-	private final MappingContext<?, ElasticsearchPersistentProperty> context;
+	private final Function<Part, String> propertyNames;
 
 	public ElasticsearchQueryCreator(PartTree tree, ParameterAccessor parameters,
 			MappingContext<?, ElasticsearchPersistentProperty> context) {
+		this(tree, parameters, propertyNameResolver(context));
+	}
+
+	/**
+	 * @param propertyNames returns the name used in the {@link Criteria} for the property of a {@link Part}, a resolver
+	 *          that caches the names can be created once per query method with
+	 *          {@link #cachingPropertyNameResolver(MappingContext)}
+	 * @since 6.2
+	 */
+	public ElasticsearchQueryCreator(PartTree tree, ParameterAccessor parameters,
+			Function<Part, String> propertyNames) {
 		super(tree, parameters);
-		this.context = context;
+		this.propertyNames = propertyNames;
 	}
 
 	public ElasticsearchQueryCreator(PartTree tree, MappingContext<?, ElasticsearchPersistentProperty> context) {
 		super(tree);
-		this.context = context;
+		this.propertyNames = propertyNameResolver(context);
+	}
+
+	/**
+	 * creates a resolver for the names of the properties of the parts of a query method that resolves the property of
+	 * every part only once. The parts of a {@link PartTree} do not change, so the resolver can be kept with the tree and
+	 * used for all invocations of the query method.
+	 *
+	 * @since 6.2
+	 */
+	public static Function<Part, String> cachingPropertyNameResolver(
+			MappingContext<?, ElasticsearchPersistentProperty> context) {
+
+		Function<Part, String> resolver = propertyNameResolver(context);
+		ConcurrentHashMap<Part, String> propertyNames = new ConcurrentHashMap<>();
+		return part -> propertyNames.computeIfAbsent(part, resolver);
+	}
+
+	private static Function<Part, String> propertyNameResolver(
+			MappingContext<?, ElasticsearchPersistentProperty> context) {
+
+		return part -> {
+			PersistentPropertyPath<ElasticsearchPersistentProperty> path = context
+					.getPersistentPropertyPath(part.getProperty());
+			return path.toDotPath(ElasticsearchPersistentProperty.QueryPropertyToFieldNameConverter.INSTANCE);
+		};
 	}
 
 	@Override
 	protected CriteriaQuery create(Part part, Iterator<Object> iterator) {
-		PersistentPropertyPath<ElasticsearchPersistentProperty> path = context.getPersistentPropertyPath(
-				part.getProperty());
-		return new CriteriaQuery(from(part,
-				new Criteria(path.toDotPath(ElasticsearchPersistentProperty.QueryPropertyToFieldNameConverter.INSTANCE)),
-				iterator));
+		return new CriteriaQuery(from(part, new Criteria(propertyNames.apply(part)), iterator));
 	}
 
 	@Override
@@ -75,11 +109,7 @@ public class ElasticsearchQueryCreator extends AbstractQueryCreator<CriteriaQuer
 		if (base == null) {
 			return create(part, iterator);
 		}
-		PersistentPropertyPath<ElasticsearchPersistentProperty> path = context.getPersistentPropertyPath(
-				part.getProperty());
-		return base.addCriteria(from(part,
-				new Criteria(path.toDotPath(ElasticsearchPersistentProperty.QueryPropertyToFieldNameConverter.INSTANCE)),
-				iterator));
+		return base.addCriteria(from(part, new Criteria(propertyNames.apply(part)), iterator));
 	}
 
 	@Override
@@ -15,15 +15,11 @@
  */
 package org.springframework.data.elasticsearch.repository.support;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.elasticsearch.core.convert.ConversionException;
 import org.springframework.data.elasticsearch.repository.support.value.ElasticsearchQueryValueConversionService;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.util.Assert;
-import org.springframework.util.NumberUtils;
 
 /**
  * To replace the placeholders like `?0`, `?1, `?2` of the query string.
@@ -34,8 +30,6 @@ import org.springframework.util.NumberUtils;
  */
 final public class QueryStringPlaceholderReplacer {
 
-	private static final Pattern PARAMETER_PLACEHOLDER = Pattern.compile("\\?(\\d+)");
-
 	private final ConversionService conversionService;
 
 	public QueryStringPlaceholderReplacer(ConversionService conversionService) {
@@ -53,20 +47,16 @@ final public class QueryStringPlaceholderReplacer {
 	 * @return a plain string with placeholders replaced
 	 */
 	public String replacePlaceholders(String input, ParameterAccessor accessor) {
+		return replacePlaceholders(QueryStringTemplate.parse(input), accessor);
+	}
 
-		Matcher matcher = PARAMETER_PLACEHOLDER.matcher(input);
-		String result = input;
-
-		while (matcher.find()) {
-			String placeholder = Pattern.quote(matcher.group()) + "(?!\\d+)";
-			int index = NumberUtils.parseNumber(matcher.group(1), Integer.class);
-			String replacement = Matcher.quoteReplacement(getParameterWithIndex(accessor, index, input));
-			result = result.replaceAll(placeholder, replacement);
-			// need to escape backslashes that are not escapes for quotes so that they are sent as double-backslashes
-			// to Elasticsearch
-			result = result.replaceAll("\\\\([^\"'])", "\\\\\\\\$1");
-		}
-		return result;
+	/**
+	 * Replace the placeholders of an already parsed query string.
+	 *
+	 * @since 6.2
+	 */
+	String replacePlaceholders(QueryStringTemplate template, ParameterAccessor accessor) {
+		return template.bind(index -> getParameterWithIndex(accessor, index, template.getQueryString()));
 	}
 
 	private String getParameterWithIndex(ParameterAccessor accessor, int index, String input) {
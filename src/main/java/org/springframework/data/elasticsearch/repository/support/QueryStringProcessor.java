@@ -24,14 +24,21 @@ import org.springframework.util.Assert;
 
 /**
  * To process query strings with placeholder replacement and SpEL evaluation by {@link QueryStringPlaceholderReplacer}
- * and {@link QueryStringSpELEvaluator}.
+ * and {@link QueryStringSpELEvaluator}. The query string is parsed when the processor is created, so a processor should
+ * be kept and reused for all invocations of a query method. The SpEL evaluation is skipped for query strings that do
+ * not contain a SpEL expression.
  *
  * @since 5.3
  * @author Haibo Liu
  */
 public class QueryStringProcessor {
 
+	private static final String SPEL_EXPRESSION_PREFIX = "#{";
+
 	private final String query;
+	private final QueryStringTemplate template;
+	private final boolean containsSpEL;
+	private final QueryStringPlaceholderReplacer placeholderReplacer;
 	private final QueryMethod queryMethod;
 	private final ConversionService conversionService;
 	private final ValueEvaluationContextProvider evaluationContextProvider;
@@ -45,6 +52,9 @@ public class QueryStringProcessor {
 		Assert.notNull(evaluationContextProvider, "evaluationContextProvider must not be null");
 
 		this.query = query;
+		this.template = QueryStringTemplate.parse(query);
+		this.containsSpEL = query.contains(SPEL_EXPRESSION_PREFIX);
+		this.placeholderReplacer = new QueryStringPlaceholderReplacer(conversionService);
 		this.queryMethod = queryMethod;
 		this.conversionService = conversionService;
 		this.evaluationContextProvider = evaluationContextProvider;
@@ -57,8 +67,11 @@ public class QueryStringProcessor {
 	 * @return processed string
 	 */
 	public String createQuery(ElasticsearchParametersParameterAccessor parameterAccessor) {
-		String queryString = new QueryStringPlaceholderReplacer(conversionService)
-				.replacePlaceholders(query, parameterAccessor);
+		String queryString = placeholderReplacer.replacePlaceholders(template, parameterAccessor);
+
+		if (!containsSpEL) {
+			return queryString;
+		}
 
 		QueryStringSpELEvaluator evaluator = new QueryStringSpELEvaluator(queryString, parameterAccessor, queryMethod,
 				evaluationContextProvider, conversionService);
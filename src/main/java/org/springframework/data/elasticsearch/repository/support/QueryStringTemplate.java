@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import org.springframework.util.Assert;
+
+/**
+ * A query string that is split into its literal parts and the placeholders like `?0`, `?1`, `?2` once, so that the
+ * parameter values can be inserted in one pass over the parts without searching the query string again.
+ * <p>
+ * When the placeholders are replaced, backslashes that are not followed by a quote or an apostrophe are escaped so that
+ * they are sent as double backslashes to Elasticsearch. This is done for the whole query string, not only for the
+ * parameter values, as it was done by {@link QueryStringPlaceholderReplacer} before. A query string without
+ * placeholders is returned as it is.
+ *
+ * @since 6.2
+ */
+final class QueryStringTemplate {
+
+	private final String queryString;
+	private final String[] literals;
+	private final int[] parameterIndexes;
+
+	private QueryStringTemplate(String queryString, String[] literals, int[] parameterIndexes) {
+		this.queryString = queryString;
+		this.literals = literals;
+		this.parameterIndexes = parameterIndexes;
+	}
+
+	/**
+	 * splits the query string at its placeholders. A placeholder is a question mark followed by all the digits after
+	 * it, so `?1` does not match the start of `?10`.
+	 */
+	static QueryStringTemplate parse(String queryString) {
+
+		Assert.notNull(queryString, "queryString must not be null");
+
+		List<String> literals = new ArrayList<>();
+		List<Integer> parameterIndexes = new ArrayList<>();
+
+		int literalStart = 0;
+		int length = queryString.length();
+		int position = 0;
+
+		while (position < length) {
+
+			if (queryString.charAt(position) == '?' && position + 1 < length
+					&& isDigit(queryString.charAt(position + 1))) {
+
+				int digitsEnd = position + 1;
+				while (digitsEnd < length && isDigit(queryString.charAt(digitsEnd))) {
+					digitsEnd++;
+				}
+
+				literals.add(queryString.substring(literalStart, position));
+				parameterIndexes.add(Integer.parseInt(queryString.substring(position + 1, digitsEnd)));
+				literalStart = digitsEnd;
+				position = digitsEnd;
+			} else {
+				position++;
+			}
+		}
+
+		literals.add(queryString.substring(literalStart));
+
+		return new QueryStringTemplate(queryString, literals.toArray(new String[0]),
+				parameterIndexes.stream().mapToInt(Integer::intValue).toArray());
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	String getQueryString() {
+		return queryString;
+	}
+
+	boolean hasPlaceholders() {
+		return parameterIndexes.length > 0;
+	}
+
+	/**
+	 * creates the query string with the placeholders replaced by the values of the parameters.
+	 *
+	 * @param parameterValues returns the value for a parameter index, already converted to a string
+	 * @return the query string with the placeholders replaced
+	 */
+	String bind(IntFunction<String> parameterValues) {
+
+		if (!hasPlaceholders()) {
+			return queryString;
+		}
+
+		BackslashEscapingAppender appender = new BackslashEscapingAppender(queryString.length() + 16 * literals.length);
+
+		for (int i = 0; i < parameterIndexes.length; i++) {
+			appender.append(literals[i]);
+			appender.append(parameterValues.apply(parameterIndexes[i]));
+		}
+		appender.append(literals[literals.length - 1]);
+
+		return appender.toString();
+	}
+
+	/**
+	 * doubles every backslash that is not followed by a quote or an apostrophe. A backslash and the character following
+	 * it are handled together, so the second of two backslashes is not escaped again. The character following a
+	 * backslash may be in the next appended part.
+	 */
+	private static final class BackslashEscapingAppender {
+
+		private final StringBuilder builder;
+		private boolean pendingBackslash = false;
+
+		BackslashEscapingAppender(int capacity) {
+			this.builder = new StringBuilder(capacity);
+		}
+
+		void append(String part) {
+
+			for (int i = 0; i < part.length(); i++) {
+				char c = part.charAt(i);
+
+				if (pendingBackslash) {
+					builder.append(c == '"' || c == '\'' ? "\\" : "\\\\").append(c);
+					pendingBackslash = false;
+				} else if (c == '\\') {
+					pendingBackslash = true;
+				} else {
+					builder.append(c);
+				}
+			}
+		}
+
+		@Override
+		public String toString() {
+			return pendingBackslash ? builder + "\\" : builder.toString();
+		}
+	}
+}
@@ -17,20 +17,30 @@ package org.springframework.data.elasticsearch.repository.support;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.annotations.Routing;
 import org.springframework.data.elasticsearch.core.AbstractElasticsearchTemplate;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.IndexedObjectInformation;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
 import org.springframework.data.elasticsearch.core.RefreshPolicy;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHitSupport;
@@ -39,6 +49,8 @@ import org.springframework.data.elasticsearch.core.SearchPage;
 import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.data.elasticsearch.core.query.BaseQuery;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
+import org.springframework.data.elasticsearch.core.query.DeleteByIdQuery;
 import org.springframework.data.elasticsearch.core.query.DeleteQuery;
 import org.springframework.data.elasticsearch.core.query.MoreLikeThisQuery;
 import org.springframework.data.elasticsearch.core.query.Query;
@@ -67,6 +79,8 @@ import org.springframework.util.Assert;
  */
 public class SimpleElasticsearchRepository<T, ID> implements ElasticsearchRepository<T, ID> {
 
+	private static final int DELETE_BATCH_SIZE = 1_000;
+
 	protected ElasticsearchOperations operations;
 	protected IndexOperations indexOperations;
 
@@ -116,13 +130,14 @@ public class SimpleElasticsearchRepository<T, ID> implements ElasticsearchReposi
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public Iterable<T> findAll() {
-		int itemCount = (int) this.count();
 
-		if (itemCount == 0) {
-			return new PageImpl<>(Collections.emptyList());
-		}
-		return this.findAll(PageRequest.of(0, Math.max(1, itemCount)));
+		Query query = Query.findAll();
+		List<SearchHit<T>> searchHitList = execute(
+				operations -> operations.searchAll(query, entityClass, getIndexCoordinates()).getSearchHits());
+		// noinspection ConstantConditions
+		return new PageImpl<>((List<T>) SearchHitSupport.unwrapSearchHits(searchHitList));
 	}
 
 	@SuppressWarnings("unchecked")
@@ -145,16 +160,10 @@ public class SimpleElasticsearchRepository<T, ID> implements ElasticsearchReposi
 
 		Assert.notNull(sort, "sort must not be null");
 
-		int itemCount = (int) this.count();
-
-		if (itemCount == 0) {
-			return new PageImpl<>(Collections.emptyList());
-		}
-		Pageable pageable = PageRequest.of(0, itemCount, sort);
 		Query query = Query.findAll();
-		query.setPageable(pageable);
+		query.addSort(sort);
 		List<SearchHit<T>> searchHitList = execute(
-				operations -> operations.search(query, entityClass, getIndexCoordinates()).getSearchHits());
+				operations -> operations.searchAll(query, entityClass, getIndexCoordinates()).getSearchHits());
 		// noinspection ConstantConditions
 		return (List<T>) SearchHitSupport.unwrapSearchHits(searchHitList);
 	}
@@ -164,15 +173,71 @@ public class SimpleElasticsearchRepository<T, ID> implements ElasticsearchReposi
 
 		Assert.notNull(ids, "ids can't be null.");
 
-		List<String> stringIds = stringIdsRepresentation(ids);
-		Query query = getIdQuery(stringIds);
-		if (!stringIds.isEmpty()) {
-			query.setPageable(PageRequest.of(0, stringIds.size()));
+		// the documents are read with real-time mget requests, duplicate ids are only requested once
+		Set<String> stringIds = new LinkedHashSet<>(stringIdsRepresentation(ids));
+
+		if (stringIds.isEmpty()) {
+			return Collections.emptyList();
 		}
-		List<SearchHit<T>> searchHitList = execute(
-				operations -> operations.search(query, entityClass, getIndexCoordinates()).getSearchHits());
+
+		IndexCoordinates indexCoordinates = getIndexCoordinates();
+
+		// mget sends no routing, so documents that were indexed with a routing must be searched on all shards
+		if (!isSingleIndexName(indexCoordinates) || usesRouting()) {
+			return searchByIds(new ArrayList<>(stringIds), indexCoordinates);
+		}
+
+		List<MultiGetItem<T>> multiGetItems = execute(
+				operations -> operations.multiGet(Query.multiGetQuery(stringIds), entityClass, indexCoordinates));
+
+		// the items fail if the name is an alias pointing to several indices, these are searched like other coordinates
 		// noinspection ConstantConditions
-		return (List<T>) SearchHitSupport.unwrapSearchHits(searchHitList);
+		if (multiGetItems.stream().anyMatch(MultiGetItem::isFailed)) {
+			return searchByIds(new ArrayList<>(stringIds), indexCoordinates);
+		}
+
+		// a document that was indexed with a custom routing by another client is not found by mget, these are searched
+		List<String> notFoundIds = new ArrayList<>();
+		Iterator<String> idIterator = stringIds.iterator();
+		for (MultiGetItem<T> multiGetItem : multiGetItems) {
+			String id = idIterator.next();
+			if (!multiGetItem.hasItem()) {
+				notFoundIds.add(id);
+			}
+		}
+
+		Map<String, T> searchedEntities = new HashMap<>();
+		if (!notFoundIds.isEmpty()) {
+			for (SearchHit<T> searchHit : searchHitsByIds(notFoundIds, indexCoordinates)) {
+				searchedEntities.put(searchHit.getId(), searchHit.getContent());
+			}
+		}
+
+		List<T> entities = new ArrayList<>(stringIds.size());
+		idIterator = stringIds.iterator();
+		for (MultiGetItem<T> multiGetItem : multiGetItems) {
+			String id = idIterator.next();
+			T entity = multiGetItem.hasItem() ? multiGetItem.getItem() : searchedEntities.get(id);
+			if (entity != null) {
+				entities.add(entity);
+			}
+		}
+		return entities;
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<T> searchByIds(List<String> idList, IndexCoordinates indexCoordinates) {
+		// noinspection ConstantConditions
+		return (List<T>) SearchHitSupport.unwrapSearchHits(searchHitsByIds(idList, indexCoordinates));
+	}
+
+	private List<SearchHit<T>> searchHitsByIds(List<String> idList, IndexCoordinates indexCoordinates) {
+
+		Query query = getIdQuery(idList);
+		query.setPageable(PageRequest.of(0, idList.size()));
+		List<SearchHit<T>> searchHitList = execute(
+				operations -> operations.search(query, entityClass, indexCoordinates).getSearchHits());
+		return Objects.requireNonNull(searchHitList);
 	}
 
 	@Override
@@ -294,21 +359,16 @@ public class SimpleElasticsearchRepository<T, ID> implements ElasticsearchReposi
 	@Override
 	public void deleteAllById(Iterable<? extends ID> ids) {
 
-		// noinspection DuplicatedCode
 		Assert.notNull(ids, "Cannot delete 'null' list.");
 
-		List<String> idStrings = new ArrayList<>();
-		for (ID id : ids) {
-			idStrings.add(stringIdRepresentation(id));
-		}
+		List<DeleteByIdQuery> queries = getDeleteQueriesForIds(ids);
 
-		if (idStrings.isEmpty()) {
+		if (queries.isEmpty()) {
 			return;
 		}
 
-		Query query = operations.idsQuery(idStrings);
 		executeAndRefresh((OperationsCallback<Void>) operations -> {
-			operations.delete(DeleteQuery.builder(query).build(), entityClass, getIndexCoordinates());
+			doBulkDelete(queries, operations);
 			return null;
 		});
 	}
@@ -316,46 +376,143 @@ public class SimpleElasticsearchRepository<T, ID> implements ElasticsearchReposi
 	@Override
 	public void deleteAllById(Iterable<? extends ID> ids, @Nullable RefreshPolicy refreshPolicy) {
 
-		// noinspection DuplicatedCode
 		Assert.notNull(ids, "Cannot delete 'null' list.");
 
-		List<String> idStrings = new ArrayList<>();
-		for (ID id : ids) {
-			idStrings.add(stringIdRepresentation(id));
-		}
+		List<DeleteByIdQuery> queries = getDeleteQueriesForIds(ids);
 
-		if (idStrings.isEmpty()) {
+		if (queries.isEmpty()) {
 			return;
 		}
 
-		Query query = operations.idsQuery(idStrings);
 		executeAndRefresh((OperationsCallback<Void>) operations -> {
-			operations.delete(DeleteQuery.builder(query).build(), entityClass, getIndexCoordinates());
+			doBulkDelete(queries, operations);
 			return null;
-		});
+		}, refreshPolicy);
 	}
 
 	@Override
 	public void deleteAll(Iterable<? extends T> entities) {
-		deleteAllById(getEntityIds(entities));
+
+		Assert.notNull(entities, "Cannot delete 'null' list.");
+
+		List<DeleteByIdQuery> queries = getDeleteQueriesForEntities(entities);
+
+		if (queries.isEmpty()) {
+			return;
+		}
+
+		executeAndRefresh((OperationsCallback<Void>) operations -> {
+			doBulkDelete(queries, operations);
+			return null;
+		});
 	}
 
 	@Override
 	public void deleteAll(Iterable<? extends T> entities, @Nullable RefreshPolicy refreshPolicy) {
-		deleteAllById(getEntityIds(entities), refreshPolicy);
-	}
 
-	private List<ID> getEntityIds(Iterable<? extends T> entities) {
 		Assert.notNull(entities, "Cannot delete 'null' list.");
 
-		List<ID> ids = new ArrayList<>();
+		List<DeleteByIdQuery> queries = getDeleteQueriesForEntities(entities);
+
+		if (queries.isEmpty()) {
+			return;
+		}
+
+		executeAndRefresh((OperationsCallback<Void>) operations -> {
+			doBulkDelete(queries, operations);
+			return null;
+		}, refreshPolicy);
+	}
+
+	private List<DeleteByIdQuery> getDeleteQueriesForIds(Iterable<? extends ID> ids) {
+
+		List<DeleteByIdQuery> queries = new ArrayList<>();
+		for (ID id : ids) {
+			String stringId = stringIdRepresentation(id);
+			if (stringId != null) {
+				queries.add(DeleteByIdQuery.of(stringId));
+			}
+		}
+		return queries;
+	}
+
+	private List<DeleteByIdQuery> getDeleteQueriesForEntities(Iterable<? extends T> entities) {
+
+		List<DeleteByIdQuery> queries = new ArrayList<>();
 		for (T entity : entities) {
-			ID id = extractIdFromBean(entity);
-			if (id != null) {
-				ids.add(id);
+			String stringId = stringIdRepresentation(extractIdFromBean(entity));
+			if (stringId != null) {
+				queries.add(DeleteByIdQuery.of(stringId, operations.getEntityRouting(entity)));
 			}
 		}
-		return ids;
+		return queries;
+	}
+
+	/**
+	 * deletes the documents in bulk requests of at most {@link #DELETE_BATCH_SIZE} operations. Each request is sent with
+	 * the refresh policy of the operations, as a refresh with a request only covers the shards it wrote to.
+	 * <p>
+	 * A bulk delete needs the routing of the document, so the documents are deleted with a delete by query of their ids
+	 * if the entity is indexed with a routing that is not known, if the index coordinates do not name a single index or
+	 * alias or if the alias has no write index. Documents that were not found by the bulk requests may have been indexed
+	 * with a custom routing and are deleted by query as well.
+	 */
+	private void doBulkDelete(List<DeleteByIdQuery> queries, ElasticsearchOperations operations) {
+
+		IndexCoordinates indexCoordinates = getIndexCoordinates();
+
+		if (!isSingleIndexName(indexCoordinates)
+				|| (usesRouting() && queries.stream().anyMatch(query -> query.getRouting() == null))) {
+			doDeleteByQuery(queries, operations, indexCoordinates);
+			return;
+		}
+
+		List<DeleteByIdQuery> notFoundQueries = new ArrayList<>();
+
+		for (int from = 0; from < queries.size(); from += DELETE_BATCH_SIZE) {
+			int to = Math.min(queries.size(), from + DELETE_BATCH_SIZE);
+			List<DeleteByIdQuery> batch = queries.subList(from, to);
+			List<IndexedObjectInformation> deleted;
+			try {
+				deleted = operations.bulkDelete(batch, BulkOptions.defaultOptions(), indexCoordinates);
+			} catch (BulkFailureException e) {
+
+				if (!isAliasWithoutWriteIndex(e)) {
+					throw e;
+				}
+				notFoundQueries.addAll(queries.subList(from, queries.size()));
+				break;
+			}
+
+			for (int i = 0; i < deleted.size(); i++) {
+				if (deleted.get(i).isNotFound()) {
+					notFoundQueries.add(batch.get(i));
+				}
+			}
+		}
+
+		if (!notFoundQueries.isEmpty()) {
+			doDeleteByQuery(notFoundQueries, operations, indexCoordinates);
+		}
+	}
+
+	/**
+	 * @return {@literal true} if all items failed because the alias points to several indices without a write index
+	 */
+	private static boolean isAliasWithoutWriteIndex(BulkFailureException e) {
+
+		Map<String, BulkFailureException.FailureDetails> failedDocuments = e.getFailedDocuments();
+		return !failedDocuments.isEmpty() && failedDocuments.values().stream().allMatch(failureDetails -> {
+			String errorMessage = failureDetails.errorMessage();
+			return errorMessage != null && errorMessage.contains("no write index is defined for alias");
+		});
+	}
+
+	private void doDeleteByQuery(List<DeleteByIdQuery> queries, ElasticsearchOperations operations,
+			IndexCoordinates indexCoordinates) {
+
+		List<String> ids = queries.stream().map(DeleteByIdQuery::getId).collect(Collectors.toList());
+		operations.delete(DeleteQuery.builder(getIdQuery(ids)).build(), entityClass, indexCoordinates);
 	}
 
 	private void doDelete(@Nullable ID id, @Nullable String routing, IndexCoordinates indexCoordinates) {
@@ -426,12 +583,34 @@ public class SimpleElasticsearchRepository<T, ID> implements ElasticsearchReposi
 		return operations.convertId(id);
 	}
 
+	private Query getIdQuery(List<String> stringIds) {
+		return operations.idsQuery(stringIds);
+	}
+
 	private IndexCoordinates getIndexCoordinates() {
 		return operations.getIndexCoordinatesFor(entityClass);
 	}
 
-	private Query getIdQuery(List<String> stringIds) {
-		return operations.idsQuery(stringIds);
+	/**
+	 * @return {@literal true} if the documents of the entity are indexed with a routing, either by a {@link Routing}
+	 *         annotation or as children of a join field.
+	 */
+	private boolean usesRouting() {
+
+		ElasticsearchPersistentEntity<?> entity = operations.getElasticsearchConverter().getMappingContext()
+				.getRequiredPersistentEntity(entityClass);
+		return entity.hasJoinFieldProperty() || AnnotatedElementUtils.hasAnnotation(entityClass, Routing.class);
+	}
+
+	/**
+	 * checks if the index coordinates name a single index or alias that can be the target of requests for single
+	 * documents, multiple names and wildcard patterns cannot.
+	 */
+	private static boolean isSingleIndexName(IndexCoordinates indexCoordinates) {
+
+		String[] indexNames = indexCoordinates.getIndexNames();
+		return indexNames.length == 1 && !indexNames[0].contains("*") && !indexNames[0].contains(",")
+				&& !"_all".equals(indexNames[0]);
 	}
 	// endregion
 
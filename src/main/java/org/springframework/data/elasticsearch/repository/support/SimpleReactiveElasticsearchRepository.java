@@ -202,6 +202,7 @@ public class SimpleReactiveElasticsearchRepository<T, ID> implements ReactiveEla
 		return Flux.from(idStream) //
 				.map(this::convertId) //
 				.collectList() //
+				.filter(ids -> !ids.isEmpty()) //
 				.map(ids -> {
 					var query = new BaseQuery();
 					query.setIds(ids);
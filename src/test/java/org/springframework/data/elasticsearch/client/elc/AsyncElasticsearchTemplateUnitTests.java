@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.NoSuchIndexException;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.ReactiveElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncElasticsearchTemplateUnitTests {
+
+	private static final IndexCoordinates INDEX = IndexCoordinates.of("foo");
+
+	@Mock private ReactiveElasticsearchOperations reactiveOperations;
+
+	@Test
+	@DisplayName("should complete get with null if the document does not exist")
+	void shouldCompleteGetWithNullIfTheDocumentDoesNotExist() {
+
+		doReturn(Mono.empty()).when(reactiveOperations).get("42", String.class, INDEX);
+		var template = new AsyncElasticsearchTemplate(reactiveOperations);
+
+		CompletableFuture<String> future = template.get("42", String.class, INDEX);
+
+		assertThat(future).isCompletedWithValue(null);
+	}
+
+	@Test
+	@DisplayName("should complete multiGet with the items in order")
+	void shouldCompleteMultiGetWithTheItemsInOrder() {
+
+		Query query = Query.multiGetQuery(List.of("1", "2"));
+		doReturn(Flux.just(MultiGetItem.of("one", null), MultiGetItem.of("two", null))).when(reactiveOperations)
+				.multiGet(query, String.class, INDEX);
+		var template = new AsyncElasticsearchTemplate(reactiveOperations);
+
+		List<MultiGetItem<String>> items = template.multiGet(query, String.class, INDEX).join();
+
+		assertThat(items).extracting(MultiGetItem::getItem).containsExactly("one", "two");
+	}
+
+	@Test
+	@DisplayName("should complete exceptionally on errors")
+	void shouldCompleteExceptionallyOnErrors() {
+
+		Query query = Query.findAll();
+		doReturn(Mono.error(new NoSuchIndexException("foo"))).when(reactiveOperations).count(query, String.class, INDEX);
+		var template = new AsyncElasticsearchTemplate(reactiveOperations);
+
+		CompletableFuture<Long> future = template.count(query, String.class, INDEX);
+
+		assertThat(future).isCompletedExceptionally();
+		assertThatThrownBy(future::join).hasCauseInstanceOf(NoSuchIndexException.class);
+	}
+}
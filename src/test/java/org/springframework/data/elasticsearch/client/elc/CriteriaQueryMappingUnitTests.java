@@ -348,6 +348,23 @@ public class CriteriaQueryMappingUnitTests {
 		assertEquals(expected, queryString, false);
 	}
 
+	@Test
+	@DisplayName("should map the names of the same property path in every query")
+	void shouldMapTheNamesOfTheSamePropertyPathInEveryQuery() {
+
+		for (int i = 0; i < 2; i++) {
+			CriteriaQuery criteriaQuery = new CriteriaQuery(new Criteria("persons.birthDate").is(LocalDate.of(1999, 10, 3)));
+			mappingElasticsearchConverter.updateQuery(criteriaQuery, House.class);
+
+			var field = criteriaQuery.getCriteria().getField();
+			assertThat(field).isNotNull();
+			assertThat(field.getName()).isEqualTo("per-sons.birth-date");
+			assertThat(field.getPath()).isEqualTo("per-sons");
+			assertThat(criteriaQuery.getCriteria().getQueryCriteriaEntries().iterator().next().getValue())
+					.isEqualTo("03.10.1999");
+		}
+	}
+
 	@Test // #1753
 	@DisplayName("should map names and value in nested entities with sub-fields")
 	void shouldMapNamesAndValueInNestedEntitiesWithSubfields() throws JSONException {
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.elasticsearch.client.elc;
 
+import static org.assertj.core.api.Assertions.*;
+
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.json.JsonData;
 import co.elastic.clients.json.JsonpMapper;
@@ -78,6 +80,26 @@ class DocumentAdaptersUnitTests {
 		softly.assertAll();
 	}
 
+	@Test
+	@DisplayName("should not share the source of a search Hit with the document")
+	void shouldNotShareTheSourceOfASearchHitWithTheDocument() {
+
+		EntityAsMap source = new EntityAsMap();
+		source.put("field", "value");
+
+		Hit<EntityAsMap> searchHit = new Hit.Builder<EntityAsMap>() //
+				.index("index") //
+				.id("my-id") //
+				.source(source) //
+				.build(); //
+
+		SearchDocument document = DocumentAdapters.from(searchHit, jsonpMapper);
+		document.put("field", "changed");
+
+		assertThat(source.get("field")).isEqualTo("value");
+		assertThat(document.get("field")).isEqualTo("changed");
+	}
+
 	@Test // #3178
 	@DisplayName("should adapt parser backed search Hit fields to Java types")
 	void shouldAdaptParserBackedSearchHitFieldsToJavaTypes() {
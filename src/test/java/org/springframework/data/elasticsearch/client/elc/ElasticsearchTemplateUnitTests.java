@@ -0,0 +1,487 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ErrorResponse;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch.cluster.ElasticsearchClusterClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.ClosePointInTimeRequest;
+import co.elastic.clients.elasticsearch.core.ClosePointInTimeResponse;
+import co.elastic.clients.elasticsearch.core.GetRequest;
+import co.elastic.clients.elasticsearch.core.GetResponse;
+import co.elastic.clients.elasticsearch.core.MsearchRequest;
+import co.elastic.clients.elasticsearch.core.MsearchResponse;
+import co.elastic.clients.elasticsearch.core.OpenPointInTimeRequest;
+import co.elastic.clients.elasticsearch.core.OpenPointInTimeResponse;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.OperationType;
+import co.elastic.clients.elasticsearch.core.msearch.MultiSearchItem;
+import co.elastic.clients.elasticsearch.core.msearch.MultiSearchResponseItem;
+import co.elastic.clients.elasticsearch.core.search.FieldCollapse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.indices.ElasticsearchIndicesClient;
+import co.elastic.clients.elasticsearch.indices.RefreshRequest;
+import co.elastic.clients.elasticsearch.indices.RefreshResponse;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.ElasticsearchTransport;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.NoSuchIndexException;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.event.AfterConvertCallback;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.query.StringQuery;
+import org.springframework.data.elasticsearch.core.routing.RoutingResolver;
+import org.springframework.data.mapping.callback.EntityCallbacks;
+
+@ExtendWith(MockitoExtension.class)
+class ElasticsearchTemplateUnitTests {
+
+	private static final IndexCoordinates INDEX = IndexCoordinates.of("foo");
+
+	@Mock private ElasticsearchClient client;
+	@Mock private ElasticsearchTransport transport;
+	@Mock private ElasticsearchIndicesClient indicesClient;
+	@Mock private ElasticsearchClusterClient clusterClient;
+
+	private ElasticsearchTemplate template;
+
+	@BeforeEach
+	void setUp() {
+
+		doReturn(transport).when(client)._transport();
+		doReturn(new JacksonJsonpMapper()).when(transport).jsonpMapper();
+
+		MappingElasticsearchConverter converter = new MappingElasticsearchConverter(
+				new SimpleElasticsearchMappingContext());
+		converter.afterPropertiesSet();
+		template = new ElasticsearchTemplate(client, converter);
+	}
+
+	@Test
+	@DisplayName("should reject a point in time stream that starts at an offset")
+	void shouldRejectAPointInTimeStreamThatStartsAtAnOffset() {
+
+		Query query = StringQuery.builder("{\"match_all\":{}}") //
+				.withPageable(PageRequest.of(1, 10)) //
+				.withStreamType(Query.StreamType.POINT_IN_TIME) //
+				.build();
+
+		assertThatThrownBy(() -> template.searchForStream(query, SampleEntity.class, INDEX))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("should sort the hits of searchAll by score if the query has no sort")
+	void shouldSortTheHitsOfSearchAllByScoreIfTheQueryHasNoSort() {
+
+		doReturn(OpenPointInTimeResponse.of(b -> b //
+				.id("pit-1") //
+				.shards(sb -> sb.total(1).successful(1).failed(0)))) //
+				.when(client).openPointInTime(any(OpenPointInTimeRequest.class));
+		doReturn(ClosePointInTimeResponse.of(b -> b.succeeded(true).numFreed(1))) //
+				.when(client).closePointInTime(any(ClosePointInTimeRequest.class));
+		doReturn(searchResponse(new ScoredId("1", 3.0), new ScoredId("2", 1.5)), searchResponse()) //
+				.when(client).search(any(SearchRequest.class), eq(EntityAsMap.class));
+
+		Query query = StringQuery.builder("{\"match\":{\"text\":\"foo\"}}").build();
+		SearchHits<SampleEntity> searchHits = template.searchAll(query, SampleEntity.class, INDEX);
+
+		ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+		verify(client, times(2)).search(captor.capture(), eq(EntityAsMap.class));
+		SearchRequest firstRequest = captor.getAllValues().get(0);
+		assertThat(firstRequest.sort()).hasSize(2);
+		assertThat(firstRequest.sort().get(0).isScore()).isTrue();
+		assertThat(firstRequest.sort().get(1).field().field()).isEqualTo("_shard_doc");
+		assertThat(firstRequest.trackScores()).isTrue();
+
+		assertThat(searchHits.getSearchHits()).extracting(SearchHit::getId).containsExactly("1", "2");
+		assertThat(searchHits.getSearchHits()).extracting(SearchHit::getScore).containsExactly(3.0f, 1.5f);
+		assertThat(query.getSort() == null || query.getSort().isUnsorted()).isTrue();
+		assertThat(query.getTrackScores()).isFalse();
+	}
+
+	@Test
+	@DisplayName("should open the point in time of searchAll with the routing and search without it")
+	void shouldOpenThePointInTimeOfSearchAllWithTheRoutingAndSearchWithoutIt() {
+
+		doReturn(OpenPointInTimeResponse.of(b -> b //
+				.id("pit-1") //
+				.shards(sb -> sb.total(1).successful(1).failed(0)))) //
+				.when(client).openPointInTime(any(OpenPointInTimeRequest.class));
+		doReturn(ClosePointInTimeResponse.of(b -> b.succeeded(true).numFreed(1))) //
+				.when(client).closePointInTime(any(ClosePointInTimeRequest.class));
+		doReturn(searchResponse(new ScoredId("1", 1.0)), searchResponse()) //
+				.when(client).search(any(SearchRequest.class), eq(EntityAsMap.class));
+
+		template.withRouting(RoutingResolver.just("route-1")).searchAll(Query.findAll(), SampleEntity.class, INDEX);
+
+		ArgumentCaptor<OpenPointInTimeRequest> openCaptor = ArgumentCaptor.forClass(OpenPointInTimeRequest.class);
+		verify(client).openPointInTime(openCaptor.capture());
+		assertThat(openCaptor.getValue().routing()).isEqualTo("route-1");
+		ArgumentCaptor<SearchRequest> searchCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+		verify(client, times(2)).search(searchCaptor.capture(), eq(EntityAsMap.class));
+		assertThat(searchCaptor.getAllValues()).allSatisfy(searchRequest -> {
+			assertThat(searchRequest.pit()).isNotNull();
+			assertThat(searchRequest.routing()).isNull();
+		});
+	}
+
+	@Test
+	@DisplayName("should send one get request for concurrent gets of the same document")
+	void shouldSendOneGetRequestForConcurrentGetsOfTheSameDocument() throws InterruptedException {
+
+		CountDownLatch requestSent = new CountDownLatch(1);
+		CountDownLatch responseReceived = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			requestSent.countDown();
+			responseReceived.await(5, TimeUnit.SECONDS);
+			return getResponse("42");
+		}).when(client).get(any(GetRequest.class), eq(EntityAsMap.class));
+
+		List<org.springframework.data.elasticsearch.core.document.Document> documents = new CopyOnWriteArrayList<>();
+		template.setEntityCallbacks(EntityCallbacks.create(new AfterConvertCallback<SampleEntity>() {
+			@Override
+			public SampleEntity onAfterConvert(SampleEntity entity,
+					org.springframework.data.elasticsearch.core.document.Document document, IndexCoordinates indexCoordinates) {
+				documents.add(document);
+				return entity;
+			}
+		}));
+		template.setGetCoalescing(true);
+
+		AtomicReference<SampleEntity> first = new AtomicReference<>();
+		AtomicReference<SampleEntity> second = new AtomicReference<>();
+		Thread firstThread = new Thread(() -> first.set(template.get("42", SampleEntity.class, INDEX)));
+		Thread secondThread = new Thread(() -> second.set(template.get("42", SampleEntity.class, INDEX)));
+
+		firstThread.start();
+		assertThat(requestSent.await(5, TimeUnit.SECONDS)).isTrue();
+		secondThread.start();
+		awaitWaiting(secondThread);
+		responseReceived.countDown();
+		firstThread.join(5_000);
+		secondThread.join(5_000);
+
+		verify(client, times(1)).get(any(GetRequest.class), eq(EntityAsMap.class));
+		assertThat(first.get()).isNotNull();
+		assertThat(second.get()).isNotNull();
+		assertThat(first.get()).isNotSameAs(second.get());
+		assertThat(first.get().getText()).isEqualTo("text 42");
+		assertThat(second.get().getText()).isEqualTo("text 42");
+
+		assertThat(documents).hasSize(2);
+		assertThat(documents.get(0)).isNotSameAs(documents.get(1));
+		documents.get(0).put("text", "changed");
+		assertThat(documents.get(1).get("text")).isEqualTo("text 42");
+	}
+
+	@Test
+	@DisplayName("should send concurrent searches in one msearch request and translate the errors of failed items")
+	void shouldSendConcurrentSearchesInOneMsearchRequestAndTranslateTheErrorsOfFailedItems() {
+
+		MultiSearchResponseItem<EntityAsMap> failure = new MultiSearchResponseItem.Builder<EntityAsMap>() //
+				.failure(ErrorResponse.of(b -> b //
+						.status(404) //
+						.error(eb -> eb.type("index_not_found_exception").reason("no such index [foo]")))) //
+				.build();
+		doReturn(msearchResponse(msearchResultItem("1"), failure)).when(client).msearch(any(MsearchRequest.class),
+				eq(EntityAsMap.class));
+		template.setSearchBatchingWindow(Duration.ofSeconds(10));
+		template.setMaxSearchBatchSize(2);
+
+		Query query = Query.findAll();
+		query.setPageable(PageRequest.of(0, 10));
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			List<CompletableFuture<Object>> results = List.of( //
+					CompletableFuture.supplyAsync(() -> template.search(query, SampleEntity.class, INDEX), executor)
+							.handle((searchHits, throwable) -> throwable != null ? throwable.getCause() : searchHits), //
+					CompletableFuture.supplyAsync(() -> template.search(query, SampleEntity.class, INDEX), executor)
+							.handle((searchHits, throwable) -> throwable != null ? throwable.getCause() : searchHits));
+
+			List<Object> outcomes = results.stream().map(CompletableFuture::join).toList();
+
+			verify(client, times(1)).msearch(any(MsearchRequest.class), eq(EntityAsMap.class));
+			verify(client, never()).search(any(SearchRequest.class), eq(EntityAsMap.class));
+			assertThat(outcomes).filteredOn(SearchHits.class::isInstance).singleElement()
+					.satisfies(searchHits -> assertThat(((SearchHits<?>) searchHits).getSearchHit(0).getId()).isEqualTo("1"));
+			assertThat(outcomes).filteredOn(NoSuchIndexException.class::isInstance).hasSize(1);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("should not batch native queries whose msearch body would differ from the search request")
+	void shouldNotBatchNativeQueriesWhoseMsearchBodyWouldDifferFromTheSearchRequest() {
+
+		Query sortedTwice = NativeQuery.builder() //
+				.withSort(so -> so.field(f -> f.field("text"))) //
+				.withSort(Sort.by("id")) //
+				.build();
+		Query collapsedWithSearchAfter = NativeQuery.builder() //
+				.withFieldCollapse(FieldCollapse.of(fc -> fc.field("text"))) //
+				.withSearchAfter(List.of("a", 1)) //
+				.build();
+		Query sortedOnce = NativeQuery.builder() //
+				.withSort(so -> so.field(f -> f.field("text"))) //
+				.build();
+
+		assertThat(SearchBatcher.canBeBatched(sortedTwice)).isFalse();
+		assertThat(SearchBatcher.canBeBatched(collapsedWithSearchAfter)).isFalse();
+		assertThat(SearchBatcher.canBeBatched(sortedOnce)).isTrue();
+	}
+
+	@Test
+	@DisplayName("should take snapshots of documents read by id but not of search hits")
+	void shouldTakeSnapshotsOfDocumentsReadByIdButNotOfSearchHits() {
+
+		EntityAsMap source = new EntityAsMap();
+		source.put("id", "2");
+		source.put("text", "text 2");
+		Hit<EntityAsMap> hit = new Hit.Builder<EntityAsMap>() //
+				.index("foo") //
+				.id("2") //
+				.seqNo(1L) //
+				.primaryTerm(1L) //
+				.source(source) //
+				.build();
+		doReturn(new SearchResponse.Builder<EntityAsMap>() //
+				.took(1L) //
+				.timedOut(false) //
+				.shards(sb -> sb.total(1).successful(1).failed(0)) //
+				.hits(hb -> hb.hits(hit)) //
+				.build()).when(client).search(any(SearchRequest.class), eq(EntityAsMap.class));
+		doReturn(getResponse("1")).when(client).get(any(GetRequest.class), eq(EntityAsMap.class));
+		EntitySnapshots entitySnapshots = new EntitySnapshots();
+		template.setEntitySnapshots(entitySnapshots);
+
+		template.search(Query.findAll(), SampleEntity.class, INDEX);
+
+		assertThat(entitySnapshots.getStatistics().size()).isZero();
+
+		template.get("1", SampleEntity.class, INDEX);
+
+		assertThat(entitySnapshots.getStatistics().size()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("should convert the entities of a bulk index once when snapshots are set")
+	void shouldConvertTheEntitiesOfABulkIndexOnceWhenSnapshotsAreSet() throws IOException {
+
+		MappingElasticsearchConverter converter = spy(
+				new MappingElasticsearchConverter(new SimpleElasticsearchMappingContext()));
+		converter.afterPropertiesSet();
+		ElasticsearchTemplate template = new ElasticsearchTemplate(client, converter);
+		template.setEntitySnapshots(new EntitySnapshots());
+		doReturn(BulkResponse.of(b -> b //
+				.errors(false) //
+				.took(1L) //
+				.items(bulkResponseItem("1"), bulkResponseItem("2")))) //
+				.when(client).bulk(any(BulkRequest.class));
+
+		List<IndexQuery> queries = new ArrayList<>();
+		for (String id : List.of("1", "2")) {
+			SampleEntity entity = new SampleEntity();
+			entity.id = id;
+			entity.text = "text " + id;
+			queries.add(new IndexQueryBuilder().withId(id).withObject(entity).build());
+		}
+		template.bulkIndex(queries, INDEX);
+
+		verify(converter, times(2)).mapObject(any());
+	}
+
+	@Test
+	@DisplayName("should cache the searches of a written index again after a refresh through the template")
+	void shouldCacheTheSearchesOfAWrittenIndexAgainAfterARefreshThroughTheTemplate() throws IOException {
+
+		doReturn(indicesClient).when(client).indices();
+		doReturn(transport).when(indicesClient)._transport();
+		doReturn(clusterClient).when(client).cluster();
+		doReturn(transport).when(clusterClient)._transport();
+		doReturn(RefreshResponse.of(b -> b.shards(sb -> sb.total(1).successful(1).failed(0)))).when(indicesClient)
+				.refresh(any(RefreshRequest.class));
+		doReturn(searchResponse()).when(client).search(any(SearchRequest.class), eq(EntityAsMap.class));
+		SearchResultCache searchResultCache = new SearchResultCache(10, Duration.ofMinutes(1), Duration.ofMinutes(1));
+		template.setSearchResultCache(searchResultCache);
+		searchResultCache.invalidate(INDEX);
+
+		template.search(Query.findAll(), SampleEntity.class, INDEX);
+		template.search(Query.findAll(), SampleEntity.class, INDEX);
+
+		verify(client, times(2)).search(any(SearchRequest.class), eq(EntityAsMap.class));
+
+		template.indexOps(INDEX).refresh();
+		template.search(Query.findAll(), SampleEntity.class, INDEX);
+		template.search(Query.findAll(), SampleEntity.class, INDEX);
+
+		verify(indicesClient).refresh(any(RefreshRequest.class));
+		verify(client, times(3)).search(any(SearchRequest.class), eq(EntityAsMap.class));
+		assertThat(searchResultCache.getStatistics().hitCount()).isEqualTo(1);
+	}
+
+	private static BulkResponseItem bulkResponseItem(String id) {
+		return BulkResponseItem.of(b -> b //
+				.operationType(OperationType.Index) //
+				.index("foo") //
+				.id(id) //
+				.status(201) //
+				.result("created") //
+				.seqNo(1L) //
+				.primaryTerm(1L));
+	}
+
+	private static MultiSearchResponseItem<EntityAsMap> msearchResultItem(String id) {
+
+		EntityAsMap source = new EntityAsMap();
+		source.put("id", id);
+		source.put("text", "text " + id);
+
+		Hit<EntityAsMap> hit = new Hit.Builder<EntityAsMap>() //
+				.index("foo") //
+				.id(id) //
+				.source(source) //
+				.build();
+		MultiSearchItem<EntityAsMap> item = new MultiSearchItem.Builder<EntityAsMap>() //
+				.took(1L) //
+				.timedOut(false) //
+				.shards(sb -> sb.total(1).successful(1).failed(0)) //
+				.hits(hb -> hb.hits(hit)) //
+				.build();
+		return new MultiSearchResponseItem.Builder<EntityAsMap>().result(item).build();
+	}
+
+	@SafeVarargs
+	private static MsearchResponse<EntityAsMap> msearchResponse(MultiSearchResponseItem<EntityAsMap>... items) {
+		return new MsearchResponse.Builder<EntityAsMap>() //
+				.took(1L) //
+				.responses(List.of(items)) //
+				.build();
+	}
+
+	/**
+	 * waits until the thread is blocked waiting for the running request of another thread.
+	 */
+	private static void awaitWaiting(Thread thread) throws InterruptedException {
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+	}
+
+	private static GetResponse<EntityAsMap> getResponse(String id) {
+
+		EntityAsMap source = new EntityAsMap();
+		source.put("id", id);
+		source.put("text", "text " + id);
+
+		return GetResponse.of(b -> b //
+				.index("foo") //
+				.id(id) //
+				.found(true) //
+				.seqNo(1L) //
+				.primaryTerm(1L) //
+				.version(1L) //
+				.source(source));
+	}
+
+	private static SearchResponse<EntityAsMap> searchResponse(ScoredId... scoredIds) {
+
+		List<Hit<EntityAsMap>> hits = new ArrayList<>();
+		long shardDoc = 0;
+		for (ScoredId scoredId : scoredIds) {
+			EntityAsMap source = new EntityAsMap();
+			source.put("id", scoredId.id());
+			source.put("text", "text " + scoredId.id());
+
+			hits.add(new Hit.Builder<EntityAsMap>() //
+					.index("foo") //
+					.id(scoredId.id()) //
+					.score(scoredId.score()) //
+					.sort(FieldValue.of(scoredId.score()), FieldValue.of(shardDoc++)) //
+					.source(source) //
+					.build());
+		}
+
+		return new SearchResponse.Builder<EntityAsMap>() //
+				.took(1L) //
+				.timedOut(false) //
+				.pitId("pit-1") //
+				.shards(sb -> sb.total(1).successful(1).failed(0)) //
+				.hits(hb -> hb.hits(hits)) //
+				.build();
+	}
+
+	private record ScoredId(String id, double score) {
+	}
+
+	@Document(indexName = "foo")
+	static class SampleEntity {
+		@Nullable
+		@Id private String id;
+		@Nullable
+		@Field(type = FieldType.Text) private String text;
+
+		@Nullable
+		public String getText() {
+			return text;
+		}
+	}
+}
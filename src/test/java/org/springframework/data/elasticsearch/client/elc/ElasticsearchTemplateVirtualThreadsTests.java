@@ -0,0 +1,337 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch.core.ClosePointInTimeRequest;
+import co.elastic.clients.elasticsearch.core.ClosePointInTimeResponse;
+import co.elastic.clients.elasticsearch.core.GetRequest;
+import co.elastic.clients.elasticsearch.core.GetResponse;
+import co.elastic.clients.elasticsearch.core.MgetRequest;
+import co.elastic.clients.elasticsearch.core.MgetResponse;
+import co.elastic.clients.elasticsearch.core.MsearchRequest;
+import co.elastic.clients.elasticsearch.core.MsearchResponse;
+import co.elastic.clients.elasticsearch.core.OpenPointInTimeRequest;
+import co.elastic.clients.elasticsearch.core.OpenPointInTimeResponse;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.get.GetResult;
+import co.elastic.clients.elasticsearch.core.mget.MultiGetResponseItem;
+import co.elastic.clients.elasticsearch.core.msearch.MultiSearchItem;
+import co.elastic.clients.elasticsearch.core.msearch.MultiSearchResponseItem;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.ElasticsearchTransport;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.SearchHitsIterator;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.query.StringQuery;
+
+/**
+ * Runs the operations of the template that wait for concurrently running requests on virtual threads, with the task
+ * executor of the template using virtual threads as well, and checks that no virtual thread is pinned to its carrier
+ * thread while it waits. The JVM only reports pinned virtual threads when it is started with
+ * {@code -Djdk.tracePinnedThreads=full}, so these tests run with the {@code virtual-threads} profile:
+ * {@code ./mvnw -Pvirtual-threads test} on Java 21 to 23. From Java 24 on, waiting in a synchronized block no longer
+ * pins the carrier thread and nothing is reported.
+ */
+@ExtendWith(MockitoExtension.class)
+@EnabledForJreRange(min = JRE.JAVA_21)
+@EnabledIfSystemProperty(named = "jdk.tracePinnedThreads", matches = ".+")
+class ElasticsearchTemplateVirtualThreadsTests {
+
+	private static final IndexCoordinates INDEX = IndexCoordinates.of("foo");
+	private static final int CALLERS = 8;
+	private static final long REQUEST_MILLIS = 10;
+
+	@Mock private ElasticsearchClient client;
+	@Mock private ElasticsearchTransport transport;
+
+	private ElasticsearchTemplate template;
+	private ExecutorService virtualThreads;
+	private PrintStream originalOut;
+	private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+	@BeforeEach
+	void setUp() throws ReflectiveOperationException {
+
+		doReturn(transport).when(client)._transport();
+		doReturn(new JacksonJsonpMapper()).when(transport).jsonpMapper();
+
+		MappingElasticsearchConverter converter = new MappingElasticsearchConverter(
+				new SimpleElasticsearchMappingContext());
+		converter.afterPropertiesSet();
+		template = new ElasticsearchTemplate(client, converter);
+
+		// the project is compiled for Java 17, the method exists from Java 21 on
+		virtualThreads = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		template.setTaskExecutor(virtualThreads);
+
+		// the stack traces of pinned virtual threads are printed to System.out
+		originalOut = System.out;
+		System.setOut(new PrintStream(out, true, StandardCharsets.UTF_8));
+	}
+
+	@AfterEach
+	void tearDown() {
+
+		System.setOut(originalOut);
+		virtualThreads.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("should not pin virtual threads while waiting for the chunks of a multiGet")
+	void shouldNotPinVirtualThreadsWhileWaitingForTheChunksOfAMultiGet() throws Exception {
+
+		doAnswer(invocation -> {
+			MgetRequest request = invocation.getArgument(0);
+			Thread.sleep(REQUEST_MILLIS);
+			return mgetResponse(request.docs().get(0).id());
+		}).when(client).mget(any(MgetRequest.class), eq(EntityAsMap.class));
+		template.setMultiGetChunkSize(1);
+		template.setMultiGetConcurrency(4);
+
+		List<List<MultiGetItem<SampleEntity>>> results = onVirtualThreads(CALLERS,
+				() -> template.multiGet(Query.multiGetQuery(List.of("1", "2", "3", "4", "5", "6", "7", "8")),
+						SampleEntity.class, INDEX));
+
+		assertThat(results).allSatisfy(items -> assertThat(items).hasSize(8).noneMatch(MultiGetItem::isFailed));
+		assertNoPinnedVirtualThreads();
+	}
+
+	@Test
+	@DisplayName("should not pin virtual threads while waiting for a coalesced get")
+	void shouldNotPinVirtualThreadsWhileWaitingForACoalescedGet() throws Exception {
+
+		doAnswer(invocation -> {
+			Thread.sleep(REQUEST_MILLIS);
+			return getResponse("42");
+		}).when(client).get(any(GetRequest.class), eq(EntityAsMap.class));
+		template.setGetCoalescing(true);
+
+		List<SampleEntity> results = onVirtualThreads(CALLERS, () -> template.get("42", SampleEntity.class, INDEX));
+
+		assertThat(results).allSatisfy(entity -> assertThat(entity.getText()).isEqualTo("text 42"));
+		assertNoPinnedVirtualThreads();
+	}
+
+	@Test
+	@DisplayName("should not pin virtual threads while waiting for a batch of searches")
+	void shouldNotPinVirtualThreadsWhileWaitingForABatchOfSearches() throws Exception {
+
+		doAnswer(invocation -> {
+			MsearchRequest request = invocation.getArgument(0);
+			Thread.sleep(REQUEST_MILLIS);
+			return msearchResponse(request.searches().size());
+		}).when(client).msearch(any(MsearchRequest.class), eq(EntityAsMap.class));
+		template.setSearchBatchingWindow(Duration.ofMillis(20));
+		template.setMaxSearchBatchSize(CALLERS / 2);
+
+		List<SearchHits<SampleEntity>> results = onVirtualThreads(CALLERS,
+				() -> template.search(Query.findAll(), SampleEntity.class, INDEX));
+
+		assertThat(results).allSatisfy(searchHits -> assertThat(searchHits.getSearchHits()).hasSize(1));
+		assertNoPinnedVirtualThreads();
+	}
+
+	@Test
+	@DisplayName("should not pin virtual threads while waiting for the prefetched pages of a stream")
+	void shouldNotPinVirtualThreadsWhileWaitingForThePrefetchedPagesOfAStream() throws Exception {
+
+		doReturn(OpenPointInTimeResponse.of(b -> b //
+				.id("pit-1") //
+				.shards(sb -> sb.total(1).successful(1).failed(0)))) //
+				.when(client).openPointInTime(any(OpenPointInTimeRequest.class));
+		doReturn(ClosePointInTimeResponse.of(b -> b.succeeded(true).numFreed(1))) //
+				.when(client).closePointInTime(any(ClosePointInTimeRequest.class));
+		AtomicInteger pages = new AtomicInteger();
+		doAnswer(invocation -> {
+			Thread.sleep(REQUEST_MILLIS);
+			int page = pages.incrementAndGet();
+			return page <= 4 ? searchResponse(String.valueOf(page)) : searchResponse();
+		}).when(client).search(any(SearchRequest.class), eq(EntityAsMap.class));
+
+		Query query = StringQuery.builder("{\"match_all\":{}}") //
+				.withPageable(PageRequest.of(0, 1)) //
+				.withStreamType(Query.StreamType.POINT_IN_TIME) //
+				.withStreamPrefetchPages(2) //
+				.build();
+
+		List<List<String>> results = onVirtualThreads(1, () -> {
+			try (SearchHitsIterator<SampleEntity> iterator = template.searchForStream(query, SampleEntity.class, INDEX)) {
+				List<String> ids = new ArrayList<>();
+				iterator.forEachRemaining(searchHit -> ids.add(searchHit.getId()));
+				return ids;
+			}
+		});
+
+		assertThat(results).singleElement().isEqualTo(List.of("1", "2", "3", "4"));
+		assertNoPinnedVirtualThreads();
+	}
+
+	/**
+	 * runs the call on the given number of virtual threads at the same time and returns their results.
+	 */
+	private <R> List<R> onVirtualThreads(int callers, Callable<R> call) throws Exception {
+
+		List<Future<R>> futures = new ArrayList<>(callers);
+		for (int i = 0; i < callers; i++) {
+			futures.add(virtualThreads.submit(call));
+		}
+
+		List<R> results = new ArrayList<>(callers);
+		for (Future<R> future : futures) {
+			results.add(future.get(10, TimeUnit.SECONDS));
+		}
+		return results;
+	}
+
+	private void assertNoPinnedVirtualThreads() {
+
+		System.out.flush();
+		assertThat(out.toString(StandardCharsets.UTF_8)) //
+				.doesNotContain("onPinned") //
+				.doesNotContain("<== monitors");
+	}
+
+	private static MgetResponse<EntityAsMap> mgetResponse(String id) {
+
+		GetResult<EntityAsMap> result = new GetResult.Builder<EntityAsMap>() //
+				.index("foo") //
+				.id(id) //
+				.found(true) //
+				.source(source(id)) //
+				.build();
+		return new MgetResponse.Builder<EntityAsMap>() //
+				.docs(new MultiGetResponseItem.Builder<EntityAsMap>().result(result).build()) //
+				.build();
+	}
+
+	private static GetResponse<EntityAsMap> getResponse(String id) {
+
+		return GetResponse.of(b -> b //
+				.index("foo") //
+				.id(id) //
+				.found(true) //
+				.source(source(id)));
+	}
+
+	private static MsearchResponse<EntityAsMap> msearchResponse(int numberOfSearches) {
+
+		List<MultiSearchResponseItem<EntityAsMap>> items = new ArrayList<>(numberOfSearches);
+		for (int i = 0; i < numberOfSearches; i++) {
+			Hit<EntityAsMap> hit = hit(String.valueOf(i), i);
+			MultiSearchItem<EntityAsMap> item = new MultiSearchItem.Builder<EntityAsMap>() //
+					.took(1L) //
+					.timedOut(false) //
+					.shards(sb -> sb.total(1).successful(1).failed(0)) //
+					.hits(hb -> hb.hits(hit)) //
+					.build();
+			items.add(new MultiSearchResponseItem.Builder<EntityAsMap>().result(item).build());
+		}
+
+		return new MsearchResponse.Builder<EntityAsMap>() //
+				.took(1L) //
+				.responses(items) //
+				.build();
+	}
+
+	private static SearchResponse<EntityAsMap> searchResponse(String... ids) {
+
+		List<Hit<EntityAsMap>> hits = new ArrayList<>();
+		for (String id : ids) {
+			hits.add(hit(id, Long.parseLong(id)));
+		}
+
+		return new SearchResponse.Builder<EntityAsMap>() //
+				.took(1L) //
+				.timedOut(false) //
+				.pitId("pit-1") //
+				.shards(sb -> sb.total(1).successful(1).failed(0)) //
+				.hits(hb -> hb.hits(hits)) //
+				.build();
+	}
+
+	private static Hit<EntityAsMap> hit(String id, long shardDoc) {
+
+		return new Hit.Builder<EntityAsMap>() //
+				.index("foo") //
+				.id(id) //
+				.sort(FieldValue.of(shardDoc)) //
+				.source(source(id)) //
+				.build();
+	}
+
+	private static EntityAsMap source(String id) {
+
+		EntityAsMap source = new EntityAsMap();
+		source.put("id", id);
+		source.put("text", "text " + id);
+		return source;
+	}
+
+	@Document(indexName = "foo")
+	static class SampleEntity {
+		@Nullable
+		@Id private String id;
+		@Nullable
+		@Field(type = FieldType.Text) private String text;
+
+		@Nullable
+		public String getText() {
+			return text;
+		}
+	}
+}
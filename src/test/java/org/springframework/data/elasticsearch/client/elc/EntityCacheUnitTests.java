@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import co.elastic.clients.elasticsearch.core.GetRequest;
+import co.elastic.clients.elasticsearch.core.GetResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+class EntityCacheUnitTests {
+
+	private final List<GetRequest> executedRequests = new ArrayList<>();
+	private final AtomicLong seqNo = new AtomicLong(1);
+
+	@Test
+	@DisplayName("should read a new entity from a copy of the cached document without a request")
+	void shouldReadANewEntityFromACopyOfTheCachedDocumentWithoutARequest() {
+
+		EntityCache cache = new EntityCache();
+
+		SampleEntity first = cache.get(getRequest("foo", "42"), this::execute, this::read);
+		SampleEntity second = cache.get(getRequest("foo", "42"), this::execute, this::read);
+
+		assertThat(first).isNotNull();
+		assertThat(second).isNotNull();
+		assertThat(second).isNotSameAs(first);
+		assertThat(second.document()).isNotSameAs(first.document());
+		assertThat(executedRequests).hasSize(1);
+		assertThat(cache.getStatistics().hitCount()).isEqualTo(1);
+		assertThat(cache.getStatistics().missCount()).isEqualTo(1);
+
+		second.document().put("id", "changed");
+		Document cached = cache.getIfPresent("foo", "42", null);
+		assertThat(cached).isNotNull();
+		assertThat(cached.get("id")).isEqualTo("42");
+		assertThat(cached.getSeqNo()).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("should use the cached document if the revalidation returns the same seqNo")
+	void shouldUseTheCachedDocumentIfTheRevalidationReturnsTheSameSeqNo() {
+
+		EntityCache cache = new EntityCache(10, Duration.ofMinutes(1), true);
+
+		cache.get(getRequest("foo", "42"), this::execute, this::read);
+		cache.get(getRequest("foo", "42"), this::execute, this::read);
+
+		assertThat(executedRequests).hasSize(2);
+		assertThat(executedRequests.get(1).source()).isNotNull();
+		assertThat(cache.getStatistics().revalidationCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("should read the document again if the revalidation returns a different seqNo")
+	void shouldReadTheDocumentAgainIfTheRevalidationReturnsADifferentSeqNo() {
+
+		EntityCache cache = new EntityCache(10, Duration.ofMinutes(1), true);
+
+		cache.get(getRequest("foo", "42"), this::execute, this::read);
+		seqNo.incrementAndGet();
+		SampleEntity second = cache.get(getRequest("foo", "42"), this::execute, this::read);
+
+		assertThat(second).isNotNull();
+		assertThat(second.document().getSeqNo()).isEqualTo(2L);
+		assertThat(executedRequests).hasSize(3);
+		assertThat(cache.getStatistics().missCount()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("should not cache a document that was written while it was read")
+	void shouldNotCacheADocumentThatWasWrittenWhileItWasRead() {
+
+		EntityCache cache = new EntityCache();
+
+		cache.get(getRequest("foo", "42"), request -> {
+			cache.evict("foo", "42");
+			return execute(request);
+		}, this::read);
+
+		assertThat(cache.getIfPresent("foo", "42", null)).isNull();
+	}
+
+	@Test
+	@DisplayName("should only return the cached document for the same routing")
+	void shouldOnlyReturnTheCachedDocumentForTheSameRouting() {
+
+		EntityCache cache = new EntityCache();
+
+		cache.get(getRequest("foo", "42"), this::execute, this::read);
+
+		assertThat(cache.getIfPresent("foo", "42", null)).isNotNull();
+		assertThat(cache.getIfPresent("foo", "42", "")).isNotNull();
+		assertThat(cache.getIfPresent("foo", "42", "other")).isNull();
+	}
+
+	@Test
+	@DisplayName("should evict documents read through an alias when the concrete index is written")
+	void shouldEvictDocumentsReadThroughAnAliasWhenTheConcreteIndexIsWritten() {
+
+		EntityCache cache = new EntityCache();
+
+		cache.get(getRequest("foo-alias", "42"), this::execute, this::read);
+		cache.get(getRequest("foo-alias", "43"), this::execute, this::read);
+
+		assertThat(cache.getIfPresent("foo-alias", "42", null)).isNotNull();
+		assertThat(cache.getIfPresent("foo-1", "42", null)).isNotNull();
+
+		cache.evict("foo-1", "42");
+		assertThat(cache.getIfPresent("foo-alias", "42", null)).isNull();
+
+		cache.invalidate(IndexCoordinates.of("foo-1"));
+		assertThat(cache.getIfPresent("foo-alias", "43", null)).isNull();
+	}
+
+	@Test
+	@DisplayName("should invalidate documents read through an alias when the alias is written")
+	void shouldInvalidateDocumentsReadThroughAnAliasWhenTheAliasIsWritten() {
+
+		EntityCache cache = new EntityCache();
+
+		cache.get(getRequest("foo-alias", "42"), this::execute, this::read);
+		cache.invalidate(IndexCoordinates.of("foo-al*"));
+
+		assertThat(cache.getIfPresent("foo-1", "42", null)).isNull();
+	}
+
+	private static GetRequest getRequest(String index, String id) {
+		return GetRequest.of(grb -> grb.index(index).id(id));
+	}
+
+	private GetResponse<EntityAsMap> execute(GetRequest getRequest) {
+
+		executedRequests.add(getRequest);
+
+		EntityAsMap source = new EntityAsMap();
+		source.put("id", getRequest.id());
+
+		// an alias named foo-alias points to the index foo-1
+		String index = getRequest.index().equals("foo-alias") ? "foo-1" : getRequest.index();
+
+		return new GetResponse.Builder<EntityAsMap>() //
+				.index(index) //
+				.id(getRequest.id()) //
+				.found(true) //
+				.seqNo(seqNo.get()) //
+				.primaryTerm(1L) //
+				.source(source) //
+				.build();
+	}
+
+	@Nullable
+	private SampleEntity read(@Nullable Document document) {
+		// creates a new instance for every read like the converter
+		return document != null ? new SampleEntity(document) : null;
+	}
+
+	private record SampleEntity(Document document) {
+	}
+}
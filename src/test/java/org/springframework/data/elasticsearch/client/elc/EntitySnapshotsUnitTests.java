@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+
+class EntitySnapshotsUnitTests {
+
+	@Test
+	@DisplayName("should create an update with the changed fields guarded by seqNo and primaryTerm")
+	void shouldCreateAnUpdateWithTheChangedFieldsGuardedBySeqNoAndPrimaryTerm() {
+
+		EntitySnapshots snapshots = new EntitySnapshots();
+		snapshots.put("foo", "42", source("id", "42", "name", "old", "count", 1), 7, 2);
+
+		UpdateQuery updateQuery = snapshots.partialUpdate(indexQuery("42"), "foo",
+				document("id", "42", "name", "new", "count", 1));
+
+		assertThat(updateQuery).isNotNull();
+		assertThat(updateQuery.getId()).isEqualTo("42");
+		assertThat(updateQuery.getIndexName()).isEqualTo("foo");
+		assertThat(updateQuery.getDocument()).containsExactly(Map.entry("name", "new"));
+		assertThat(updateQuery.getIfSeqNo()).isEqualTo(7L);
+		assertThat(updateQuery.getIfPrimaryTerm()).isEqualTo(2L);
+		assertThat(snapshots.getStatistics().partialUpdateCount()).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("should compare numbers and nested values by their value")
+	void shouldCompareNumbersAndNestedValuesByTheirValue() {
+
+		EntitySnapshots snapshots = new EntitySnapshots();
+		snapshots.put("foo", "42", source("count", 1, "ratio", 0.5, "tags", List.of("a", 2), "inner", Map.of("x", 3)), 7,
+				2);
+
+		UpdateQuery updateQuery = snapshots.partialUpdate(indexQuery("42"), "foo",
+				document("count", 1L, "ratio", 0.5f, "tags", List.of("a", 2L), "inner", Map.of("x", 3L)));
+
+		assertThat(updateQuery).isNotNull();
+		assertThat(updateQuery.getDocument()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("should index the entity if a field or an object property would be removed")
+	void shouldIndexTheEntityIfAFieldOrAnObjectPropertyWouldBeRemoved() {
+
+		EntitySnapshots snapshots = new EntitySnapshots();
+		snapshots.put("foo", "42", source("name", "old", "inner", Map.of("x", 1, "y", 2)), 7, 2);
+
+		assertThat(snapshots.partialUpdate(indexQuery("42"), "foo", document("inner", Map.of("x", 1, "y", 2)))).isNull();
+		assertThat(snapshots.partialUpdate(indexQuery("42"), "foo", document("name", "old", "inner", Map.of("x", 1))))
+				.isNull();
+		assertThat(snapshots.getStatistics().fullIndexCount()).isEqualTo(2L);
+	}
+
+	@Test
+	@DisplayName("should index the entity without a matching snapshot")
+	void shouldIndexTheEntityWithoutAMatchingSnapshot() {
+
+		EntitySnapshots snapshots = new EntitySnapshots();
+		snapshots.put("foo", "42", source("name", "old"), 7, 2);
+		Document document = document("name", "new");
+
+		assertThat(snapshots.partialUpdate(indexQuery("43"), "foo", document)).isNull();
+		assertThat(snapshots.partialUpdate(indexQuery("42"), "bar", document)).isNull();
+
+		IndexQuery changedSeqNo = indexQuery("42");
+		changedSeqNo.setSeqNo(8L);
+		changedSeqNo.setPrimaryTerm(2L);
+		assertThat(snapshots.partialUpdate(changedSeqNo, "foo", document)).isNull();
+
+		IndexQuery create = indexQuery("42");
+		create.setOpType(IndexQuery.OpType.CREATE);
+		assertThat(snapshots.partialUpdate(create, "foo", document)).isNull();
+
+		snapshots.evict("foo", "42");
+		assertThat(snapshots.partialUpdate(indexQuery("42"), "foo", document)).isNull();
+	}
+
+	private static IndexQuery indexQuery(String id) {
+		return new IndexQueryBuilder().withId(id).withObject(new Object()).build();
+	}
+
+	private static Map<String, Object> source(Object... keysAndValues) {
+
+		Map<String, Object> source = new LinkedHashMap<>();
+		for (int i = 0; i < keysAndValues.length; i += 2) {
+			source.put((String) keysAndValues[i], keysAndValues[i + 1]);
+		}
+		return source;
+	}
+
+	private static Document document(Object... keysAndValues) {
+		return Document.from(source(keysAndValues));
+	}
+}
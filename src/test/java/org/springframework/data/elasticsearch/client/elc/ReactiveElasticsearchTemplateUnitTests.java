@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import co.elastic.clients.elasticsearch.core.GetRequest;
+import co.elastic.clients.elasticsearch.core.GetResponse;
+import co.elastic.clients.elasticsearch.core.MsearchRequest;
+import co.elastic.clients.elasticsearch.core.MsearchResponse;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.msearch.MultiSearchItem;
+import co.elastic.clients.elasticsearch.core.msearch.MultiSearchResponseItem;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveElasticsearchTemplateUnitTests {
+
+	@Mock private ReactiveElasticsearchClient client;
+	@Mock private ElasticsearchTransport transport;
+
+	private ReactiveElasticsearchTemplate template;
+
+	@BeforeEach
+	void setUp() {
+
+		doReturn(transport).when(client)._transport();
+		doReturn(new JacksonJsonpMapper()).when(transport).jsonpMapper();
+
+		MappingElasticsearchConverter converter = new MappingElasticsearchConverter(
+				new SimpleElasticsearchMappingContext());
+		converter.afterPropertiesSet();
+		template = new ReactiveElasticsearchTemplate(client, converter);
+	}
+
+	@Test
+	@DisplayName("should send one get request for concurrent gets of the same document")
+	void shouldSendOneGetRequestForConcurrentGetsOfTheSameDocument() {
+
+		Sinks.One<GetResponse<EntityAsMap>> response = Sinks.one();
+		doReturn(response.asMono()).when(client).get(any(GetRequest.class), eq(EntityAsMap.class));
+		template.setGetCoalescing(true);
+
+		List<SampleEntity> entities = new ArrayList<>();
+		template.get("42", SampleEntity.class, IndexCoordinates.of("foo")).subscribe(entities::add);
+		template.get("42", SampleEntity.class, IndexCoordinates.of("foo")).subscribe(entities::add);
+		response.tryEmitValue(getResponse("42"));
+
+		verify(client, times(1)).get(any(GetRequest.class), eq(EntityAsMap.class));
+		assertThat(entities).hasSize(2);
+		assertThat(entities.get(0).getText()).isEqualTo("text 42");
+		assertThat(entities.get(0)).isNotSameAs(entities.get(1));
+	}
+
+	@Test
+	@DisplayName("should send a get request for every get without coalescing")
+	void shouldSendAGetRequestForEveryGetWithoutCoalescing() {
+
+		doReturn(Mono.just(getResponse("42"))).when(client).get(any(GetRequest.class), eq(EntityAsMap.class));
+
+		template.get("42", SampleEntity.class, IndexCoordinates.of("foo")).block();
+		template.get("42", SampleEntity.class, IndexCoordinates.of("foo")).block();
+
+		verify(client, times(2)).get(any(GetRequest.class), eq(EntityAsMap.class));
+	}
+
+	@Test
+	@DisplayName("should send searches started within the batching window in one msearch request")
+	void shouldSendSearchesStartedWithinTheBatchingWindowInOneMsearchRequest() {
+
+		doReturn(Mono.just(msearchResponse("1", "2"))).when(client).msearch(any(MsearchRequest.class),
+				eq(EntityAsMap.class));
+		template.setSearchBatchingWindow(Duration.ofSeconds(10));
+		template.setMaxSearchBatchSize(2);
+
+		Query query = Query.findAll();
+		query.setPageable(PageRequest.of(0, 10));
+
+		var results = Mono.zip( //
+				template.search(query, SampleEntity.class, IndexCoordinates.of("foo")).map(SearchHit::getContent)
+						.collectList(), //
+				template.search(query, SampleEntity.class, IndexCoordinates.of("foo")).map(SearchHit::getContent)
+						.collectList()) //
+				.block(Duration.ofSeconds(5));
+
+		verify(client, times(1)).msearch(any(MsearchRequest.class), eq(EntityAsMap.class));
+		verify(client, never()).search(any(SearchRequest.class), eq(EntityAsMap.class));
+		assertThat(results).isNotNull();
+		assertThat(results.getT1()).extracting(SampleEntity::getText).containsExactly("text 1");
+		assertThat(results.getT2()).extracting(SampleEntity::getText).containsExactly("text 2");
+	}
+
+	private static MsearchResponse<EntityAsMap> msearchResponse(String... ids) {
+
+		List<MultiSearchResponseItem<EntityAsMap>> responseItems = new ArrayList<>();
+		for (String id : ids) {
+			EntityAsMap source = new EntityAsMap();
+			source.put("id", id);
+			source.put("text", "text " + id);
+
+			Hit<EntityAsMap> hit = new Hit.Builder<EntityAsMap>() //
+					.index("foo") //
+					.id(id) //
+					.source(source) //
+					.build();
+			MultiSearchItem<EntityAsMap> item = new MultiSearchItem.Builder<EntityAsMap>() //
+					.took(1L) //
+					.timedOut(false) //
+					.shards(sb -> sb.total(1).successful(1).failed(0)) //
+					.hits(hb -> hb.hits(hit)) //
+					.build();
+			responseItems.add(new MultiSearchResponseItem.Builder<EntityAsMap>().result(item).build());
+		}
+
+		return new MsearchResponse.Builder<EntityAsMap>() //
+				.took(1L) //
+				.responses(responseItems) //
+				.build();
+	}
+
+	private static GetResponse<EntityAsMap> getResponse(String id) {
+
+		EntityAsMap source = new EntityAsMap();
+		source.put("id", id);
+		source.put("text", "text " + id);
+
+		return GetResponse.of(b -> b //
+				.index("foo") //
+				.id(id) //
+				.found(true) //
+				.seqNo(1L) //
+				.primaryTerm(1L) //
+				.version(1L) //
+				.source(source));
+	}
+
+	@Document(indexName = "foo")
+	static class SampleEntity {
+		@Nullable
+		@Id private String id;
+		@Nullable
+		@Field(type = FieldType.Text) private String text;
+
+		@Nullable
+		public String getText() {
+			return text;
+		}
+	}
+}
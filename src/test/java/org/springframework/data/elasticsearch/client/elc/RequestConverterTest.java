@@ -20,26 +20,40 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import co.elastic.clients.elasticsearch.core.UpdateRequest;
+import co.elastic.clients.elasticsearch.core.mget.MultiGetOperation;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.util.BinaryData;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
 import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
 import org.springframework.data.elasticsearch.core.query.Criteria;
 import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.DeleteByIdQuery;
 import org.springframework.data.elasticsearch.core.query.DeleteQuery;
 import org.springframework.data.elasticsearch.core.query.DocValueField;
+import org.springframework.data.elasticsearch.core.query.HighlightQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.data.elasticsearch.core.query.StringQuery;
 import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.data.elasticsearch.core.query.highlight.Highlight;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightField;
 
 /**
  * @author Peter-Josef Meisch
@@ -102,6 +116,134 @@ class RequestConverterTest {
 		@Field(type = FieldType.Text) private String text;
 	}
 
+	@Test
+	@DisplayName("should write the converted entity as document of an index request")
+	void shouldWriteTheConvertedEntityAsDocumentOfAnIndexRequest() {
+
+		var entity = new SampleEntity();
+		entity.id = "42";
+		entity.text = "some text";
+		var indexQuery = new IndexQueryBuilder().withId("42").withObject(entity).build();
+
+		var indexRequest = requestConverter.documentIndexRequest(indexQuery, IndexCoordinates.of("foo"), null);
+
+		var json = JsonUtils.toJson(indexRequest.document(), jsonpMapper);
+		assertThat(json).contains("\"text\":\"some text\"");
+	}
+
+	@Test
+	@DisplayName("should send the JSON source of an index query without parsing it")
+	void shouldSendTheJsonSourceOfAnIndexQueryWithoutParsingIt() {
+
+		var source = "{\"text\" : \"some text\",   \"number\":1.50}";
+		var queries = List.of( //
+				new IndexQueryBuilder().withId("1").withSource(source).build(), //
+				new IndexQueryBuilder().withId("2").withSource(source.getBytes(StandardCharsets.UTF_8)).build(), //
+				new IndexQueryBuilder().withId("3").withSource(ByteBuffer.wrap(source.getBytes(StandardCharsets.UTF_8)))
+						.build());
+
+		var bulkRequest = requestConverter.documentBulkRequest(queries, BulkOptions.defaultOptions(),
+				IndexCoordinates.of("foo"), null);
+
+		assertThat(bulkRequest.operations()).hasSize(3).allSatisfy(operation -> {
+			var document = operation.index().document();
+			assertThat(document).isInstanceOf(BinaryData.class);
+			var bytes = ((BinaryData) document).asByteBuffer();
+			assertThat(StandardCharsets.UTF_8.decode(bytes).toString()).isEqualTo(source);
+		});
+	}
+
+	@Test
+	@DisplayName("should parse a JSON source with line breaks instead of writing it into the bulk request")
+	void shouldParseAJsonSourceWithLineBreaksInsteadOfWritingItIntoTheBulkRequest() {
+
+		var source = "{\n  \"text\" : \"some text\",\r\n  \"number\" : 1.5\n}";
+		var queries = List.of( //
+				new IndexQueryBuilder().withId("1").withSource(source).build(), //
+				new IndexQueryBuilder().withId("2").withSource(source.getBytes(StandardCharsets.UTF_8)).build());
+
+		var bulkRequest = requestConverter.documentBulkRequest(queries, BulkOptions.defaultOptions(),
+				IndexCoordinates.of("foo"), null);
+
+		assertThat(bulkRequest.operations()).hasSize(2).allSatisfy(operation -> {
+			var document = operation.index().document();
+			assertThat(document).isNotInstanceOf(BinaryData.class).isInstanceOf(Map.class);
+			assertThat((Map<?, ?>) document).containsEntry("text", "some text").containsEntry("number", 1.5);
+		});
+	}
+
+	@Test
+	@DisplayName("should write the already converted object into a bulk operation")
+	void shouldWriteTheAlreadyConvertedObjectIntoABulkOperation() {
+
+		var query = new IndexQueryBuilder().withId("1").withObject(new Object()).build();
+		var convertedObject = org.springframework.data.elasticsearch.core.document.Document.create();
+		convertedObject.put("text", "converted");
+
+		var operation = requestConverter.documentBulkOperation(query, convertedObject, IndexCoordinates.of("foo"), null);
+
+		assertThat(operation.index().document()).isSameAs(convertedObject);
+	}
+
+	@Test
+	@DisplayName("should create bulk delete operations with the routing of the queries")
+	void shouldCreateBulkDeleteOperationsWithTheRoutingOfTheQueries() {
+
+		var queries = List.of(DeleteByIdQuery.of("1"), DeleteByIdQuery.of("2", "route-2"));
+
+		var bulkRequest = requestConverter.documentBulkRequest(queries, BulkOptions.defaultOptions(),
+				IndexCoordinates.of("foo"), null);
+
+		assertThat(bulkRequest.operations()).hasSize(2).allSatisfy(operation -> {
+			assertThat(operation.isDelete()).isTrue();
+			assertThat(operation.delete().index()).isEqualTo("foo");
+		});
+		assertThat(bulkRequest.operations().get(0).delete().id()).isEqualTo("1");
+		assertThat(bulkRequest.operations().get(0).delete().routing()).isNull();
+		assertThat(bulkRequest.operations().get(1).delete().id()).isEqualTo("2");
+		assertThat(bulkRequest.operations().get(1).delete().routing()).isEqualTo("route-2");
+	}
+
+	@Test
+	@DisplayName("should create a search request that stops after the first match for exists")
+	void shouldCreateASearchRequestThatStopsAfterTheFirstMatchForExists() {
+
+		var query = new CriteriaQuery(new Criteria("text").is("foo"));
+		query.setPageable(PageRequest.of(1, 10));
+		query.addSort(Sort.by("text"));
+		query.setHighlightQuery(new HighlightQuery(new Highlight(List.of(new HighlightField("text"))), null));
+
+		var searchRequest = requestConverter.existsSearchRequest(query, null, SampleEntity.class,
+				IndexCoordinates.of("foo"));
+
+		assertThat(searchRequest.from()).isEqualTo(0);
+		assertThat(searchRequest.size()).isEqualTo(1);
+		assertThat(searchRequest.terminateAfter()).isEqualTo(1L);
+		assertThat(searchRequest.trackTotalHits().isEnabled()).isTrue();
+		assertThat(searchRequest.trackTotalHits().enabled()).isFalse();
+		assertThat(searchRequest.source().fetch()).isFalse();
+		assertThat(searchRequest.query()).isNotNull();
+		assertThat(searchRequest.sort()).isEmpty();
+		assertThat(searchRequest.highlight()).isNull();
+		assertThat(searchRequest.rescore()).isEmpty();
+		assertThat(searchRequest.scriptFields()).isEmpty();
+		assertThat(searchRequest.aggregations()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("should split the ids of a multiGet query into chunks")
+	void shouldSplitTheIdsOfAMultiGetQueryIntoChunks() {
+
+		var query = Query.multiGetQuery(List.of("1", "2", "3", "4", "5"));
+
+		var requests = requestConverter.documentMgetRequests(query, SampleEntity.class, IndexCoordinates.of("foo"), 2);
+
+		assertThat(requests).hasSize(3);
+		assertThat(requests.stream().flatMap(request -> request.docs().stream()).map(MultiGetOperation::id))
+				.containsExactly("1", "2", "3", "4", "5");
+		assertThat(requests.get(2).docs()).hasSize(1);
+	}
+
 	@Test // #3231
 	@DisplayName("should not use updatequery id for script id")
 	void shouldNotUseUpdatequeryIdForScriptId() {
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import co.elastic.clients.elasticsearch._types.ExpandWildcard;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SearchType;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.ResponseBody;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+
+class SearchResultCacheUnitTests {
+
+	private final SearchResultCache cache = new SearchResultCache();
+	private final AtomicInteger executedSearches = new AtomicInteger();
+
+	@Test
+	@DisplayName("should return the cached response for the same search")
+	void shouldReturnTheCachedResponseForTheSameSearch() {
+
+		ResponseBody<EntityAsMap> first = cache.get(key("foo", "{\"size\":10}"), this::search);
+		ResponseBody<EntityAsMap> second = cache.get(key("foo", "{\"size\":10}"), this::search);
+		cache.get(key("foo", "{\"size\":20}"), this::search);
+
+		assertThat(second).isSameAs(first);
+		assertThat(executedSearches.get()).isEqualTo(2);
+		assertThat(cache.getStatistics()).isEqualTo(new SearchResultCache.Statistics(1, 2, 0, 0, 2));
+	}
+
+	@Test
+	@DisplayName("should invalidate the searches of a written index")
+	void shouldInvalidateTheSearchesOfAWrittenIndex() {
+
+		cache.get(key("foo", "{}"), this::search);
+		cache.get(key("foo-*", "{}"), this::search);
+		cache.get(key("bar", "{}"), this::search);
+
+		cache.invalidate(IndexCoordinates.of("foo-1"));
+
+		assertThat(cache.getStatistics().invalidationCount()).isEqualTo(1);
+
+		cache.invalidate(IndexCoordinates.of("bar"), List.of(new IndexQueryBuilder().withIndex("foo").build()));
+
+		assertThat(cache.getStatistics().invalidationCount()).isEqualTo(3);
+		assertThat(cache.getStatistics().size()).isEqualTo(0);
+	}
+
+	@Test
+	@DisplayName("should not cache a response of a search that ran while an index was written")
+	void shouldNotCacheAResponseOfASearchThatRanWhileAnIndexWasWritten() {
+
+		cache.get(key("foo", "{}"), () -> {
+			cache.invalidate(IndexCoordinates.of("foo"));
+			return search();
+		});
+		cache.get(key("foo", "{}"), this::search);
+
+		assertThat(executedSearches.get()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("should not cache the responses of searches of an index within the refresh interval after a write")
+	void shouldNotCacheTheResponsesOfSearchesOfAnIndexWithinTheRefreshIntervalAfterAWrite() {
+
+		SearchResultCache cache = new SearchResultCache(10, Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+		cache.invalidate(IndexCoordinates.of("foo-1"));
+		cache.get(key("foo-*", "{}"), this::search);
+		cache.get(key("foo-*", "{}"), this::search);
+		cache.get(key("bar", "{}"), this::search);
+		cache.get(key("bar", "{}"), this::search);
+
+		assertThat(executedSearches.get()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("should cache the responses of searches of a written index again after a refresh")
+	void shouldCacheTheResponsesOfSearchesOfAWrittenIndexAgainAfterARefresh() {
+
+		SearchResultCache cache = new SearchResultCache(10, Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+		cache.invalidate(IndexCoordinates.of("foo"));
+		long refreshStartedAt = System.nanoTime() + 1;
+		cache.get(key("foo", "{}"), this::search);
+		cache.refreshed(IndexCoordinates.of("foo"), refreshStartedAt);
+		cache.get(key("foo", "{}"), this::search);
+		cache.get(key("foo", "{}"), this::search);
+
+		assertThat(executedSearches.get()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("should not end the refresh interval of a write done after the refresh was started")
+	void shouldNotEndTheRefreshIntervalOfAWriteDoneAfterTheRefreshWasStarted() {
+
+		SearchResultCache cache = new SearchResultCache(10, Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+		long refreshStartedAt = System.nanoTime() - 1;
+		cache.invalidate(IndexCoordinates.of("foo"));
+		cache.refreshed(IndexCoordinates.of("foo"), refreshStartedAt);
+		cache.get(key("foo", "{}"), this::search);
+		cache.get(key("foo", "{}"), this::search);
+
+		assertThat(executedSearches.get()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("should evict the least recently used response when the maximum size is exceeded")
+	void shouldEvictTheLeastRecentlyUsedResponseWhenTheMaximumSizeIsExceeded() {
+
+		SearchResultCache cache = new SearchResultCache(2, Duration.ofMinutes(1));
+
+		cache.get(key("foo", "1"), this::search);
+		cache.get(key("foo", "2"), this::search);
+		cache.get(key("foo", "1"), this::search);
+		cache.get(key("foo", "3"), this::search);
+		cache.get(key("foo", "1"), this::search);
+
+		assertThat(executedSearches.get()).isEqualTo(3);
+		assertThat(cache.getStatistics().evictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("should evict expired responses")
+	void shouldEvictExpiredResponses() throws InterruptedException {
+
+		SearchResultCache cache = new SearchResultCache(10, Duration.ofMillis(1));
+
+		cache.get(key("foo", "{}"), this::search);
+		Thread.sleep(10);
+		cache.get(key("foo", "{}"), this::search);
+
+		assertThat(executedSearches.get()).isEqualTo(2);
+		assertThat(cache.getStatistics().evictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("should key searches by the URL parameters of the request")
+	void shouldKeySearchesByTheUrlParametersOfTheRequest() {
+
+		JacksonJsonpMapper jsonpMapper = new JacksonJsonpMapper();
+		SearchRequest plain = SearchRequest.of(b -> b.index("foo").size(10));
+
+		assertThat(SearchResultCache.Key.of(SearchRequest.of(b -> b.index("foo").size(10)), jsonpMapper))
+				.isEqualTo(SearchResultCache.Key.of(plain, jsonpMapper));
+		assertThat(List.of( //
+				SearchRequest.of(b -> b.index("foo").size(10).expandWildcards(ExpandWildcard.All)), //
+				SearchRequest.of(b -> b.index("foo").size(10).allowNoIndices(false)), //
+				SearchRequest.of(b -> b.index("foo").size(10).ignoreUnavailable(true)), //
+				SearchRequest.of(b -> b.index("foo").size(10).searchType(SearchType.DfsQueryThenFetch)), //
+				SearchRequest.of(b -> b.index("foo").size(10).includeNamedQueriesScore(true)), //
+				SearchRequest.of(b -> b.index("foo").size(10).routing("a")))) //
+				.allSatisfy(request -> assertThat(SearchResultCache.Key.of(request, jsonpMapper))
+						.isNotEqualTo(SearchResultCache.Key.of(plain, jsonpMapper)));
+	}
+
+	@Test
+	@DisplayName("should not cache the pages of point in time, search_after and scroll searches")
+	void shouldNotCacheThePagesOfPointInTimeSearchAfterAndScrollSearches() {
+
+		assertThat(SearchResultCache.canBeCached(SearchRequest.of(b -> b.index("foo")))).isTrue();
+		assertThat(SearchResultCache.canBeCached(SearchRequest.of(b -> b.pit(p -> p.id("pit-1"))))).isFalse();
+		assertThat(SearchResultCache.canBeCached(SearchRequest.of(b -> b.index("foo").searchAfter(FieldValue.of(1)))))
+				.isFalse();
+		assertThat(SearchResultCache.canBeCached(SearchRequest.of(b -> b.index("foo").scroll(t -> t.time("1m")))))
+				.isFalse();
+	}
+
+	private static SearchResultCache.Key key(String indexName, String body) {
+		return new SearchResultCache.Key(List.of(indexName), Map.of(), body);
+	}
+
+	private ResponseBody<EntityAsMap> search() {
+
+		executedSearches.incrementAndGet();
+		return new SearchResponse.Builder<EntityAsMap>() //
+				.took(1L) //
+				.timedOut(false) //
+				.shards(sb -> sb.total(1).successful(1).failed(0)) //
+				.hits(hb -> hb.hits(List.of())) //
+				.build();
+	}
+}
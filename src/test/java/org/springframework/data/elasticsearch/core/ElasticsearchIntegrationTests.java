@@ -254,6 +254,23 @@ public abstract class ElasticsearchIntegrationTests {
 		assertThat(count).isEqualTo(1);
 	}
 
+	@Test
+	@DisplayName("should check if a document matching a query exists")
+	void shouldCheckIfADocumentMatchingAQueryExists() {
+
+		SampleEntity sampleEntity = SampleEntity.builder().id(nextIdAsString()).message("some message")
+				.version(System.currentTimeMillis()).build();
+		operations.index(getIndexQuery(sampleEntity), IndexCoordinates.of(indexNameProvider.indexName()));
+
+		boolean exists = operations.exists(new CriteriaQuery(new Criteria("message").contains("some")),
+				SampleEntity.class, IndexCoordinates.of(indexNameProvider.indexName()));
+		boolean notExists = operations.exists(new CriteriaQuery(new Criteria("message").contains("other")),
+				SampleEntity.class, IndexCoordinates.of(indexNameProvider.indexName()));
+
+		assertThat(exists).isTrue();
+		assertThat(notExists).isFalse();
+	}
+
 	@Test // DATAES-722
 	public void shouldReturnObjectForGivenId() {
 
@@ -376,6 +393,39 @@ public abstract class ElasticsearchIntegrationTests {
 		assertThat(sampleEntities).hasSize(2);
 	}
 
+	@Test
+	@DisplayName("should return multiGet results of chunked requests in the order of the ids")
+	void shouldReturnMultiGetResultsOfChunkedRequestsInTheOrderOfTheIds() {
+
+		List<IndexQuery> indexQueries = createSampleEntitiesWithMessage("Test message", 25);
+		operations.bulkIndex(indexQueries, IndexCoordinates.of(indexNameProvider.indexName()));
+
+		List<String> ids = new ArrayList<>();
+		for (int i = indexQueries.size() - 1; i >= 0; i--) {
+			ids.add(indexQueries.get(i).getId());
+			if (i == 12) {
+				ids.add("not-existing-id");
+			}
+		}
+
+		AbstractElasticsearchTemplate template = (AbstractElasticsearchTemplate) operations;
+		int originalChunkSize = template.getMultiGetChunkSize();
+		template.setMultiGetChunkSize(4);
+
+		List<MultiGetItem<SampleEntity>> multiGetItems;
+		try {
+			multiGetItems = operations.multiGet(Query.multiGetQuery(ids), SampleEntity.class,
+					IndexCoordinates.of(indexNameProvider.indexName()));
+		} finally {
+			template.setMultiGetChunkSize(originalChunkSize);
+		}
+
+		assertThat(multiGetItems).hasSize(26);
+		assertThat(multiGetItems.get(13).hasItem()).isFalse();
+		assertThat(multiGetItems.stream().filter(MultiGetItem::hasItem).map(item -> item.getItem().getId()))
+				.containsExactlyElementsOf(ids.stream().filter(id -> !id.equals("not-existing-id")).toList());
+	}
+
 	@Test
 	public void shouldReturnSearchHitsForGivenSearchQuery() {
 
@@ -518,6 +568,39 @@ public abstract class ElasticsearchIntegrationTests {
 		});
 	}
 
+	@Test
+	@DisplayName("should index entities with bulk ingester")
+	void shouldIndexEntitiesWithBulkIngester() {
+
+		int numberOfEntities = 25;
+		List<Object> succeeded = Collections.synchronizedList(new ArrayList<>());
+		BulkIngesterOptions options = BulkIngesterOptions.builder() //
+				.withMaxOperations(10) //
+				.withMaxConcurrentRequests(2) //
+				.withListener(new BulkIngesterListener() {
+					@Override
+					public void onSuccess(Object query, IndexedObjectInformation indexedObjectInformation) {
+						succeeded.add(query);
+					}
+				}) //
+				.build();
+
+		try (BulkIngester bulkIngester = operations.bulkIngester(options, SampleEntity.class)) {
+			IntStream.rangeClosed(1, numberOfEntities).forEach(i -> bulkIngester
+					.add(SampleEntity.builder().id(nextIdAsString()).message("message " + i).build()));
+		}
+		operations.indexOps(SampleEntity.class).refresh();
+
+		assertThat(succeeded).hasSize(numberOfEntities);
+		assertThat(succeeded).allSatisfy(query -> {
+			assertThat(query).isInstanceOf(IndexQuery.class);
+			SampleEntity entity = (SampleEntity) ((IndexQuery) query).getObject();
+			assertThat(entity).isNotNull();
+			assertThat(entity.getVersion()).isNotNull();
+		});
+		assertThat(operations.count(operations.matchAllQuery(), SampleEntity.class)).isEqualTo(numberOfEntities);
+	}
+
 	@Test
 	public void shouldDoBulkUpdate() {
 
@@ -1412,6 +1495,79 @@ public abstract class ElasticsearchIntegrationTests {
 		assertThat(count).isEqualTo(10);
 	}
 
+	@Test
+	@DisplayName("should return all results with point in time stream")
+	void shouldReturnAllResultsWithPointInTimeStream() {
+
+		operations.bulkIndex(createSampleEntitiesWithMessage("Test message", 30),
+				IndexCoordinates.of(indexNameProvider.indexName()));
+
+		CriteriaQuery criteriaQuery = new CriteriaQuery(new Criteria());
+		criteriaQuery.setPageable(PageRequest.of(0, 10));
+		criteriaQuery.setStreamType(Query.StreamType.POINT_IN_TIME);
+
+		List<String> ids;
+		try (SearchHitsIterator<SampleEntity> iterator = operations.searchForStream(criteriaQuery, SampleEntity.class,
+				IndexCoordinates.of(indexNameProvider.indexName()))) {
+			ids = StreamUtils.createStreamFromIterator(iterator).map(SearchHit::getId).toList();
+		}
+
+		assertThat(ids).hasSize(30).doesNotHaveDuplicates();
+		assertThat(criteriaQuery.getPointInTime()).isNull();
+		assertThat(criteriaQuery.getSearchAfter()).isNull();
+	}
+
+	@Test
+	@DisplayName("should return all hits page by page with searchAll")
+	void shouldReturnAllHitsPageByPageWithSearchAll() {
+
+		operations.bulkIndex(createSampleEntitiesWithMessage("Test message", 30),
+				IndexCoordinates.of(indexNameProvider.indexName()));
+
+		AbstractElasticsearchTemplate template = (AbstractElasticsearchTemplate) operations;
+		int originalPageSize = template.getSearchAllPageSize();
+		template.setSearchAllPageSize(7);
+
+		CriteriaQuery criteriaQuery = new CriteriaQuery(new Criteria());
+		criteriaQuery.addSort(Sort.by("rate"));
+		Pageable originalPageable = criteriaQuery.getPageable();
+
+		SearchHits<SampleEntity> searchHits;
+		try {
+			searchHits = operations.searchAll(criteriaQuery, SampleEntity.class,
+					IndexCoordinates.of(indexNameProvider.indexName()));
+		} finally {
+			template.setSearchAllPageSize(originalPageSize);
+		}
+
+		assertThat(searchHits.getTotalHits()).isEqualTo(30);
+		assertThat(searchHits.getSearchHits()).hasSize(30);
+		assertThat(searchHits.getSearchHits().stream().map(SearchHit::getId)).doesNotHaveDuplicates();
+		assertThat(criteriaQuery.getPageable()).isSameAs(originalPageable);
+		assertThat(criteriaQuery.getSort()).isEqualTo(Sort.by("rate"));
+		assertThat(criteriaQuery.getPointInTime()).isNull();
+	}
+
+	@Test
+	@DisplayName("should return all results with sliced stream")
+	void shouldReturnAllResultsWithSlicedStream() {
+
+		operations.bulkIndex(createSampleEntitiesWithMessage("Test message", 30),
+				IndexCoordinates.of(indexNameProvider.indexName()));
+
+		CriteriaQuery criteriaQuery = new CriteriaQuery(new Criteria());
+		criteriaQuery.setPageable(PageRequest.of(0, 5));
+
+		try (SearchHitsIterator<SampleEntity> iterator = operations.searchForStream(criteriaQuery, SampleEntity.class,
+				IndexCoordinates.of(indexNameProvider.indexName()), 3)) {
+
+			List<String> ids = StreamUtils.createStreamFromIterator(iterator).map(SearchHit::getId).toList();
+
+			assertThat(ids).hasSize(30).doesNotHaveDuplicates();
+			assertThat(iterator.getTotalHits()).isEqualTo(30);
+		}
+	}
+
 	private static List<IndexQuery> createSampleEntitiesWithMessage(String message, int numberOfEntities) {
 		List<IndexQuery> indexQueries = new ArrayList<>();
 		for (int i = 0; i < numberOfEntities; i++) {
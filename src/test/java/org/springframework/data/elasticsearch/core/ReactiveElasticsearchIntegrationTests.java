@@ -545,6 +545,22 @@ public abstract class ReactiveElasticsearchIntegrationTests {
 				.verifyComplete();
 	}
 
+	@Test
+	@DisplayName("should check if a document matching a query exists")
+	void shouldCheckIfADocumentMatchingAQueryExists() {
+
+		index(randomEntity("test message"), randomEntity("test test"), randomEntity("some message"));
+
+		operations.exists(new CriteriaQuery(new Criteria("message").contains("test")), SampleEntity.class) //
+				.as(StepVerifier::create) //
+				.expectNext(true) //
+				.verifyComplete();
+		operations.exists(new CriteriaQuery(new Criteria("message").contains("other")), SampleEntity.class) //
+				.as(StepVerifier::create) //
+				.expectNext(false) //
+				.verifyComplete();
+	}
+
 	@Test // DATAES-519, DATAES-767
 	public void deleteShouldErrorWhenIndexDoesNotExist() {
 
@@ -1200,6 +1216,29 @@ public abstract class ReactiveElasticsearchIntegrationTests {
 				.verifyComplete();
 	}
 
+	@Test
+	@DisplayName("should save data from a publisher with concurrent bulk requests")
+	void shouldSaveDataFromAPublisherWithConcurrentBulkRequests() {
+
+		var count = 2_345;
+		var entityList = IntStream.rangeClosed(1, count)//
+				.mapToObj(SampleEntity::of) //
+				.collect(Collectors.toList());
+		var options = BulkIngesterOptions.builder() //
+				.withMaxOperations(100) //
+				.withMaxSizeInBytes(4 * 1024) //
+				.withFlushInterval(Duration.ofMillis(100)) //
+				.withMaxConcurrentRequests(4) //
+				.build();
+
+		operations.save(Flux.fromIterable(entityList), SampleEntity.class, options).collectList() //
+				.as(StepVerifier::create) //
+				.consumeNextWith(savedEntities -> {
+					assertThat(savedEntities).containsExactlyInAnyOrderElementsOf(entityList);
+				}) //
+				.verifyComplete();
+	}
+
 	@Test // #2619
 	void shouldFailWithConflictOnAttemptToSaveWithSameVersion() {
 		var entity1 = new VersionedEntity();
@@ -23,8 +23,13 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.util.StreamUtils;
@@ -37,6 +42,8 @@ import org.springframework.data.util.StreamUtils;
  */
 public class StreamQueriesTest {
 
+	private final Executor taskExecutor = AbstractElasticsearchTemplate.defaultTaskExecutor();
+
 	@Test // DATAES-764
 	public void shouldCallClearScrollOnIteratorClose() {
 
@@ -182,7 +189,163 @@ public class StreamQueriesTest {
 		assertThat(count).isEqualTo(2);
 	}
 
-	private SearchScrollHits<String> newSearchScrollHits(List<SearchHit<String>> hits, String scrollId) {
+	@Test
+	@DisplayName("should page with previous page and call close action once")
+	void shouldPageWithPreviousPageAndCallCloseActionOnce() {
+
+		SearchScrollHits<String> searchHits1 = newSearchScrollHits(Arrays.asList(getOneSearchHit(), getOneSearchHit()),
+				null);
+		SearchScrollHits<String> searchHits2 = newSearchScrollHits(Collections.singletonList(getOneSearchHit()), null);
+		SearchScrollHits<String> searchHits3 = newSearchScrollHits(Collections.emptyList(), null);
+		Iterator<SearchScrollHits<String>> nextPages = Arrays.asList(searchHits2, searchHits3).iterator();
+
+		List<SearchHits<String>> previousPages = new ArrayList<>();
+		AtomicInteger closeCount = new AtomicInteger();
+
+		SearchHitsIterator<String> iterator = StreamQueries.streamPages( //
+				0, //
+				searchHits1, //
+				previousPage -> {
+					previousPages.add(previousPage);
+					return nextPages.next();
+				}, //
+				closeCount::incrementAndGet);
+
+		long count = StreamUtils.createStreamFromIterator(iterator).count();
+		iterator.close();
+
+		assertThat(count).isEqualTo(3);
+		assertThat(previousPages).containsExactly(searchHits1, searchHits2);
+		assertThat(closeCount).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("should prefetch next page while the current page is consumed")
+	void shouldPrefetchNextPageWhileTheCurrentPageIsConsumed() throws InterruptedException {
+
+		SearchScrollHits<String> searchHits1 = newSearchScrollHits(Collections.singletonList(getOneSearchHit()), "s-1");
+		SearchScrollHits<String> searchHits2 = newSearchScrollHits(Collections.singletonList(getOneSearchHit()), "s-2");
+		SearchScrollHits<String> searchHits3 = newSearchScrollHits(Collections.emptyList(), "s-2");
+		Iterator<SearchScrollHits<String>> nextPages = Arrays.asList(searchHits2, searchHits3).iterator();
+
+		CountDownLatch secondPageRequested = new CountDownLatch(1);
+		List<String> clearedScrollIds = Collections.synchronizedList(new ArrayList<>());
+
+		SearchHitsIterator<String> iterator = StreamQueries.streamResults( //
+				0, //
+				searchHits1, //
+				scrollId -> {
+					secondPageRequested.countDown();
+					return nextPages.next();
+				}, //
+				clearedScrollIds::addAll, //
+				2, //
+				taskExecutor);
+
+		// the second page is requested before the first one is consumed
+		assertThat(secondPageRequested.await(5, TimeUnit.SECONDS)).isTrue();
+
+		long count = StreamUtils.createStreamFromIterator(iterator).count();
+
+		assertThat(count).isEqualTo(2);
+		assertThat(clearedScrollIds).containsExactly("s-1", "s-2");
+	}
+
+	@Test
+	@DisplayName("should return the hits of all slices")
+	void shouldReturnTheHitsOfAllSlices() {
+
+		List<String> clearedScrollIds = Collections.synchronizedList(new ArrayList<>());
+
+		SearchHitsIterator<String> iterator = StreamQueries.streamSlicedResults( //
+				0, //
+				3, //
+				1, //
+				slice -> newSearchScrollHits(Arrays.asList(getOneSearchHit(), getOneSearchHit()), "slice-" + slice), //
+				scrollId -> scrollId.endsWith("-end") ? newSearchScrollHits(Collections.emptyList(), scrollId)
+						: newSearchScrollHits(Collections.singletonList(getOneSearchHit()), scrollId + "-end"), //
+				clearedScrollIds::addAll, //
+				taskExecutor);
+
+		long count = StreamUtils.createStreamFromIterator(iterator).count();
+
+		assertThat(count).isEqualTo(9);
+		assertThat(iterator.getTotalHits()).isEqualTo(6);
+		assertThat(clearedScrollIds).containsExactlyInAnyOrder("slice-0", "slice-0-end", "slice-1", "slice-1-end",
+				"slice-2", "slice-2-end");
+	}
+
+	@Test
+	@DisplayName("should only return requested count from slices and clear all scroll ids")
+	void shouldOnlyReturnRequestedCountFromSlicesAndClearAllScrollIds() {
+
+		List<String> clearedScrollIds = Collections.synchronizedList(new ArrayList<>());
+
+		SearchHitsIterator<String> iterator = StreamQueries.streamSlicedResults( //
+				5, //
+				2, //
+				2, //
+				slice -> newSearchScrollHits(Arrays.asList(getOneSearchHit(), getOneSearchHit()), "slice-" + slice), //
+				scrollId -> newSearchScrollHits(Arrays.asList(getOneSearchHit(), getOneSearchHit()), scrollId), //
+				clearedScrollIds::addAll, //
+				taskExecutor);
+
+		long count = StreamUtils.createStreamFromIterator(iterator).count();
+
+		assertThat(count).isEqualTo(5);
+		assertThat(clearedScrollIds).containsExactlyInAnyOrder("slice-0", "slice-1");
+	}
+
+	@Test
+	@DisplayName("should clear started slices when a slice cannot be started")
+	void shouldClearStartedSlicesWhenASliceCannotBeStarted() {
+
+		List<String> clearedScrollIds = Collections.synchronizedList(new ArrayList<>());
+
+		assertThatThrownBy(() -> StreamQueries.streamSlicedResults( //
+				0, //
+				2, //
+				1, //
+				slice -> {
+					if (slice == 1) {
+						throw new IllegalStateException("slice failed");
+					}
+					return newSearchScrollHits(Collections.singletonList(getOneSearchHit()), "slice-" + slice);
+				}, //
+				scrollId -> newSearchScrollHits(Collections.emptyList(), scrollId), //
+				clearedScrollIds::addAll, //
+				taskExecutor)).isInstanceOf(IllegalStateException.class);
+
+		assertThat(clearedScrollIds).containsExactly("slice-0");
+	}
+
+	@Test
+	@DisplayName("should read the slices with the given executor")
+	void shouldReadTheSlicesWithTheGivenExecutor() {
+
+		AtomicInteger executedTasks = new AtomicInteger();
+		Executor countingExecutor = runnable -> taskExecutor.execute(() -> {
+			executedTasks.incrementAndGet();
+			runnable.run();
+		});
+
+		SearchHitsIterator<String> iterator = StreamQueries.streamSlicedResults( //
+				0, //
+				2, //
+				1, //
+				slice -> newSearchScrollHits(Collections.singletonList(getOneSearchHit()), "slice-" + slice), //
+				scrollId -> newSearchScrollHits(Collections.emptyList(), scrollId), //
+				scrollIds -> {}, //
+				countingExecutor);
+
+		long count = StreamUtils.createStreamFromIterator(iterator).count();
+
+		assertThat(count).isEqualTo(2);
+		// one task to start and one to read each slice
+		assertThat(executedTasks.get()).isEqualTo(4);
+	}
+
+	private SearchScrollHits<String> newSearchScrollHits(List<SearchHit<String>> hits, @Nullable String scrollId) {
 		return new SearchHitsImpl<>(hits.size(), TotalHitsRelation.EQUAL_TO, 0, Duration.ofMillis(1), scrollId, null, hits,
 				null, null, null);
 	}
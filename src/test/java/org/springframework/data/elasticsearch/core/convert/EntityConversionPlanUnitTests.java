@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.PersistenceCreator;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.ScriptedField;
+import org.springframework.data.elasticsearch.core.convert.EntityConversionPlan.PropertyPlan;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+
+class EntityConversionPlanUnitTests {
+
+	private final SimpleElasticsearchMappingContext mappingContext = new SimpleElasticsearchMappingContext();
+
+	@Test
+	@DisplayName("should not read properties that are set by the constructor")
+	void shouldNotReadPropertiesThatAreSetByTheConstructor() {
+
+		var plan = EntityConversionPlan.of(mappingContext.getRequiredPersistentEntity(PlanEntity.class));
+
+		assertThat(propertyNames(plan.getReadProperties())).containsExactlyInAnyOrder("date", "score");
+	}
+
+	@Test
+	@DisplayName("should not write the id if it is not stored in the source")
+	void shouldNotWriteTheIdIfItIsNotStoredInTheSource() {
+
+		var plan = EntityConversionPlan.of(mappingContext.getRequiredPersistentEntity(PlanEntity.class));
+
+		assertThat(propertyNames(plan.getWriteProperties())).containsExactlyInAnyOrder("name", "date", "score");
+	}
+
+	@Test
+	@DisplayName("should resolve the property information")
+	void shouldResolveThePropertyInformation() {
+
+		var plan = EntityConversionPlan.of(mappingContext.getRequiredPersistentEntity(PlanEntity.class));
+		PropertyPlan date = Arrays.stream(plan.getWriteProperties())
+				.filter(propertyPlan -> propertyPlan.property().getName().equals("date")).findFirst().orElseThrow();
+
+		assertThat(date.propertyValueConverter()).isNotNull();
+		assertThat(date.readsTemporalAccessor()).isTrue();
+		assertThat(date.writesTemporalAccessor()).isTrue();
+		assertThat(date.fieldNameParts()).isNull();
+	}
+
+	@Test
+	@DisplayName("should contain the scripted fields")
+	void shouldContainTheScriptedFields() {
+
+		var plan = EntityConversionPlan.of(mappingContext.getRequiredPersistentEntity(PlanEntity.class));
+
+		assertThat(plan.getScriptedFields()).hasSize(1);
+		assertThat(plan.getScriptedFields()[0].name()).isEqualTo("calculated-score");
+		assertThat(plan.getScriptedFields()[0].collectionLike()).isFalse();
+	}
+
+	private static String[] propertyNames(PropertyPlan[] propertyPlans) {
+		return Arrays.stream(propertyPlans).map(propertyPlan -> propertyPlan.property().getName()).toArray(String[]::new);
+	}
+
+	@Document(indexName = "plan-entity", storeIdInSource = false)
+	static class PlanEntity {
+		@Id
+		@Nullable private String id;
+		@Field(type = FieldType.Text) private final String name;
+		@Field(type = FieldType.Date, format = DateFormat.basic_date) @Nullable private LocalDate date;
+		@ScriptedField(name = "calculated-score") @Nullable private Double score;
+
+		@PersistenceCreator
+		PlanEntity(@Nullable String id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
+
+class AdaptiveBulkSizingTests {
+
+	private final AdaptiveBulkSizing sizing = AdaptiveBulkSizing.builder() //
+			.withMinBatchSize(10) //
+			.withMaxBatchSize(1000) //
+			.withInitialBatchSize(100) //
+			.withAdditiveIncrease(50) //
+			.withMultiplicativeDecrease(0.5) //
+			.withTargetLatency(Duration.ofMillis(500)) //
+			.build();
+
+	@Test
+	@DisplayName("should increase batch size when latency is below target")
+	void shouldIncreaseBatchSizeWhenLatencyIsBelowTarget() {
+
+		sizing.onSuccess(100, Duration.ofMillis(200));
+
+		assertThat(sizing.getCurrentBatchSize()).isEqualTo(150);
+		assertThat(sizing.getThroughput()).isEqualTo(500.0);
+	}
+
+	@Test
+	@DisplayName("should not increase batch size for a smaller remainder batch")
+	void shouldNotIncreaseBatchSizeForASmallerRemainderBatch() {
+
+		sizing.onSuccess(20, Duration.ofMillis(200));
+
+		assertThat(sizing.getCurrentBatchSize()).isEqualTo(100);
+	}
+
+	@Test
+	@DisplayName("should not grow above the maximum")
+	void shouldNotGrowAboveTheMaximum() {
+
+		for (int i = 0; i < 100; i++) {
+			sizing.onSuccess(sizing.getCurrentBatchSize(), Duration.ofMillis(10));
+		}
+
+		assertThat(sizing.getCurrentBatchSize()).isEqualTo(1000);
+	}
+
+	@Test
+	@DisplayName("should decrease batch size when latency is above target")
+	void shouldDecreaseBatchSizeWhenLatencyIsAboveTarget() {
+
+		sizing.onSuccess(100, Duration.ofSeconds(1));
+
+		assertThat(sizing.getCurrentBatchSize()).isEqualTo(50);
+	}
+
+	@Test
+	@DisplayName("should decrease batch size on rejected items")
+	void shouldDecreaseBatchSizeOnRejectedItems() {
+
+		sizing.onFailure(new BulkFailureException("failed",
+				Map.of("42", new BulkFailureException.FailureDetails(429, "rejected execution"))));
+
+		assertThat(sizing.getCurrentBatchSize()).isEqualTo(50);
+	}
+
+	@Test
+	@DisplayName("should not decrease batch size on other failures")
+	void shouldNotDecreaseBatchSizeOnOtherFailures() {
+
+		sizing.onFailure(new BulkFailureException("failed",
+				Map.of("42", new BulkFailureException.FailureDetails(400, "mapper parsing exception"))));
+		sizing.onFailure(new UncategorizedElasticsearchException("failed", 400, null, null));
+
+		assertThat(sizing.getCurrentBatchSize()).isEqualTo(100);
+	}
+
+	@Test
+	@DisplayName("should not shrink below the minimum")
+	void shouldNotShrinkBelowTheMinimum() {
+
+		for (int i = 0; i < 10; i++) {
+			sizing.onOverload();
+		}
+
+		assertThat(sizing.getCurrentBatchSize()).isEqualTo(10);
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BulkOptionsRetryPolicyTests {
+
+	@Test
+	@DisplayName("should retry rejected items")
+	void shouldRetryRejectedItems() {
+
+		var retryPolicy = BulkOptions.RetryPolicy.exponentialBackoff(3, Duration.ofMillis(50), Duration.ofSeconds(1));
+
+		assertThat(retryPolicy.isRetryable(429, null)).isTrue();
+		assertThat(retryPolicy.isRetryable(500, "es_rejected_execution_exception")).isTrue();
+		assertThat(retryPolicy.isRetryable(400, "mapper_parsing_exception")).isFalse();
+		assertThat(retryPolicy.isRetryable(409, "version_conflict_engine_exception")).isFalse();
+	}
+
+	@Test
+	@DisplayName("should retry version conflicts when configured")
+	void shouldRetryVersionConflictsWhenConfigured() {
+
+		var retryPolicy = new BulkOptions.RetryPolicy(3, Duration.ofMillis(50), Duration.ofSeconds(1), true);
+
+		assertThat(retryPolicy.isRetryable(409, "version_conflict_engine_exception")).isTrue();
+	}
+
+	@Test
+	@DisplayName("should grow backoff exponentially up to the maximum")
+	void shouldGrowBackoffExponentiallyUpToTheMaximum() {
+
+		var retryPolicy = BulkOptions.RetryPolicy.exponentialBackoff(100, Duration.ofMillis(100), Duration.ofSeconds(1));
+
+		assertThat(retryPolicy.backoff(0)).isBetween(Duration.ofMillis(50), Duration.ofMillis(100));
+		assertThat(retryPolicy.backoff(1)).isBetween(Duration.ofMillis(100), Duration.ofMillis(200));
+		assertThat(retryPolicy.backoff(2)).isBetween(Duration.ofMillis(200), Duration.ofMillis(400));
+		assertThat(retryPolicy.backoff(10)).isBetween(Duration.ofMillis(500), Duration.ofSeconds(1));
+		assertThat(retryPolicy.backoff(99)).isBetween(Duration.ofMillis(500), Duration.ofSeconds(1));
+	}
+
+	@Test
+	@DisplayName("should not accept negative number of retries")
+	void shouldNotAcceptNegativeNumberOfRetries() {
+		assertThatThrownBy(() -> BulkOptions.RetryPolicy.exponentialBackoff(-1, Duration.ZERO, Duration.ZERO))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
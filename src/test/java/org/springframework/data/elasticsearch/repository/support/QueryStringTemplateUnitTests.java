@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QueryStringTemplateUnitTests {
+
+	@Test
+	@DisplayName("should replace the placeholders with the parameter values")
+	void shouldReplaceThePlaceholdersWithTheParameterValues() {
+
+		var template = QueryStringTemplate.parse("name:(?0, ?11, ?1, ?0)");
+
+		var query = template.bind(index -> "p" + index);
+
+		assertThat(query).isEqualTo("name:(p0, p11, p1, p0)");
+	}
+
+	@Test
+	@DisplayName("should not replace placeholders contained in parameter values")
+	void shouldNotReplacePlaceholdersContainedInParameterValues() {
+
+		var template = QueryStringTemplate.parse("?0 ?1");
+
+		var query = template.bind(index -> index == 0 ? "?1" : "one");
+
+		assertThat(query).isEqualTo("?1 one");
+	}
+
+	@Test
+	@DisplayName("should return a query string without placeholders as it is")
+	void shouldReturnAQueryStringWithoutPlaceholdersAsItIs() {
+
+		var queryString = "{\"regexp\": {\"name\": \"a\\\\.b?\"}}";
+		var template = QueryStringTemplate.parse(queryString);
+
+		assertThat(template.hasPlaceholders()).isFalse();
+		assertThat(template.bind(index -> {
+			throw new IllegalStateException("no parameter expected");
+		})).isSameAs(queryString);
+	}
+
+	@Test
+	@DisplayName("should escape backslashes that are not followed by a quote")
+	void shouldEscapeBackslashesThatAreNotFollowedByAQuote() {
+
+		var template = QueryStringTemplate.parse("{\"name\": \"?0\", \"other\": \"?1\"}");
+
+		var query = template.bind(index -> index == 0 ? "a\\b\\\"c" : "d\\\\e");
+
+		assertThat(query).isEqualTo("{\"name\": \"a\\\\b\\\"c\", \"other\": \"d\\\\\\e\"}");
+	}
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Routing;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.IndexedObjectInformation;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
+import org.springframework.data.elasticsearch.core.query.DeleteByIdQuery;
+import org.springframework.data.elasticsearch.core.query.DeleteQuery;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+@ExtendWith(MockitoExtension.class)
+class SimpleElasticsearchRepositoryUnitTests {
+
+	private static final IndexCoordinates INDEX = IndexCoordinates.of("foo");
+
+	@Mock private ElasticsearchOperations operations;
+	@Mock private ElasticsearchOperations refreshingOperations;
+	@Mock private IndexOperations indexOperations;
+	@Mock private SearchHits<SampleEntity> searchHits;
+	@Mock private SearchHits<RoutedEntity> routedSearchHits;
+
+	private SimpleElasticsearchMappingContext mappingContext;
+	private SimpleElasticsearchRepository<SampleEntity, String> repository;
+
+	@BeforeEach
+	void setUp() {
+
+		mappingContext = new SimpleElasticsearchMappingContext();
+		MappingElasticsearchConverter converter = new MappingElasticsearchConverter(mappingContext);
+		converter.afterPropertiesSet();
+
+		doReturn(converter).when(operations).getElasticsearchConverter();
+		lenient().doAnswer(invocation -> invocation.getArgument(0)).when(operations).convertId(any());
+
+		repository = repository(SampleEntity.class);
+	}
+
+	@Test
+	@DisplayName("should search the documents of findAllById if the index coordinates are a wildcard pattern")
+	void shouldSearchTheDocumentsOfFindAllByIdIfTheIndexCoordinatesAreAWildcardPattern() {
+
+		IndexCoordinates index = IndexCoordinates.of("foo-*");
+		Query idsQuery = Query.findAll();
+		doReturn(index).when(operations).getIndexCoordinatesFor(SampleEntity.class);
+		doReturn(idsQuery).when(operations).idsQuery(List.of("1", "2"));
+		doReturn(searchHits).when(operations).search(idsQuery, SampleEntity.class, index);
+		doReturn(List.of(searchHit("1"), searchHit("2"))).when(searchHits).getSearchHits();
+
+		Iterable<SampleEntity> entities = repository.findAllById(List.of("1", "2", "1"));
+
+		assertThat(entities).extracting(SampleEntity::getId).containsExactly("1", "2");
+		verify(operations, never()).multiGet(any(Query.class), eq(SampleEntity.class), any(IndexCoordinates.class));
+	}
+
+	@Test
+	@DisplayName("should search the documents of findAllById if the multi get items failed")
+	void shouldSearchTheDocumentsOfFindAllByIdIfTheMultiGetItemsFailed() {
+
+		IndexCoordinates index = IndexCoordinates.of("foo-alias");
+		Query idsQuery = Query.findAll();
+		doReturn(index).when(operations).getIndexCoordinatesFor(SampleEntity.class);
+		doReturn(List.of(failedItem("1"), failedItem("2"))).when(operations).multiGet(any(Query.class),
+				eq(SampleEntity.class), eq(index));
+		doReturn(idsQuery).when(operations).idsQuery(List.of("1", "2"));
+		doReturn(searchHits).when(operations).search(idsQuery, SampleEntity.class, index);
+		doReturn(List.of(searchHit("1"), searchHit("2"))).when(searchHits).getSearchHits();
+
+		Iterable<SampleEntity> entities = repository.findAllById(List.of("1", "2"));
+
+		assertThat(entities).extracting(SampleEntity::getId).containsExactly("1", "2");
+	}
+
+	@Test
+	@DisplayName("should search the documents of findAllById if the entity is indexed with a routing")
+	void shouldSearchTheDocumentsOfFindAllByIdIfTheEntityIsIndexedWithARouting() {
+
+		SimpleElasticsearchRepository<RoutedEntity, String> routedRepository = repository(RoutedEntity.class);
+		Query idsQuery = Query.findAll();
+		doReturn(INDEX).when(operations).getIndexCoordinatesFor(RoutedEntity.class);
+		doReturn(idsQuery).when(operations).idsQuery(List.of("1"));
+		doReturn(routedSearchHits).when(operations).search(idsQuery, RoutedEntity.class, INDEX);
+		RoutedEntity entity = new RoutedEntity();
+		entity.id = "1";
+		entity.routing = "route-1";
+		doReturn(List.of(new SearchHit<>("foo", "1", "route-1", 1.0f, null, null, null, null, null, null, entity)))
+				.when(routedSearchHits).getSearchHits();
+
+		Iterable<RoutedEntity> entities = routedRepository.findAllById(List.of("1"));
+
+		assertThat(entities).containsExactly(entity);
+		verify(operations, never()).multiGet(any(Query.class), eq(RoutedEntity.class), any(IndexCoordinates.class));
+	}
+
+	@Test
+	@DisplayName("should search the ids of findAllById that were not found by the multi get request")
+	void shouldSearchTheIdsOfFindAllByIdThatWereNotFoundByTheMultiGetRequest() {
+
+		Query idsQuery = Query.findAll();
+		doReturn(INDEX).when(operations).getIndexCoordinatesFor(SampleEntity.class);
+		doReturn(List.of(MultiGetItem.of(searchHit("1").getContent(), null), MultiGetItem.of(null, null),
+				MultiGetItem.of(searchHit("3").getContent(), null))).when(operations).multiGet(any(Query.class),
+						eq(SampleEntity.class), eq(INDEX));
+		doReturn(idsQuery).when(operations).idsQuery(List.of("2"));
+		doReturn(searchHits).when(operations).search(idsQuery, SampleEntity.class, INDEX);
+		doReturn(List.of(searchHit("2"))).when(searchHits).getSearchHits();
+
+		Iterable<SampleEntity> entities = repository.findAllById(List.of("1", "2", "3"));
+
+		assertThat(entities).extracting(SampleEntity::getId).containsExactly("1", "2", "3");
+	}
+
+	@Test
+	@DisplayName("should delete more than 1000 ids in bulk requests that are all sent with the refresh policy")
+	void shouldDeleteMoreThan1000IdsInBulkRequestsThatAreAllSentWithTheRefreshPolicy() {
+
+		doReturn(INDEX).when(operations).getIndexCoordinatesFor(SampleEntity.class);
+		doReturn(refreshingOperations).when(operations).withRefreshPolicy(RefreshPolicy.WAIT_UNTIL);
+
+		repository.deleteAllById(ids(2_500), RefreshPolicy.WAIT_UNTIL);
+
+		ArgumentCaptor<List<DeleteByIdQuery>> queries = captor();
+		ArgumentCaptor<BulkOptions> bulkOptions = ArgumentCaptor.forClass(BulkOptions.class);
+		verify(refreshingOperations, times(3)).bulkDelete(queries.capture(), bulkOptions.capture(), eq(INDEX));
+		assertThat(queries.getAllValues()).extracting(List::size).containsExactly(1_000, 1_000, 500);
+		assertThat(queries.getAllValues().get(2).get(499).getId()).isEqualTo("2499");
+		assertThat(bulkOptions.getAllValues()).extracting(BulkOptions::getRefreshPolicy).containsOnlyNulls();
+		verify(indexOperations, never()).refresh();
+	}
+
+	@Test
+	@DisplayName("should refresh the index once after deleting more than 1000 ids without a refresh policy")
+	void shouldRefreshTheIndexOnceAfterDeletingMoreThan1000IdsWithoutARefreshPolicy() {
+
+		doReturn(INDEX).when(operations).getIndexCoordinatesFor(SampleEntity.class);
+
+		repository.deleteAllById(ids(1_001));
+
+		InOrder inOrder = inOrder(operations, indexOperations);
+		inOrder.verify(operations, times(2)).bulkDelete(anyList(), any(BulkOptions.class), eq(INDEX));
+		inOrder.verify(indexOperations).refresh();
+	}
+
+	@Test
+	@DisplayName("should delete the ids with a delete by query if the index coordinates are a wildcard pattern")
+	void shouldDeleteTheIdsWithADeleteByQueryIfTheIndexCoordinatesAreAWildcardPattern() {
+
+		IndexCoordinates index = IndexCoordinates.of("foo-*");
+		Query idsQuery = Query.findAll();
+		doReturn(index).when(operations).getIndexCoordinatesFor(SampleEntity.class);
+		doReturn(idsQuery).when(operations).idsQuery(List.of("0", "1"));
+
+		repository.deleteAllById(ids(2));
+
+		verify(operations).delete(argThat((DeleteQuery deleteQuery) -> deleteQuery.getQuery() == idsQuery),
+				eq(SampleEntity.class), eq(index));
+		verify(operations, never()).bulkDelete(anyList(), any(BulkOptions.class), any(IndexCoordinates.class));
+	}
+
+	@Test
+	@DisplayName("should delete the remaining ids with a delete by query if the alias has no write index")
+	void shouldDeleteTheRemainingIdsWithADeleteByQueryIfTheAliasHasNoWriteIndex() {
+
+		Query idsQuery = Query.findAll();
+		doReturn(INDEX).when(operations).getIndexCoordinatesFor(SampleEntity.class);
+		BulkFailureException.FailureDetails noWriteIndex = new BulkFailureException.FailureDetails(400,
+				"no write index is defined for alias [foo]. The write index may be explicitly disabled using "
+						+ "is_write_index=false or the alias points to multiple indices without one being designated as a "
+						+ "write index");
+		doThrow(new BulkFailureException("no write index", Map.of("0", noWriteIndex))).when(operations)
+				.bulkDelete(anyList(), any(BulkOptions.class), eq(INDEX));
+		doReturn(idsQuery).when(operations).idsQuery(argThat(ids -> ids.size() == 1_001));
+
+		repository.deleteAllById(ids(1_001));
+
+		verify(operations, times(1)).bulkDelete(anyList(), any(BulkOptions.class), eq(INDEX));
+		verify(operations).delete(argThat((DeleteQuery deleteQuery) -> deleteQuery.getQuery() == idsQuery),
+				eq(SampleEntity.class), eq(INDEX));
+	}
+
+	@Test
+	@DisplayName("should rethrow other bulk failures without deleting by query")
+	void shouldRethrowOtherBulkFailuresWithoutDeletingByQuery() {
+
+		doReturn(INDEX).when(operations).getIndexCoordinatesFor(SampleEntity.class);
+		BulkFailureException rejected = new BulkFailureException("rejected",
+				Map.of("0", new BulkFailureException.FailureDetails(429, "rejected execution of coordinating operation")));
+		doThrow(rejected).when(operations).bulkDelete(anyList(), any(BulkOptions.class), eq(INDEX));
+
+		assertThatThrownBy(() -> repository.deleteAllById(ids(2))).isSameAs(rejected);
+
+		verify(operations, never()).delete(any(DeleteQuery.class), any(), any(IndexCoordinates.class));
+	}
+
+	@Test
+	@DisplayName("should delete the ids that the bulk request did not find with a delete by query")
+	void shouldDeleteTheIdsThatTheBulkRequestDidNotFindWithADeleteByQuery() {
+
+		Query idsQuery = Query.findAll();
+		doReturn(INDEX).when(operations).getIndexCoordinatesFor(SampleEntity.class);
+		doReturn(List.of(new IndexedObjectInformation("0", "foo", 1L, 1L, 2L, "deleted"),
+				new IndexedObjectInformation("1", "foo", 2L, 1L, 1L, IndexedObjectInformation.RESULT_NOT_FOUND)))
+				.when(operations).bulkDelete(anyList(), any(BulkOptions.class), eq(INDEX));
+		doReturn(idsQuery).when(operations).idsQuery(List.of("1"));
+
+		repository.deleteAllById(ids(2));
+
+		verify(operations).delete(argThat((DeleteQuery deleteQuery) -> deleteQuery.getQuery() == idsQuery),
+				eq(SampleEntity.class), eq(INDEX));
+	}
+
+	@Test
+	@DisplayName("should delete the ids of an entity indexed with a routing with a delete by query")
+	void shouldDeleteTheIdsOfAnEntityIndexedWithARoutingWithADeleteByQuery() {
+
+		SimpleElasticsearchRepository<RoutedEntity, String> routedRepository = repository(RoutedEntity.class);
+		Query idsQuery = Query.findAll();
+		doReturn(INDEX).when(operations).getIndexCoordinatesFor(RoutedEntity.class);
+		doReturn(idsQuery).when(operations).idsQuery(List.of("0", "1"));
+
+		routedRepository.deleteAllById(ids(2));
+
+		verify(operations).delete(argThat((DeleteQuery deleteQuery) -> deleteQuery.getQuery() == idsQuery),
+				eq(RoutedEntity.class), eq(INDEX));
+		verify(operations, never()).bulkDelete(anyList(), any(BulkOptions.class), any(IndexCoordinates.class));
+	}
+
+	private static List<String> ids(int count) {
+		return IntStream.range(0, count).mapToObj(String::valueOf).toList();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ArgumentCaptor<List<DeleteByIdQuery>> captor() {
+		return ArgumentCaptor.forClass(List.class);
+	}
+
+	private static SearchHit<SampleEntity> searchHit(String id) {
+
+		SampleEntity entity = new SampleEntity();
+		entity.id = id;
+		return new SearchHit<>("foo", id, null, 1.0f, null, null, null, null, null, null, entity);
+	}
+
+	private static MultiGetItem<SampleEntity> failedItem(String id) {
+		return MultiGetItem.of(null, MultiGetItem.Failure.of("foo-alias", null, id, null, null));
+	}
+
+	@Document(indexName = "foo", createIndex = false)
+	static class SampleEntity {
+		@Nullable
+		@Id private String id;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+	}
+
+	@Document(indexName = "foo", createIndex = false)
+	@Routing("routing")
+	static class RoutedEntity {
+		@Nullable
+		@Id private String id;
+		@Nullable private String routing;
+	}
+}